@@ -0,0 +1,70 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.autoconfigure;
+
+import com.childrengreens.web.context.response.ApiResponseFactory;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.event.SmartApplicationListener;
+import org.springframework.core.env.Environment;
+
+/**
+ * Refreshes the {@link ApiResponseFactory} snapshot when the environment changes at
+ * runtime. The event is matched by name so that Spring Cloud Context remains an
+ * optional dependency.
+ * <p>
+ * Spring Cloud's {@code ConfigurationPropertiesRebinder} handles the same event
+ * without declaring an order, so it shares {@link #LOWEST_PRECEDENCE} with this
+ * listener and either may run first. Rather than depend on that tie, the listener
+ * re-binds {@code web.starter.response} onto {@link WebStarterProperties} itself
+ * before taking the snapshot. Binding the same values twice is harmless.
+ */
+class ApiResponseFactoryRefreshListener implements SmartApplicationListener {
+
+    static final String ENVIRONMENT_CHANGE_EVENT = "org.springframework.cloud.context.environment.EnvironmentChangeEvent";
+
+    private static final String RESPONSE_PREFIX = "web.starter.response";
+
+    private final ApiResponseFactory responseFactory;
+
+    private final WebStarterProperties properties;
+
+    private final Environment environment;
+
+    ApiResponseFactoryRefreshListener(ApiResponseFactory responseFactory, WebStarterProperties properties,
+            Environment environment) {
+        this.responseFactory = responseFactory;
+        this.properties = properties;
+        this.environment = environment;
+    }
+
+    @Override
+    public boolean supportsEventType(Class<? extends ApplicationEvent> eventType) {
+        return ENVIRONMENT_CHANGE_EVENT.equals(eventType.getName());
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationEvent event) {
+        Binder.get(this.environment).bind(RESPONSE_PREFIX, Bindable.ofInstance(this.properties.getResponse()));
+        this.responseFactory.refresh();
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE;
+    }
+}
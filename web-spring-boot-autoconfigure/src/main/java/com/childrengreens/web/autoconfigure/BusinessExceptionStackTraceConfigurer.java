@@ -0,0 +1,47 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.autoconfigure;
+
+import com.childrengreens.web.context.exception.BusinessException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+/**
+ * Applies the configured {@link BusinessException} stack trace switch while the
+ * application context is running and restores the previous value when it is closed,
+ * so the JVM-wide default does not leak into contexts started later in the same JVM.
+ */
+class BusinessExceptionStackTraceConfigurer implements InitializingBean, DisposableBean {
+
+    private final boolean stackTraceEnabled;
+
+    private boolean previous;
+
+    BusinessExceptionStackTraceConfigurer(boolean stackTraceEnabled) {
+        this.stackTraceEnabled = stackTraceEnabled;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        this.previous = BusinessException.isStackTraceEnabled();
+        BusinessException.setStackTraceEnabled(this.stackTraceEnabled);
+    }
+
+    @Override
+    public void destroy() {
+        BusinessException.setStackTraceEnabled(this.previous);
+    }
+}
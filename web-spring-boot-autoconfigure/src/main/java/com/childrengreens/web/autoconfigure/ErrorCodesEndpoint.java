@@ -0,0 +1,69 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.autoconfigure;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.childrengreens.web.context.exception.ErrorCode;
+import com.childrengreens.web.context.exception.ErrorCodeRegistry;
+import com.childrengreens.web.context.exception.ErrorStatusMapping;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Actuator endpoint listing the registered error codes together with their default
+ * message and the HTTP status reported for them.
+ */
+@Endpoint(id = "errorcodes")
+public class ErrorCodesEndpoint {
+
+    private final ErrorCodeRegistry errorCodeRegistry;
+
+    private final ErrorStatusMapping errorStatusMapping;
+
+    public ErrorCodesEndpoint(ErrorCodeRegistry errorCodeRegistry, ErrorStatusMapping errorStatusMapping) {
+        this.errorCodeRegistry = errorCodeRegistry;
+        this.errorStatusMapping = errorStatusMapping;
+    }
+
+    @ReadOperation
+    public Map<String, ErrorCodeDescriptor> errorCodes() {
+        Map<String, ErrorCodeDescriptor> descriptors = new TreeMap<>();
+        for (ErrorCode errorCode : this.errorCodeRegistry.getErrorCodes()) {
+            descriptors.put(errorCode.getCode(),
+                    new ErrorCodeDescriptor(errorCode.getMessage(), this.errorStatusMapping.resolve(errorCode)));
+        }
+        this.errorStatusMapping.getStatuses()
+            .forEach((code, status) -> descriptors.putIfAbsent(code, new ErrorCodeDescriptor(null, status)));
+        return descriptors;
+    }
+
+    /**
+     * Description of a single error code.
+     *
+     * @param message default message, {@code null} for codes only known from status overrides
+     * @param status HTTP status code
+     * @param reason HTTP reason phrase
+     */
+    public record ErrorCodeDescriptor(String message, int status, String reason) {
+
+        ErrorCodeDescriptor(String message, HttpStatus status) {
+            this(message, status.value(), status.getReasonPhrase());
+        }
+    }
+}
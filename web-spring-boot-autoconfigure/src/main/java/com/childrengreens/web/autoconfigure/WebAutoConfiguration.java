@@ -15,42 +15,100 @@
  */
 package com.childrengreens.web.autoconfigure;
 
+import com.childrengreens.web.context.advice.DataEtagGenerator;
+import com.childrengreens.web.context.advice.ProblemDetailResponseAdvice;
 import com.childrengreens.web.context.advice.ResponseWrappingAdvice;
+import com.childrengreens.web.context.compression.DeflaterPool;
+import com.childrengreens.web.context.compression.ResponseCompressionFilter;
+import com.childrengreens.web.context.auth.AsyncLoginRequirementEvaluator;
+import com.childrengreens.web.context.auth.AsyncLoginRequirementEvaluatorAdapter;
+import com.childrengreens.web.context.auth.CachingLoginRequirementEvaluator;
 import com.childrengreens.web.context.auth.LoginRequiredInterceptor;
 import com.childrengreens.web.context.auth.LoginRequirementEvaluator;
+import com.childrengreens.web.context.auth.PathPatternIndex;
+import com.childrengreens.web.context.auth.RateLimit;
+import com.childrengreens.web.context.auth.RateLimitKeyResolver;
+import com.childrengreens.web.context.auth.ScopeRegistry;
+import com.childrengreens.web.context.auth.TokenBucketRateLimiter;
+import com.childrengreens.web.context.auth.jwt.JwtKey;
+import com.childrengreens.web.context.auth.jwt.JwtKeySet;
+import com.childrengreens.web.context.auth.jwt.JwtLoginRequirementEvaluator;
+import com.childrengreens.web.context.auth.jwt.JwtVerifier;
+import com.childrengreens.web.context.auth.jwt.RefreshingJwkSetSupplier;
+import com.childrengreens.web.context.concurrency.AimdConcurrencyLimiter;
+import com.childrengreens.web.context.concurrency.ConcurrencyLimitFilter;
+import com.childrengreens.web.context.exception.ErrorCodeProvider;
+import com.childrengreens.web.context.exception.ErrorCodeRegistry;
+import com.childrengreens.web.context.exception.ErrorStatusMapping;
+import com.childrengreens.web.context.exception.ExceptionClassifier;
+import com.childrengreens.web.context.exception.ExceptionLogLimiter;
 import com.childrengreens.web.context.exception.GlobalExceptionHandler;
+import com.childrengreens.web.context.exception.LocalizedErrorMessages;
+import com.childrengreens.web.context.exception.ServiceUnavailableException;
+import com.childrengreens.web.context.exception.ValidationErrorCollector;
+import com.childrengreens.web.context.i18n.CachingAcceptHeaderLocaleResolver;
+import com.childrengreens.web.context.i18n.CachingMessageResolver;
 import com.childrengreens.web.context.i18n.MessageResolver;
 import com.childrengreens.web.context.i18n.MessageResolverImpl;
 import com.childrengreens.web.context.logging.RequestLoggingFilter;
+import com.childrengreens.web.context.protobuf.ApiResponseProtobufHttpMessageConverter;
 import com.childrengreens.web.context.response.ApiResponseFactory;
 import com.childrengreens.web.context.trace.TraceIdFilter;
 import com.childrengreens.web.context.trace.TraceIdGenerator;
 import com.childrengreens.web.context.trace.UuidsTraceIdGenerator;
+import com.google.protobuf.Message;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import jakarta.servlet.DispatcherType;
 import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.*;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.http.converter.autoconfigure.ServerHttpMessageConvertersCustomizer;
+import org.springframework.boot.jackson.autoconfigure.CborMapperBuilderCustomizer;
 import org.springframework.boot.jackson.autoconfigure.JsonMapperBuilderCustomizer;
+import org.springframework.boot.validation.autoconfigure.ValidationConfigurationCustomizer;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.context.support.AbstractApplicationContext;
 import org.springframework.context.support.ReloadableResourceBundleMessageSource;
 import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.util.StringUtils;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import org.springframework.http.converter.smile.JacksonSmileHttpMessageConverter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
 import org.springframework.web.servlet.LocaleResolver;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.web.servlet.i18n.AcceptHeaderLocaleResolver;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 import tools.jackson.databind.cfg.DateTimeFeature;
+import tools.jackson.databind.cfg.MapperBuilder;
 import tools.jackson.databind.json.JsonMapper;
 import tools.jackson.databind.module.SimpleModule;
 import tools.jackson.databind.ser.std.ToStringSerializer;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
 
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
 import java.text.SimpleDateFormat;
+import java.util.List;
+import java.util.Map;
 import java.util.TimeZone;
+import java.util.function.Supplier;
 
 
 /**
@@ -63,6 +121,12 @@ import java.util.TimeZone;
 @ImportRuntimeHints(WebRuntimeHints.class)
 public class WebAutoConfiguration {
 
+    /**
+     * Order of Spring Boot's {@code OrderedRequestContextFilter}, which exposes the
+     * request locale and attributes to filters ordered after it.
+     */
+    private static final int REQUEST_CONTEXT_FILTER_ORDER = -105;
+
     @Bean
     @ConditionalOnMissingBean
     public ApiResponseFactory apiResponseFactory(WebStarterProperties properties) {
@@ -71,17 +135,69 @@ public class WebAutoConfiguration {
                 response::getDefaultErrorCode, response::getDefaultErrorMessage);
     }
 
+    @Bean
+    @ConditionalOnClass(name = ApiResponseFactoryRefreshListener.ENVIRONMENT_CHANGE_EVENT)
+    ApiResponseFactoryRefreshListener apiResponseFactoryRefreshListener(ApiResponseFactory responseFactory,
+            WebStarterProperties properties, Environment environment) {
+        return new ApiResponseFactoryRefreshListener(responseFactory, properties, environment);
+    }
+
+    @Bean
+    BusinessExceptionStackTraceConfigurer businessExceptionStackTraceConfigurer(WebStarterProperties properties) {
+        return new BusinessExceptionStackTraceConfigurer(properties.getException().isStackTraceEnabled());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ExceptionClassifier exceptionClassifier() {
+        return new ExceptionClassifier();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public GlobalExceptionHandler globalExceptionHandler(ApiResponseFactory responseFactory,
+            ErrorStatusMapping errorStatusMapping, ObjectProvider<MessageResolver> messageResolver,
+            ExceptionClassifier exceptionClassifier, ObjectProvider<LocalizedErrorMessages> localizedErrorMessages,
+            WebStarterProperties properties) {
+        WebStarterProperties.ExceptionHandling exception = properties.getException();
+        ExceptionLogLimiter logLimiter = exception.isLogLimitEnabled()
+                ? new ExceptionLogLimiter(exception.getLogLimitWindow(), exception.getLogLimitMaxFingerprints()) : null;
+        ValidationErrorCollector validationErrorCollector = new ValidationErrorCollector(
+                exception.getMaxValidationErrors(), messageResolver.getIfAvailable());
+        return new GlobalExceptionHandler(responseFactory, logLimiter, errorStatusMapping, validationErrorCollector,
+                exceptionClassifier, localizedErrorMessages.getIfAvailable());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "web.starter.exception", name = "problem-detail-mode")
+    @ConditionalOnMissingBean
+    public ProblemDetailResponseAdvice problemDetailResponseAdvice(ErrorCodeRegistry errorCodeRegistry,
+            WebStarterProperties properties) {
+        WebStarterProperties.ExceptionHandling exception = properties.getException();
+        return new ProblemDetailResponseAdvice(exception.getProblemDetailMode(), errorCodeRegistry,
+                exception.getProblemTypeBase());
+    }
+
     @Bean
     @ConditionalOnMissingBean
-    public GlobalExceptionHandler globalExceptionHandler(ApiResponseFactory responseFactory) {
-        return new GlobalExceptionHandler(responseFactory);
+    public ErrorCodeRegistry errorCodeRegistry(ObjectProvider<ErrorCodeProvider> errorCodeProviders) {
+        return ErrorCodeRegistry.fromProviders(errorCodeProviders.orderedStream().toList());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ErrorStatusMapping errorStatusMapping(ErrorCodeRegistry errorCodeRegistry, WebStarterProperties properties) {
+        return ErrorStatusMapping.of(errorCodeRegistry.getErrorCodes(), properties.getException().getStatusMappings());
     }
 
     @Bean
     @ConditionalOnProperty(prefix = "web.starter.response", name = "enabled", havingValue = "true", matchIfMissing = true)
     public ResponseWrappingAdvice responseWrappingAdvice(ApiResponseFactory responseFactory,
-            WebStarterProperties properties) {
-        return new ResponseWrappingAdvice(responseFactory, properties.getResponse().isWrapOnNullBody());
+            WebStarterProperties properties, ObjectProvider<JsonMapper> jsonMapper) {
+        WebStarterProperties.Response response = properties.getResponse();
+        DataEtagGenerator etagGenerator = response.isEtagEnabled()
+                ? new DataEtagGenerator(jsonMapper.getIfAvailable(JsonMapper::shared)) : null;
+        return new ResponseWrappingAdvice(responseFactory, response.isWrapOnNullBody(), etagGenerator);
     }
 
     @Bean
@@ -144,8 +260,11 @@ public class WebAutoConfiguration {
     @ConditionalOnProperty(prefix = "web.starter.i18n", name = "enabled", havingValue = "true", matchIfMissing = true)
     @ConditionalOnMissingBean(LocaleResolver.class)
     public LocaleResolver webStarterLocaleResolver(WebStarterProperties properties) {
-        AcceptHeaderLocaleResolver resolver = new AcceptHeaderLocaleResolver();
-        resolver.setDefaultLocale(properties.getI18n().getDefaultLocale());
+        WebStarterProperties.I18n i18n = properties.getI18n();
+        AcceptHeaderLocaleResolver resolver = (i18n.getLocaleCacheSize() > 0)
+                ? new CachingAcceptHeaderLocaleResolver(i18n.getLocaleCacheSize()) : new AcceptHeaderLocaleResolver();
+        resolver.setDefaultLocale(i18n.getDefaultLocale());
+        resolver.setSupportedLocales(i18n.getSupportedLocales());
         return resolver;
     }
 
@@ -153,37 +272,135 @@ public class WebAutoConfiguration {
     @ConditionalOnProperty(prefix = "web.starter.i18n", name = "enabled", havingValue = "true", matchIfMissing = true)
     @ConditionalOnBean(MessageSource.class)
     @ConditionalOnMissingBean(MessageResolver.class)
-    public MessageResolver messageResolver(MessageSource messageSource) {
+    public MessageResolver messageResolver(MessageSource messageSource, WebStarterProperties properties) {
+        WebStarterProperties.I18n i18n = properties.getI18n();
+        if (i18n.isCacheTemplates()) {
+            return new CachingMessageResolver(messageSource, i18n.getCacheDuration());
+        }
         return new MessageResolverImpl(messageSource);
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "web.starter.i18n", name = "localize-errors", havingValue = "true", matchIfMissing = true)
+    @ConditionalOnBean(MessageResolver.class)
+    @ConditionalOnMissingBean
+    public LocalizedErrorMessages localizedErrorMessages(MessageResolver messageResolver,
+            ErrorCodeRegistry errorCodeRegistry, WebStarterProperties properties) {
+        WebStarterProperties.I18n i18n = properties.getI18n();
+        return new LocalizedErrorMessages(messageResolver, errorCodeRegistry.getErrorCodes(), i18n.getSupportedLocales(),
+                i18n.getDefaultLocale(), i18n.getErrorMessagePrefix());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "web.starter.auth", name = "enabled", havingValue = "true")
+    @ConditionalOnBean(AsyncLoginRequirementEvaluator.class)
+    @ConditionalOnMissingBean(LoginRequirementEvaluator.class)
+    public AsyncLoginRequirementEvaluatorAdapter asyncLoginRequirementEvaluatorAdapter(
+            AsyncLoginRequirementEvaluator evaluator, WebStarterProperties properties) {
+        return new AsyncLoginRequirementEvaluatorAdapter(evaluator, properties.getAuth().getAsyncTimeout());
+    }
+
     @Bean
     @ConditionalOnProperty(prefix = "web.starter.auth", name = "enabled", havingValue = "true")
     @ConditionalOnBean(LoginRequirementEvaluator.class)
-    public LoginRequiredInterceptor loginRequiredInterceptor(LoginRequirementEvaluator evaluator) {
-        return new LoginRequiredInterceptor(evaluator);
+    public LoginRequiredInterceptor loginRequiredInterceptor(LoginRequirementEvaluator evaluator,
+            WebStarterProperties properties, ObjectProvider<TokenBucketRateLimiter> rateLimiter,
+            ObjectProvider<RateLimitKeyResolver> keyResolver) {
+        WebStarterProperties.Auth auth = properties.getAuth();
+        WebStarterProperties.Auth.Cache cache = auth.getCache();
+        if (cache.isEnabled() && !(evaluator instanceof JwtLoginRequirementEvaluator)) {
+            String credentialHeader = cache.getCredentialHeader();
+            evaluator = new CachingLoginRequirementEvaluator(evaluator,
+                    (request) -> request.getHeader(credentialHeader), cache.getTtl(), cache.getNegativeTtl(),
+                    cache.getMaxSize());
+        }
+        WebStarterProperties.Auth.RateLimit rateLimit = auth.getRateLimit();
+        RateLimit defaultLimit = (rateLimit.getDefaultPermits() > 0)
+                ? new RateLimit(rateLimit.getDefaultPermits(), rateLimit.getDefaultPeriod(),
+                        (rateLimit.getDefaultBurst() > 0) ? rateLimit.getDefaultBurst() : rateLimit.getDefaultPermits())
+                : null;
+        return new LoginRequiredInterceptor(evaluator, PathPatternIndex.compile(auth.getIncludePatterns()),
+                PathPatternIndex.compile(auth.getExcludePatterns()), rateLimiter.getIfAvailable(),
+                keyResolver.getIfAvailable(), defaultLimit);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "web.starter.auth.rate-limit", name = "enabled", havingValue = "true")
+    @ConditionalOnMissingBean
+    public TokenBucketRateLimiter tokenBucketRateLimiter(WebStarterProperties properties) {
+        return new TokenBucketRateLimiter(properties.getAuth().getRateLimit().getIdleTimeout());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "web.starter.auth.rate-limit", name = "enabled", havingValue = "true")
+    @ConditionalOnMissingBean
+    public RateLimitKeyResolver rateLimitKeyResolver() {
+        return (request) -> {
+            if (request.getAttribute(JwtLoginRequirementEvaluator.CLAIMS_ATTRIBUTE) instanceof Map<?, ?> claims
+                    && claims.get("sub") instanceof String subject) {
+                return subject;
+            }
+            Principal principal = request.getUserPrincipal();
+            return (principal != null) ? principal.getName() : request.getRemoteAddr();
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "web.starter.auth", name = "enabled", havingValue = "true")
+    @ConditionalOnMissingBean
+    public ScopeRegistry scopeRegistry(WebStarterProperties properties) {
+        return new ScopeRegistry(properties.getAuth().getScopeSeparator());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "web.starter.auth", name = "enabled", havingValue = "true")
+    SmartInitializingSingleton scopeRegistryInitializer(ScopeRegistry scopeRegistry,
+            ObjectProvider<RequestMappingHandlerMapping> handlerMappings) {
+        return () -> handlerMappings.orderedStream()
+                .forEach((mapping) -> scopeRegistry.registerDeclaredScopes(mapping.getHandlerMethods().values()));
     }
 
     @Bean
     @ConditionalOnProperty(prefix = "web.starter.auth", name = "enabled", havingValue = "true")
     @ConditionalOnBean(LoginRequiredInterceptor.class)
-    public WebMvcConfigurer loginRequiredConfigurer(WebStarterProperties properties,
-            LoginRequiredInterceptor interceptor) {
+    public WebMvcConfigurer loginRequiredConfigurer(LoginRequiredInterceptor interceptor) {
         return new WebMvcConfigurer() {
             @Override
             public void addInterceptors(@NonNull InterceptorRegistry registry) {
-                WebStarterProperties.Auth auth = properties.getAuth();
-                var registration = registry.addInterceptor(interceptor);
-                if (!auth.getIncludePatterns().isEmpty()) {
-                    registration.addPathPatterns(auth.getIncludePatterns().toArray(new String[0]));
-                }
-                if (!auth.getExcludePatterns().isEmpty()) {
-                    registration.excludePathPatterns(auth.getExcludePatterns().toArray(new String[0]));
-                }
+                registry.addInterceptor(interceptor);
             }
         };
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "web.starter.compression", name = "enabled", havingValue = "true")
+    public FilterRegistrationBean<@NonNull ResponseCompressionFilter> responseCompressionFilter(
+            WebStarterProperties properties) {
+        WebStarterProperties.Compression compression = properties.getCompression();
+        int minSize = (int) Math.min(Integer.MAX_VALUE, compression.getMinResponseSize().toBytes());
+        DeflaterPool pool = new DeflaterPool(compression.getLevel(), compression.getPoolSize());
+        FilterRegistrationBean<@NonNull ResponseCompressionFilter> registration = new FilterRegistrationBean<>();
+        registration.setFilter(new ResponseCompressionFilter(minSize, compression.getMimeTypes(), pool));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        registration.setDispatcherTypes(DispatcherType.REQUEST, DispatcherType.ASYNC);
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "web.starter.concurrency-limit", name = "enabled", havingValue = "true")
+    public FilterRegistrationBean<@NonNull ConcurrencyLimitFilter> concurrencyLimitFilter(WebStarterProperties properties,
+            @Qualifier("handlerExceptionResolver") ObjectProvider<HandlerExceptionResolver> exceptionResolver) {
+        WebStarterProperties.ConcurrencyLimit concurrencyLimit = properties.getConcurrencyLimit();
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(concurrencyLimit.getInitialLimit(),
+                concurrencyLimit.getMinLimit(), concurrencyLimit.getMaxLimit(), concurrencyLimit.getLatencyThreshold(),
+                concurrencyLimit.getBackoffRatio());
+        ServiceUnavailableException rejection = new ServiceUnavailableException(concurrencyLimit.getRetryAfter());
+        FilterRegistrationBean<@NonNull ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>();
+        registration.setFilter(new ConcurrencyLimitFilter(limiter, rejection, exceptionResolver.getIfAvailable()));
+        registration.setOrder(REQUEST_CONTEXT_FILTER_ORDER + 1);
+        return registration;
+    }
+
     @Bean
     @ConditionalOnProperty(prefix = "web.starter.logging", name = "enabled", havingValue = "true", matchIfMissing = true)
     public FilterRegistrationBean<@NonNull RequestLoggingFilter> requestLoggingFilter(WebStarterProperties properties) {
@@ -202,7 +419,7 @@ public class WebAutoConfiguration {
         return builder -> configureJackson(builder, properties);
     }
 
-    private void configureJackson(JsonMapper.Builder builder, WebStarterProperties properties) {
+    static void configureJackson(MapperBuilder<?, ?> builder, WebStarterProperties properties) {
         WebStarterProperties.Jackson jackson = properties.getJackson();
         TimeZone timeZone = TimeZone.getTimeZone(jackson.getZoneId());
         builder.defaultTimeZone(timeZone);
@@ -219,4 +436,188 @@ public class WebAutoConfiguration {
             builder.addModule(module);
         }
     }
+
+    /**
+     * Registers a CBOR converter backed by the Boot managed {@link CBORMapper} so that
+     * clients sending {@code Accept: application/cbor} receive the same envelope.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass({ CBORMapper.class, ServerHttpMessageConvertersCustomizer.class })
+    @ConditionalOnProperty(prefix = "web.starter.jackson", name = "cbor-enabled", havingValue = "true", matchIfMissing = true)
+    static class CborConfiguration {
+
+        @Bean
+        CborMapperBuilderCustomizer webStarterCborMapperCustomizer(WebStarterProperties properties) {
+            return builder -> configureJackson(builder, properties);
+        }
+
+        @Bean
+        ServerHttpMessageConvertersCustomizer webStarterCborConverterCustomizer(ObjectProvider<CBORMapper> cborMapper,
+                WebStarterProperties properties) {
+            return builder -> builder.withCborConverter(new JacksonCborHttpMessageConverter(cborMapper.getIfAvailable(() -> {
+                CBORMapper.Builder mapperBuilder = CBORMapper.builder();
+                configureJackson(mapperBuilder, properties);
+                return mapperBuilder.build();
+            })));
+        }
+    }
+
+    /**
+     * Registers a Smile converter for clients sending
+     * {@code Accept: application/x-jackson-smile}.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass({ SmileMapper.class, ServerHttpMessageConvertersCustomizer.class })
+    @ConditionalOnProperty(prefix = "web.starter.jackson", name = "smile-enabled", havingValue = "true", matchIfMissing = true)
+    static class SmileConfiguration {
+
+        @Bean
+        ServerHttpMessageConvertersCustomizer webStarterSmileConverterCustomizer(WebStarterProperties properties) {
+            SmileMapper.Builder mapperBuilder = SmileMapper.builder();
+            configureJackson(mapperBuilder, properties);
+            SmileMapper mapper = mapperBuilder.build();
+            return builder -> builder.withSmileConverter(new JacksonSmileHttpMessageConverter(mapper));
+        }
+    }
+
+    /**
+     * Registers the protobuf envelope converter. It is only offered to requests naming
+     * {@code application/x-protobuf} explicitly, so JSON remains the representation
+     * chosen for {@code Accept: *}{@code /*}.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass({ Message.class, ServerHttpMessageConvertersCustomizer.class })
+    @ConditionalOnProperty(prefix = "web.starter.response", name = "protobuf-enabled", havingValue = "true", matchIfMissing = true)
+    static class ProtobufConfiguration {
+
+        @Bean
+        ServerHttpMessageConvertersCustomizer webStarterProtobufConverterCustomizer() {
+            return builder -> builder.addCustomConverter(new ApiResponseProtobufHttpMessageConverter());
+        }
+    }
+
+    /**
+     * Registers a bearer JWT {@link LoginRequirementEvaluator} backed by a JWKS
+     * document or a shared HMAC secret when no evaluator is defined.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "web.starter.auth.jwt", name = "enabled", havingValue = "true")
+    static class JwtAuthConfiguration {
+
+        @Bean(destroyMethod = "close")
+        @ConditionalOnMissingBean
+        @ConditionalOnProperty(prefix = "web.starter.auth.jwt", name = "jwks-location")
+        public RefreshingJwkSetSupplier jwkSetSupplier(WebStarterProperties properties, ResourceLoader resourceLoader) {
+            WebStarterProperties.Auth.Jwt jwt = properties.getAuth().getJwt();
+            return new RefreshingJwkSetSupplier(resourceLoader.getResource(jwt.getJwksLocation()),
+                    jwt.getJwksRefreshInterval());
+        }
+
+        @Bean
+        @ConditionalOnMissingBean(LoginRequirementEvaluator.class)
+        public JwtLoginRequirementEvaluator jwtLoginRequirementEvaluator(WebStarterProperties properties,
+                ObjectProvider<RefreshingJwkSetSupplier> jwkSetSupplier, ObjectProvider<ScopeRegistry> scopeRegistry) {
+            WebStarterProperties.Auth.Jwt jwt = properties.getAuth().getJwt();
+            Supplier<JwtKeySet> keys = jwkSetSupplier.getIfAvailable();
+            if (keys == null) {
+                if (!StringUtils.hasText(jwt.getHmacSecret())) {
+                    throw new IllegalStateException(
+                            "web.starter.auth.jwt requires either 'jwks-location' or 'hmac-secret' to be set");
+                }
+                JwtKeySet keySet = JwtKeySet.of(List.of(JwtKey.hmac(null, jwt.getHmacAlgorithm(),
+                        jwt.getHmacSecret().getBytes(StandardCharsets.UTF_8))));
+                keys = () -> keySet;
+            }
+            return new JwtLoginRequirementEvaluator(
+                    new JwtVerifier(keys, jwt.getClockSkew(), jwt.getIssuer(), jwt.getAudience()),
+                    scopeRegistry.getIfAvailable());
+        }
+    }
+
+    /**
+     * Exposes the registered error codes and their HTTP statuses through the
+     * {@code errorcodes} actuator endpoint when actuator is on the classpath.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass({ Endpoint.class, ConditionalOnAvailableEndpoint.class })
+    static class ErrorCodesEndpointConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        @ConditionalOnAvailableEndpoint
+        public ErrorCodesEndpoint errorCodesEndpoint(ErrorCodeRegistry errorCodeRegistry,
+                ErrorStatusMapping errorStatusMapping) {
+            return new ErrorCodesEndpoint(errorCodeRegistry, errorStatusMapping);
+        }
+    }
+
+    /**
+     * Publishes the client abort and request timeout counts of the
+     * {@link ExceptionClassifier} when Micrometer is on the classpath.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterBinder.class)
+    static class ExceptionClassifierMetricsConfiguration {
+
+        @Bean
+        MeterBinder exceptionClassifierMeterBinder(ExceptionClassifier exceptionClassifier) {
+            return (registry) -> {
+                FunctionCounter.builder("web.starter.client.aborts", exceptionClassifier,
+                                ExceptionClassifier::getClientAbortCount)
+                        .description("Requests whose client disconnected before the response was written")
+                        .register(registry);
+                FunctionCounter.builder("web.starter.request.timeouts", exceptionClassifier,
+                                ExceptionClassifier::getRequestTimeoutCount)
+                        .description("Async requests that timed out")
+                        .register(registry);
+            };
+        }
+    }
+
+    /**
+     * Publishes the hit and miss counts of the {@link CachingAcceptHeaderLocaleResolver}
+     * when Micrometer is on the classpath.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterBinder.class)
+    static class LocaleResolverMetricsConfiguration {
+
+        @Bean
+        MeterBinder localeResolverMeterBinder(ObjectProvider<LocaleResolver> localeResolver) {
+            return (registry) -> {
+                if (!(localeResolver.getIfUnique() instanceof CachingAcceptHeaderLocaleResolver resolver)) {
+                    return;
+                }
+                FunctionCounter.builder("web.starter.locale.cache.hits", resolver,
+                                CachingAcceptHeaderLocaleResolver::getHitCount)
+                        .description("Accept-Language headers resolved from the locale cache")
+                        .register(registry);
+                FunctionCounter.builder("web.starter.locale.cache.misses", resolver,
+                                CachingAcceptHeaderLocaleResolver::getMissCount)
+                        .description("Accept-Language headers that had to be parsed")
+                        .register(registry);
+                Gauge.builder("web.starter.locale.cache.size", resolver,
+                                CachingAcceptHeaderLocaleResolver::getCacheSize)
+                        .description("Distinct Accept-Language headers in the locale cache")
+                        .register(registry);
+            };
+        }
+    }
+
+    /**
+     * Switches Hibernate Validator to fail-fast mode so that validation stops at the
+     * first violation.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(ValidationConfigurationCustomizer.class)
+    @ConditionalOnProperty(prefix = "web.starter.validation", name = "fail-fast", havingValue = "true")
+    static class FailFastValidationConfiguration {
+
+        static final String FAIL_FAST_PROPERTY = "hibernate.validator.fail_fast";
+
+        @Bean
+        static ValidationConfigurationCustomizer webStarterFailFastValidationCustomizer() {
+            return (configuration) -> configuration.addProperty(FAIL_FAST_PROPERTY, "true");
+        }
+    }
 }
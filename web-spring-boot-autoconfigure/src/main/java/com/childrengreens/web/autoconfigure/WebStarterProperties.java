@@ -19,11 +19,15 @@ import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
+import com.childrengreens.web.context.advice.ProblemDetailMode;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.HttpStatus;
 import org.springframework.util.unit.DataSize;
 
 /**
@@ -67,6 +71,26 @@ public class WebStarterProperties {
      */
     private final I18n i18n = new I18n();
 
+    /**
+     * Response compression applied by the starter's gzip filter.
+     */
+    private final Compression compression = new Compression();
+
+    /**
+     * Exception handling options.
+     */
+    private final ExceptionHandling exception = new ExceptionHandling();
+
+    /**
+     * Adaptive concurrency limit (load shedding) options.
+     */
+    private final ConcurrencyLimit concurrencyLimit = new ConcurrencyLimit();
+
+    /**
+     * Bean Validation options.
+     */
+    private final Validation validation = new Validation();
+
     public Cors getCors() {
         return this.cors;
     }
@@ -95,6 +119,22 @@ public class WebStarterProperties {
         return this.i18n;
     }
 
+    public Compression getCompression() {
+        return this.compression;
+    }
+
+    public ExceptionHandling getException() {
+        return this.exception;
+    }
+
+    public ConcurrencyLimit getConcurrencyLimit() {
+        return this.concurrencyLimit;
+    }
+
+    public Validation getValidation() {
+        return this.validation;
+    }
+
     /**
      * Configuration applied to CORS mappings registered by the starter.
      */
@@ -295,6 +335,304 @@ public class WebStarterProperties {
         }
     }
 
+    /**
+     * Options for the gzip response compression filter.
+     */
+    public static class Compression {
+
+        /**
+         * Whether responses should be gzip compressed by the starter.
+         */
+        private boolean enabled;
+
+        /**
+         * Minimum response size before compression is applied.
+         */
+        private DataSize minResponseSize = DataSize.ofKilobytes(2);
+
+        /**
+         * Content types eligible for compression. Entries such as "text/*" match a whole family.
+         */
+        private List<String> mimeTypes = new ArrayList<>(List.of("application/json", "application/problem+json",
+                "application/xml", "application/javascript", "text/html", "text/plain", "text/css", "text/xml"));
+
+        /**
+         * Deflate compression level from 0 to 9, or -1 for the JDK default.
+         */
+        private int level = -1;
+
+        /**
+         * Maximum number of idle deflaters kept for reuse.
+         */
+        private int poolSize = Math.max(2, Runtime.getRuntime().availableProcessors() * 2);
+
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public DataSize getMinResponseSize() {
+            return this.minResponseSize;
+        }
+
+        public void setMinResponseSize(DataSize minResponseSize) {
+            this.minResponseSize = minResponseSize;
+        }
+
+        public List<String> getMimeTypes() {
+            return this.mimeTypes;
+        }
+
+        public void setMimeTypes(List<String> mimeTypes) {
+            this.mimeTypes = mimeTypes;
+        }
+
+        public int getLevel() {
+            return this.level;
+        }
+
+        public void setLevel(int level) {
+            this.level = level;
+        }
+
+        public int getPoolSize() {
+            return this.poolSize;
+        }
+
+        public void setPoolSize(int poolSize) {
+            this.poolSize = poolSize;
+        }
+    }
+
+    /**
+     * Options applied to exceptions raised and handled by the starter.
+     */
+    public static class ExceptionHandling {
+
+        /**
+         * Whether business exceptions capture stack traces. Disable for endpoints that reject often.
+         */
+        private boolean stackTraceEnabled = true;
+
+        /**
+         * Whether repeated exceptions are logged in full once per window and summarised afterwards.
+         */
+        private boolean logLimitEnabled = true;
+
+        /**
+         * Window during which repeats of the same exception fingerprint are only counted.
+         */
+        private Duration logLimitWindow = Duration.ofMinutes(1);
+
+        /**
+         * Maximum number of exception fingerprints tracked by the log limiter.
+         */
+        private int logLimitMaxFingerprints = 1024;
+
+        /**
+         * HTTP status overrides keyed by error code, applied on top of the status declared by each ErrorCode.
+         */
+        private Map<String, HttpStatus> statusMappings = new LinkedHashMap<>();
+
+        /**
+         * When errors are rendered as RFC 9457 problem details instead of ApiResponse envelopes.
+         */
+        private ProblemDetailMode problemDetailMode = ProblemDetailMode.NEVER;
+
+        /**
+         * Base URI the error code is appended to when building the problem "type" member. Uses "about:blank" when unset.
+         */
+        private String problemTypeBase;
+
+        /**
+         * Maximum number of validation errors reported in detail per response.
+         */
+        private int maxValidationErrors = 50;
+
+        public boolean isStackTraceEnabled() {
+            return this.stackTraceEnabled;
+        }
+
+        public void setStackTraceEnabled(boolean stackTraceEnabled) {
+            this.stackTraceEnabled = stackTraceEnabled;
+        }
+
+        public boolean isLogLimitEnabled() {
+            return this.logLimitEnabled;
+        }
+
+        public void setLogLimitEnabled(boolean logLimitEnabled) {
+            this.logLimitEnabled = logLimitEnabled;
+        }
+
+        public Duration getLogLimitWindow() {
+            return this.logLimitWindow;
+        }
+
+        public void setLogLimitWindow(Duration logLimitWindow) {
+            this.logLimitWindow = logLimitWindow;
+        }
+
+        public int getLogLimitMaxFingerprints() {
+            return this.logLimitMaxFingerprints;
+        }
+
+        public void setLogLimitMaxFingerprints(int logLimitMaxFingerprints) {
+            this.logLimitMaxFingerprints = logLimitMaxFingerprints;
+        }
+
+        public Map<String, HttpStatus> getStatusMappings() {
+            return this.statusMappings;
+        }
+
+        public void setStatusMappings(Map<String, HttpStatus> statusMappings) {
+            this.statusMappings = statusMappings;
+        }
+
+        public ProblemDetailMode getProblemDetailMode() {
+            return this.problemDetailMode;
+        }
+
+        public void setProblemDetailMode(ProblemDetailMode problemDetailMode) {
+            this.problemDetailMode = problemDetailMode;
+        }
+
+        public String getProblemTypeBase() {
+            return this.problemTypeBase;
+        }
+
+        public void setProblemTypeBase(String problemTypeBase) {
+            this.problemTypeBase = problemTypeBase;
+        }
+
+        public int getMaxValidationErrors() {
+            return this.maxValidationErrors;
+        }
+
+        public void setMaxValidationErrors(int maxValidationErrors) {
+            this.maxValidationErrors = maxValidationErrors;
+        }
+    }
+
+    /**
+     * Adaptive concurrency limit that rejects excess requests with 503 responses.
+     */
+    public static class ConcurrencyLimit {
+
+        /**
+         * Whether requests beyond the adaptive concurrency limit should be rejected early.
+         */
+        private boolean enabled;
+
+        /**
+         * Concurrency limit used until latency feedback has been observed.
+         */
+        private int initialLimit = 20;
+
+        /**
+         * Lower bound for the adaptive limit.
+         */
+        private int minLimit = 1;
+
+        /**
+         * Upper bound for the adaptive limit.
+         */
+        private int maxLimit = 200;
+
+        /**
+         * Requests slower than this shrink the limit; faster ones let it grow.
+         */
+        private Duration latencyThreshold = Duration.ofSeconds(1);
+
+        /**
+         * Factor applied to the limit when a request is slow or fails, between 0 and 1.
+         */
+        private double backoffRatio = 0.9;
+
+        /**
+         * Delay advertised to rejected clients through the Retry-After header.
+         */
+        private Duration retryAfter = Duration.ofSeconds(1);
+
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getInitialLimit() {
+            return this.initialLimit;
+        }
+
+        public void setInitialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+        }
+
+        public int getMinLimit() {
+            return this.minLimit;
+        }
+
+        public void setMinLimit(int minLimit) {
+            this.minLimit = minLimit;
+        }
+
+        public int getMaxLimit() {
+            return this.maxLimit;
+        }
+
+        public void setMaxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+        }
+
+        public Duration getLatencyThreshold() {
+            return this.latencyThreshold;
+        }
+
+        public void setLatencyThreshold(Duration latencyThreshold) {
+            this.latencyThreshold = latencyThreshold;
+        }
+
+        public double getBackoffRatio() {
+            return this.backoffRatio;
+        }
+
+        public void setBackoffRatio(double backoffRatio) {
+            this.backoffRatio = backoffRatio;
+        }
+
+        public Duration getRetryAfter() {
+            return this.retryAfter;
+        }
+
+        public void setRetryAfter(Duration retryAfter) {
+            this.retryAfter = retryAfter;
+        }
+    }
+
+    /**
+     * Options applied to the auto-configured Bean Validation provider.
+     */
+    public static class Validation {
+
+        /**
+         * Whether Hibernate Validator should stop at the first constraint violation instead of validating the whole object graph.
+         */
+        private boolean failFast;
+
+        public boolean isFailFast() {
+            return this.failFast;
+        }
+
+        public void setFailFast(boolean failFast) {
+            this.failFast = failFast;
+        }
+    }
+
     /**
      * Response wrapping configuration controlling the shared API model.
      */
@@ -330,6 +668,16 @@ public class WebStarterProperties {
          */
         private String defaultErrorMessage = "Internal server error";
 
+        /**
+         * Whether envelopes may be negotiated as protocol buffers when protobuf-java is present.
+         */
+        private boolean protobufEnabled = true;
+
+        /**
+         * Whether successful GET responses should carry a weak ETag computed from the payload and honour If-None-Match.
+         */
+        private boolean etagEnabled;
+
         public boolean isEnabled() {
             return this.enabled;
         }
@@ -377,6 +725,22 @@ public class WebStarterProperties {
         public void setDefaultErrorMessage(String defaultErrorMessage) {
             this.defaultErrorMessage = defaultErrorMessage;
         }
+
+        public boolean isProtobufEnabled() {
+            return this.protobufEnabled;
+        }
+
+        public void setProtobufEnabled(boolean protobufEnabled) {
+            this.protobufEnabled = protobufEnabled;
+        }
+
+        public boolean isEtagEnabled() {
+            return this.etagEnabled;
+        }
+
+        public void setEtagEnabled(boolean etagEnabled) {
+            this.etagEnabled = etagEnabled;
+        }
     }
 
     /**
@@ -390,6 +754,31 @@ public class WebStarterProperties {
 
         private List<String> excludePatterns = new ArrayList<>();
 
+        /**
+         * Separator of the opt-in scope hierarchy; granting a parent scope then implies its descendants. Empty, the default, matches scopes by exact name.
+         */
+        private String scopeSeparator = "";
+
+        /**
+         * How long the request thread waits for an AsyncLoginRequirementEvaluator before rejecting with 503.
+         */
+        private Duration asyncTimeout = Duration.ofSeconds(5);
+
+        /**
+         * Caching of LoginRequirementEvaluator outcomes.
+         */
+        private final Cache cache = new Cache();
+
+        /**
+         * Built-in JWT verification.
+         */
+        private final Jwt jwt = new Jwt();
+
+        /**
+         * Per-principal request quotas.
+         */
+        private final RateLimit rateLimit = new RateLimit();
+
         public boolean isEnabled() {
             return this.enabled;
         }
@@ -413,6 +802,286 @@ public class WebStarterProperties {
         public void setExcludePatterns(List<String> excludePatterns) {
             this.excludePatterns = excludePatterns;
         }
+
+        public String getScopeSeparator() {
+            return this.scopeSeparator;
+        }
+
+        public void setScopeSeparator(String scopeSeparator) {
+            this.scopeSeparator = scopeSeparator;
+        }
+
+        public Duration getAsyncTimeout() {
+            return this.asyncTimeout;
+        }
+
+        public void setAsyncTimeout(Duration asyncTimeout) {
+            this.asyncTimeout = asyncTimeout;
+        }
+
+        public Cache getCache() {
+            return this.cache;
+        }
+
+        public Jwt getJwt() {
+            return this.jwt;
+        }
+
+        public RateLimit getRateLimit() {
+            return this.rateLimit;
+        }
+
+        /**
+         * Options for per-principal rate limiting of {@code @RateLimited} and {@code @LoginRequired} handlers.
+         */
+        public static class RateLimit {
+
+            /**
+             * Whether request quotas should be enforced after the login check.
+             */
+            private boolean enabled;
+
+            /**
+             * Requests per period allowed on @LoginRequired handlers without @RateLimited. Zero leaves them unlimited.
+             */
+            private long defaultPermits;
+
+            /**
+             * Refill period of the default quota.
+             */
+            private Duration defaultPeriod = Duration.ofSeconds(1);
+
+            /**
+             * Requests of the default quota that may be made back to back. Zero uses the number of permits.
+             */
+            private long defaultBurst;
+
+            /**
+             * How long a full bucket is kept before it is evicted.
+             */
+            private Duration idleTimeout = Duration.ofMinutes(10);
+
+            public boolean isEnabled() {
+                return this.enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public long getDefaultPermits() {
+                return this.defaultPermits;
+            }
+
+            public void setDefaultPermits(long defaultPermits) {
+                this.defaultPermits = defaultPermits;
+            }
+
+            public Duration getDefaultPeriod() {
+                return this.defaultPeriod;
+            }
+
+            public void setDefaultPeriod(Duration defaultPeriod) {
+                this.defaultPeriod = defaultPeriod;
+            }
+
+            public long getDefaultBurst() {
+                return this.defaultBurst;
+            }
+
+            public void setDefaultBurst(long defaultBurst) {
+                this.defaultBurst = defaultBurst;
+            }
+
+            public Duration getIdleTimeout() {
+                return this.idleTimeout;
+            }
+
+            public void setIdleTimeout(Duration idleTimeout) {
+                this.idleTimeout = idleTimeout;
+            }
+        }
+
+        /**
+         * Options for the built-in bearer JWT evaluator.
+         */
+        public static class Jwt {
+
+            /**
+             * Whether a JWT verifying LoginRequirementEvaluator should be registered when none is defined.
+             */
+            private boolean enabled;
+
+            /**
+             * Location of a JWKS document, for example "file:/etc/keys/jwks.json" or a local HTTP endpoint.
+             */
+            private String jwksLocation;
+
+            /**
+             * How often the JWKS document is reloaded. Zero loads it once.
+             */
+            private Duration jwksRefreshInterval = Duration.ofMinutes(5);
+
+            /**
+             * Shared secret for HMAC-signed tokens, used when no JWKS location is configured.
+             */
+            private String hmacSecret;
+
+            /**
+             * HMAC algorithm used with the shared secret.
+             */
+            private String hmacAlgorithm = "HS256";
+
+            /**
+             * Required "iss" claim, if any.
+             */
+            private String issuer;
+
+            /**
+             * Audience that must appear in the "aud" claim, if any.
+             */
+            private String audience;
+
+            /**
+             * Tolerance applied to the "exp" and "nbf" claims.
+             */
+            private Duration clockSkew = Duration.ofSeconds(60);
+
+            public boolean isEnabled() {
+                return this.enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public String getJwksLocation() {
+                return this.jwksLocation;
+            }
+
+            public void setJwksLocation(String jwksLocation) {
+                this.jwksLocation = jwksLocation;
+            }
+
+            public Duration getJwksRefreshInterval() {
+                return this.jwksRefreshInterval;
+            }
+
+            public void setJwksRefreshInterval(Duration jwksRefreshInterval) {
+                this.jwksRefreshInterval = jwksRefreshInterval;
+            }
+
+            public String getHmacSecret() {
+                return this.hmacSecret;
+            }
+
+            public void setHmacSecret(String hmacSecret) {
+                this.hmacSecret = hmacSecret;
+            }
+
+            public String getHmacAlgorithm() {
+                return this.hmacAlgorithm;
+            }
+
+            public void setHmacAlgorithm(String hmacAlgorithm) {
+                this.hmacAlgorithm = hmacAlgorithm;
+            }
+
+            public String getIssuer() {
+                return this.issuer;
+            }
+
+            public void setIssuer(String issuer) {
+                this.issuer = issuer;
+            }
+
+            public String getAudience() {
+                return this.audience;
+            }
+
+            public void setAudience(String audience) {
+                this.audience = audience;
+            }
+
+            public Duration getClockSkew() {
+                return this.clockSkew;
+            }
+
+            public void setClockSkew(Duration clockSkew) {
+                this.clockSkew = clockSkew;
+            }
+        }
+
+        /**
+         * Options for caching authentication outcomes per credential and scope.
+         */
+        public static class Cache {
+
+            /**
+             * Whether the evaluator's outcomes should be cached per credential and scope.
+             */
+            private boolean enabled;
+
+            /**
+             * Request header carrying the credential; its SHA-256 digest is used as cache key.
+             */
+            private String credentialHeader = "Authorization";
+
+            /**
+             * How long a successful check is reused.
+             */
+            private Duration ttl = Duration.ofSeconds(30);
+
+            /**
+             * How long a failed check is reused. Zero disables negative caching.
+             */
+            private Duration negativeTtl = Duration.ofSeconds(5);
+
+            /**
+             * Maximum number of cached outcomes.
+             */
+            private int maxSize = 10_000;
+
+            public boolean isEnabled() {
+                return this.enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public String getCredentialHeader() {
+                return this.credentialHeader;
+            }
+
+            public void setCredentialHeader(String credentialHeader) {
+                this.credentialHeader = credentialHeader;
+            }
+
+            public Duration getTtl() {
+                return this.ttl;
+            }
+
+            public void setTtl(Duration ttl) {
+                this.ttl = ttl;
+            }
+
+            public Duration getNegativeTtl() {
+                return this.negativeTtl;
+            }
+
+            public void setNegativeTtl(Duration negativeTtl) {
+                this.negativeTtl = negativeTtl;
+            }
+
+            public int getMaxSize() {
+                return this.maxSize;
+            }
+
+            public void setMaxSize(int maxSize) {
+                this.maxSize = maxSize;
+            }
+        }
     }
 
     /**
@@ -432,6 +1101,16 @@ public class WebStarterProperties {
 
         private boolean useCodeAsDefaultMessage = true;
 
+        private boolean cacheTemplates = true;
+
+        private List<Locale> supportedLocales = new ArrayList<>();
+
+        private boolean localizeErrors = true;
+
+        private String errorMessagePrefix = "error.";
+
+        private int localeCacheSize = 256;
+
         public boolean isEnabled() {
             return this.enabled;
         }
@@ -479,6 +1158,46 @@ public class WebStarterProperties {
         public void setUseCodeAsDefaultMessage(boolean useCodeAsDefaultMessage) {
             this.useCodeAsDefaultMessage = useCodeAsDefaultMessage;
         }
+
+        public boolean isCacheTemplates() {
+            return this.cacheTemplates;
+        }
+
+        public void setCacheTemplates(boolean cacheTemplates) {
+            this.cacheTemplates = cacheTemplates;
+        }
+
+        public List<Locale> getSupportedLocales() {
+            return this.supportedLocales;
+        }
+
+        public void setSupportedLocales(List<Locale> supportedLocales) {
+            this.supportedLocales = supportedLocales;
+        }
+
+        public boolean isLocalizeErrors() {
+            return this.localizeErrors;
+        }
+
+        public void setLocalizeErrors(boolean localizeErrors) {
+            this.localizeErrors = localizeErrors;
+        }
+
+        public String getErrorMessagePrefix() {
+            return this.errorMessagePrefix;
+        }
+
+        public void setErrorMessagePrefix(String errorMessagePrefix) {
+            this.errorMessagePrefix = errorMessagePrefix;
+        }
+
+        public int getLocaleCacheSize() {
+            return this.localeCacheSize;
+        }
+
+        public void setLocaleCacheSize(int localeCacheSize) {
+            this.localeCacheSize = localeCacheSize;
+        }
     }
 
     /**
@@ -506,6 +1225,16 @@ public class WebStarterProperties {
          */
         private boolean writeLongAsString;
 
+        /**
+         * Whether a CBOR converter should be registered when jackson-dataformat-cbor is present.
+         */
+        private boolean cborEnabled = true;
+
+        /**
+         * Whether a Smile converter should be registered when jackson-dataformat-smile is present.
+         */
+        private boolean smileEnabled = true;
+
         public boolean isWriteDatesAsTimestamps() {
             return this.writeDatesAsTimestamps;
         }
@@ -537,5 +1266,21 @@ public class WebStarterProperties {
         public void setWriteLongAsString(boolean writeLongAsString) {
             this.writeLongAsString = writeLongAsString;
         }
+
+        public boolean isCborEnabled() {
+            return this.cborEnabled;
+        }
+
+        public void setCborEnabled(boolean cborEnabled) {
+            this.cborEnabled = cborEnabled;
+        }
+
+        public boolean isSmileEnabled() {
+            return this.smileEnabled;
+        }
+
+        public void setSmileEnabled(boolean smileEnabled) {
+            this.smileEnabled = smileEnabled;
+        }
     }
 }
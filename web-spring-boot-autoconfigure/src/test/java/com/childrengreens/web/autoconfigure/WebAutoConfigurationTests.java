@@ -15,41 +15,104 @@
  */
 package com.childrengreens.web.autoconfigure;
 
+import java.nio.charset.StandardCharsets;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collections;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import com.childrengreens.web.context.advice.ProblemDetailMode;
+import com.childrengreens.web.context.advice.ProblemDetailResponseAdvice;
 import com.childrengreens.web.context.advice.ResponseWrappingAdvice;
+import com.childrengreens.web.context.compression.ResponseCompressionFilter;
+import com.childrengreens.web.context.concurrency.ConcurrencyLimitFilter;
+import com.childrengreens.web.context.exception.BusinessException;
+import com.childrengreens.web.context.exception.DefaultErrorCode;
+import com.childrengreens.web.context.exception.ErrorCode;
+import com.childrengreens.web.context.exception.ErrorCodeProvider;
+import com.childrengreens.web.context.exception.ErrorCodeRegistry;
+import com.childrengreens.web.context.exception.ExceptionClassifier;
 import com.childrengreens.web.context.exception.GlobalExceptionHandler;
+import com.childrengreens.web.context.exception.LocalizedErrorMessages;
+import com.childrengreens.web.context.exception.TooManyRequestsException;
+import com.childrengreens.web.context.exception.UnauthorizedException;
+import com.childrengreens.web.context.protobuf.ApiResponseProtobufHttpMessageConverter;
+import com.childrengreens.web.context.response.ApiResponse;
 import com.childrengreens.web.context.response.ApiResponseFactory;
 import com.childrengreens.web.context.trace.TraceIdFilter;
 import com.childrengreens.web.context.trace.TraceIdGenerator;
 import com.childrengreens.web.context.trace.TraceIdHolder;
 import com.childrengreens.web.context.trace.UuidsTraceIdGenerator;
 import com.childrengreens.web.context.logging.RequestLoggingFilter;
+import com.childrengreens.web.context.auth.AsyncLoginRequirementEvaluator;
+import com.childrengreens.web.context.auth.AsyncLoginRequirementEvaluatorAdapter;
+import com.childrengreens.web.context.auth.LoginRequired;
 import com.childrengreens.web.context.auth.LoginRequirementEvaluator;
+import com.childrengreens.web.context.auth.ScopeRegistry;
 import com.childrengreens.web.context.auth.LoginRequiredInterceptor;
+import com.childrengreens.web.context.auth.TokenBucketRateLimiter;
+import com.childrengreens.web.context.auth.jwt.JwtLoginRequirementEvaluator;
+import com.childrengreens.web.context.auth.jwt.RefreshingJwkSetSupplier;
+import com.childrengreens.web.context.i18n.CachingAcceptHeaderLocaleResolver;
+import com.childrengreens.web.context.i18n.CachingMessageResolver;
 import com.childrengreens.web.context.i18n.MessageResolver;
+import com.childrengreens.web.context.i18n.MessageResolverImpl;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import org.jspecify.annotations.NonNull;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.http.converter.autoconfigure.ServerHttpMessageConvertersCustomizer;
 import org.springframework.boot.jackson.autoconfigure.JsonMapperBuilderCustomizer;
 import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.boot.validation.autoconfigure.ValidationAutoConfiguration;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.ApplicationEvent;
 import org.springframework.context.MessageSource;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverters;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import org.springframework.http.converter.smile.JacksonSmileHttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.http.MockHttpOutputMessage;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.web.servlet.LocaleResolver;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 import org.springframework.context.support.ReloadableResourceBundleMessageSource;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import tools.jackson.databind.json.JsonMapper;
 import tools.jackson.databind.cfg.DateTimeFeature;
+import tools.jackson.dataformat.cbor.CBORMapper;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class WebAutoConfigurationTests {
 
@@ -67,12 +130,173 @@ class WebAutoConfigurationTests {
         });
     }
 
+    @Test
+    // An environment change re-binds the response properties before the snapshot is taken,
+    // whether or not Spring Cloud's rebinder has run yet
+    void shouldRebindResponsePropertiesBeforeRefreshingFactory() {
+        this.contextRunner.withPropertyValues("web.starter.response.success-code=S-1").run((context) -> {
+            ApiResponseFactory factory = context.getBean(ApiResponseFactory.class);
+            WebStarterProperties properties = context.getBean(WebStarterProperties.class);
+            ApiResponseFactoryRefreshListener listener = new ApiResponseFactoryRefreshListener(factory, properties,
+                    context.getEnvironment());
+            context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("changed",
+                    Map.of("web.starter.response.success-code", "S-2", "web.starter.response.default-error-message",
+                            "Try again later")));
+            assertThat(factory.success("data").getCode()).isEqualTo("S-1");
+
+            listener.onApplicationEvent(new ApplicationEvent(context) {
+            });
+
+            assertThat(properties.getResponse().getSuccessCode()).isEqualTo("S-2");
+            assertThat(factory.success("data").getCode()).isEqualTo("S-2");
+            assertThat(factory.failure((String) null).getMessage()).isEqualTo("Try again later");
+        });
+    }
+
+    @Test
+    // The shared empty success response should pick up the trace id of the current request
+    void shouldResolveTraceIdOfSharedSuccessResponseLazily() {
+        this.contextRunner.run((context) -> {
+            ApiResponseFactory factory = context.getBean(ApiResponseFactory.class);
+            try {
+                TraceIdHolder.set("trace-1");
+                assertThat(factory.success().getTraceId()).isEqualTo("trace-1");
+                TraceIdHolder.set("trace-2");
+                assertThat(factory.success().getTraceId()).isEqualTo("trace-2");
+            }
+            finally {
+                TraceIdHolder.clear();
+            }
+        });
+    }
+
+    @Test
+    // Cached error responses are shared, so their trace id must follow the current request
+    void shouldResolveTraceIdOfCachedErrorResponseLazily() {
+        this.contextRunner.run((context) -> {
+            GlobalExceptionHandler handler = context.getBean(GlobalExceptionHandler.class);
+            try {
+                TraceIdHolder.set("trace-1");
+                assertThat(handler.handleUnauthorized(new UnauthorizedException(null)).getBody().getTraceId()).isEqualTo("trace-1");
+                TraceIdHolder.set("trace-2");
+                assertThat(handler.handleUnauthorized(new UnauthorizedException(null)).getBody().getTraceId()).isEqualTo("trace-2");
+            }
+            finally {
+                TraceIdHolder.clear();
+            }
+        });
+    }
+
     @Test
     // Disabling response wrapping should skip ResponseWrappingAdvice registration
     void shouldDisableResponseWrappingWhenConfigured() {
         this.contextRunner.withPropertyValues("web.starter.response.enabled=false").run((context) -> assertThat(context).doesNotHaveBean(ResponseWrappingAdvice.class));
     }
 
+    @Test
+    // ETag support is opt-in and keyed on the payload of wrapped GET responses
+    void shouldAddDataEtagWhenEnabled() {
+        this.contextRunner.withPropertyValues("web.starter.response.etag-enabled=true").run((context) -> {
+            ResponseWrappingAdvice advice = context.getBean(ResponseWrappingAdvice.class);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            advice.beforeBodyWrite(Map.of("id", 1), null, MediaType.APPLICATION_JSON, JacksonJsonHttpMessageConverter.class,
+                    new ServletServerHttpRequest(new MockHttpServletRequest("GET", "/items")), new ServletServerHttpResponse(response));
+
+            assertThat(response.getHeader("ETag")).startsWith("W/");
+        });
+    }
+
+    @Test
+    // Stack trace capture follows the switch while the context runs and is restored on close
+    void shouldApplyBusinessExceptionStackTraceSwitch() {
+        try {
+            this.contextRunner.withPropertyValues("web.starter.exception.stack-trace-enabled=false").run((context) ->
+                    assertThat(BusinessException.isStackTraceEnabled()).isFalse());
+            assertThat(BusinessException.isStackTraceEnabled()).isTrue();
+        }
+        finally {
+            BusinessException.setStackTraceEnabled(true);
+        }
+    }
+
+    @Test
+    // Status overrides from properties feed the handler and the errorcodes endpoint
+    void shouldApplyErrorStatusMappings() {
+        this.contextRunner.withPropertyValues("web.starter.exception.status-mappings.1001=CONFLICT",
+                "management.endpoints.web.exposure.include=errorcodes").run((context) -> {
+            GlobalExceptionHandler handler = context.getBean(GlobalExceptionHandler.class);
+            assertThat(handler.handleBusinessException(new BusinessException(DefaultErrorCode.BUSINESS_ERROR)).getStatusCode())
+                    .isEqualTo(HttpStatus.CONFLICT);
+            assertThat(context.getBean(ErrorCodesEndpoint.class).errorCodes()).containsEntry("1001",
+                    new ErrorCodesEndpoint.ErrorCodeDescriptor("Business rule violated", 409, "Conflict"));
+        });
+        this.contextRunner.run((context) -> assertThat(context).doesNotHaveBean(ErrorCodesEndpoint.class));
+    }
+
+    @Test
+    // Contributed error codes are indexed and collisions fail the startup
+    void shouldRegisterContributedErrorCodes() {
+        ErrorCodeProvider provider = () -> List.of(new SimpleErrorCode("2001"));
+        this.contextRunner.withBean(ErrorCodeProvider.class, () -> provider).run((context) ->
+                assertThat(context.getBean(ErrorCodeRegistry.class).find("2001")).isNotNull());
+        ErrorCodeProvider clashing = () -> List.of(new SimpleErrorCode("1000"));
+        this.contextRunner.withBean(ErrorCodeProvider.class, () -> clashing).run((context) ->
+                assertThat(context).getFailure().hasRootCauseInstanceOf(IllegalStateException.class)
+                        .rootCause().hasMessageContaining("'1000'"));
+    }
+
+    @Test
+    // The load-shedding filter is opt-in and runs right after the request context filter
+    void shouldRegisterConcurrencyLimitFilterWhenEnabled() {
+        this.contextRunner.run((context) -> assertThat(context).doesNotHaveBean("concurrencyLimitFilter"));
+        this.contextRunner.withPropertyValues("web.starter.concurrency-limit.enabled=true",
+                "web.starter.concurrency-limit.initial-limit=5").run((context) -> {
+            FilterRegistrationBean<?> registration = context.getBean("concurrencyLimitFilter", FilterRegistrationBean.class);
+            assertThat(registration.getFilter()).isInstanceOf(ConcurrencyLimitFilter.class);
+            assertThat(registration.getOrder()).isEqualTo(-104);
+            assertThat(context.getBean(WebStarterProperties.class).getConcurrencyLimit().getInitialLimit()).isEqualTo(5);
+        });
+    }
+
+    @Test
+    // Client abort and timeout counts are published as Micrometer counters
+    void shouldBindExceptionClassifierMetrics() {
+        this.contextRunner.run((context) -> {
+            ExceptionClassifier classifier = context.getBean(ExceptionClassifier.class);
+            assertThat(context.getBean(GlobalExceptionHandler.class).handleGenericException(
+                    new AsyncRequestTimeoutException(), new ServletWebRequest(new MockHttpServletRequest()))
+                    .getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            context.getBean("exceptionClassifierMeterBinder", MeterBinder.class).bindTo(registry);
+            assertThat(registry.get("web.starter.request.timeouts").functionCounter().count()).isEqualTo(1);
+            assertThat(registry.get("web.starter.client.aborts").functionCounter().count()).isZero();
+            assertThat(classifier.getRequestTimeoutCount()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    // Fail-fast mode should stop validation at the first violation
+    void shouldConfigureFailFastValidation() {
+        WebApplicationContextRunner runner = this.contextRunner
+                .withConfiguration(AutoConfigurations.of(ValidationAutoConfiguration.class));
+        runner.run((context) -> assertThat(context.getBean(Validator.class).validate(new TwoViolations())).hasSize(2));
+        runner.withPropertyValues("web.starter.validation.fail-fast=true")
+                .run((context) -> assertThat(context.getBean(Validator.class).validate(new TwoViolations())).hasSize(1));
+    }
+
+    @Test
+    // Problem detail rendering is only registered when a mode is configured
+    void shouldRegisterProblemDetailAdviceWhenModeConfigured() {
+        this.contextRunner.run((context) -> assertThat(context).doesNotHaveBean(ProblemDetailResponseAdvice.class));
+        this.contextRunner.withPropertyValues("web.starter.exception.problem-detail-mode=on-request",
+                "web.starter.exception.problem-type-base=https://errors.example.com/").run((context) -> {
+            assertThat(context).hasSingleBean(ProblemDetailResponseAdvice.class);
+            assertThat(context.getBean(WebStarterProperties.class).getException().getProblemDetailMode())
+                    .isEqualTo(ProblemDetailMode.ON_REQUEST);
+        });
+    }
+
     @Test
     // Verify Jackson date format and timezone customization
     void shouldApplyJacksonCustomisations() {
@@ -104,6 +328,19 @@ class WebAutoConfigurationTests {
                 registration.getFilter() instanceof RequestLoggingFilter));
     }
 
+    @Test
+    // Compression filter is opt-in and registered ahead of the logging filter
+    void shouldRegisterCompressionFilterWhenEnabled() {
+        this.contextRunner.run((context) -> assertThat(context.getBeansOfType(FilterRegistrationBean.class).values()).noneMatch((registration) ->
+                registration.getFilter() instanceof ResponseCompressionFilter));
+        this.contextRunner.withPropertyValues("web.starter.compression.enabled=true", "web.starter.compression.min-response-size=512B")
+                .run((context) -> {
+                    FilterRegistrationBean<?> registration = context.getBean("responseCompressionFilter", FilterRegistrationBean.class);
+                    assertThat(registration.getFilter()).isInstanceOf(ResponseCompressionFilter.class);
+                    assertThat(registration.getOrder()).isLessThan(context.getBean("requestLoggingFilter", FilterRegistrationBean.class).getOrder());
+                });
+    }
+
     @Test
     // Should register login interceptor when LoginRequirementEvaluator is present
     void shouldRegisterLoginInterceptorWhenEvaluatorPresent() {
@@ -112,6 +349,110 @@ class WebAutoConfigurationTests {
                 .run((context) -> assertThat(context).hasSingleBean(LoginRequiredInterceptor.class));
     }
 
+    @Test
+    // An asynchronous evaluator is adapted to back the interceptor when no synchronous one exists
+    void shouldAdaptAsyncEvaluator() {
+        this.contextRunner.withPropertyValues("web.starter.auth.enabled=true", "web.starter.auth.async-timeout=50ms")
+                .withBean(AsyncLoginRequirementEvaluator.class,
+                        () -> (request, handler, scope) -> CompletableFuture.failedFuture(new UnauthorizedException("denied")))
+                .run((context) -> {
+                    assertThat(context).hasSingleBean(AsyncLoginRequirementEvaluatorAdapter.class);
+                    LoginRequiredInterceptor interceptor = context.getBean(LoginRequiredInterceptor.class);
+                    HandlerMethod handler = new HandlerMethod(new SecuredController(), "secured");
+                    assertThatThrownBy(() -> interceptor.preHandle(new MockHttpServletRequest(),
+                            new MockHttpServletResponse(), handler)).isInstanceOf(UnauthorizedException.class);
+                });
+    }
+
+    @Test
+    // The evaluator is wrapped in a credential cache when enabled
+    void shouldCacheLoginEvaluationsWhenEnabled() {
+        AtomicInteger calls = new AtomicInteger();
+        this.contextRunner.withPropertyValues("web.starter.auth.enabled=true", "web.starter.auth.cache.enabled=true",
+                        "web.starter.auth.cache.credential-header=X-Token")
+                .withBean(LoginRequirementEvaluator.class, () -> (request, handler, scope) -> calls.incrementAndGet())
+                .run((context) -> {
+                    LoginRequiredInterceptor interceptor = context.getBean(LoginRequiredInterceptor.class);
+                    HandlerMethod handler = new HandlerMethod(new SecuredController(), "secured");
+                    for (int i = 0; i < 3; i++) {
+                        MockHttpServletRequest request = new MockHttpServletRequest();
+                        request.addHeader("X-Token", "abc");
+                        interceptor.preHandle(request, new MockHttpServletResponse(), handler);
+                    }
+                    assertThat(calls).hasValue(1);
+                });
+    }
+
+    @Test
+    // The JWT evaluator is never cached, so every request exposes its claims
+    void shouldNotCacheJwtEvaluator() {
+        String secret = "0123456789abcdef0123456789abcdef";
+        this.contextRunner.withPropertyValues("web.starter.auth.enabled=true", "web.starter.auth.cache.enabled=true",
+                "web.starter.auth.jwt.enabled=true", "web.starter.auth.jwt.hmac-secret=" + secret).run((context) -> {
+            LoginRequiredInterceptor interceptor = context.getBean(LoginRequiredInterceptor.class);
+            HandlerMethod handler = new HandlerMethod(new SecuredController(), "secured");
+            String token = hs256Token(secret, "{\"sub\":\"alice\"}");
+            for (int i = 0; i < 2; i++) {
+                MockHttpServletRequest request = new MockHttpServletRequest();
+                request.addHeader("Authorization", "Bearer " + token);
+                interceptor.preHandle(request, new MockHttpServletResponse(), handler);
+                assertThat(request.getAttribute(JwtLoginRequirementEvaluator.CLAIMS_ATTRIBUTE))
+                        .isEqualTo(Map.of("sub", "alice"));
+            }
+        });
+    }
+
+    @Test
+    // The default quota applies per principal to @LoginRequired handlers
+    void shouldApplyDefaultRateLimitWhenEnabled() {
+        this.contextRunner.withPropertyValues("web.starter.auth.enabled=true", "web.starter.auth.rate-limit.enabled=true",
+                        "web.starter.auth.rate-limit.default-permits=2", "web.starter.auth.rate-limit.default-period=1m")
+                .withBean(LoginRequirementEvaluator.class, () -> (request, handler, scope) -> { })
+                .run((context) -> {
+                    LoginRequiredInterceptor interceptor = context.getBean(LoginRequiredInterceptor.class);
+                    HandlerMethod handler = new HandlerMethod(new SecuredController(), "secured");
+                    MockHttpServletRequest alice = new MockHttpServletRequest();
+                    alice.setUserPrincipal(() -> "alice");
+                    interceptor.preHandle(alice, new MockHttpServletResponse(), handler);
+                    interceptor.preHandle(alice, new MockHttpServletResponse(), handler);
+                    assertThatThrownBy(() -> interceptor.preHandle(alice, new MockHttpServletResponse(), handler))
+                        .isInstanceOf(TooManyRequestsException.class);
+                    MockHttpServletRequest bob = new MockHttpServletRequest();
+                    bob.setUserPrincipal(() -> "bob");
+                    assertThat(interceptor.preHandle(bob, new MockHttpServletResponse(), handler)).isTrue();
+                    assertThat(context.getBean(TokenBucketRateLimiter.class).size()).isEqualTo(2);
+                });
+    }
+
+    @Test
+    // Scopes declared on mapped handlers are compiled into the registry at startup
+    void shouldCompileDeclaredScopesAtStartup() {
+        this.contextRunner.withPropertyValues("web.starter.auth.enabled=true")
+                .withBean(RequestMappingHandlerMapping.class, () -> {
+                    RequestMappingHandlerMapping mapping = new RequestMappingHandlerMapping();
+                    mapping.registerMapping(RequestMappingInfo.paths("/orders").build(), new ScopedController(),
+                            ReflectionUtils.findMethod(ScopedController.class, "orders"));
+                    return mapping;
+                })
+                .run((context) -> assertThat(context.getBean(ScopeRegistry.class).idOf("orders:read")).isZero());
+    }
+
+    @Test
+    // The built-in JWT evaluator backs the interceptor when no evaluator is defined
+    void shouldRegisterJwtEvaluatorWhenEnabled() {
+        this.contextRunner.withPropertyValues("web.starter.auth.enabled=true", "web.starter.auth.jwt.enabled=true",
+                "web.starter.auth.jwt.hmac-secret=0123456789abcdef0123456789abcdef").run((context) -> {
+            assertThat(context).hasSingleBean(JwtLoginRequirementEvaluator.class);
+            assertThat(context).hasSingleBean(LoginRequiredInterceptor.class);
+            assertThat(context).doesNotHaveBean(RefreshingJwkSetSupplier.class);
+        });
+        this.contextRunner.withPropertyValues("web.starter.auth.jwt.enabled=true",
+                "web.starter.auth.jwt.jwks-location=classpath:jwks.json").run((context) ->
+                assertThat(context.getBean(RefreshingJwkSetSupplier.class).get().find("test", "HS256")).isNotNull());
+        this.contextRunner.withPropertyValues("web.starter.auth.jwt.enabled=true")
+                .run((context) -> assertThat(context).hasFailed());
+    }
+
     @Test
     // Should resolve messages per locale via MessageResolver
     void shouldProvideMessageResolverForLocales() {
@@ -129,6 +470,60 @@ class WebAutoConfigurationTests {
         });
     }
 
+    @Test
+    // Message templates are cached unless disabled
+    void shouldCacheMessageTemplatesByDefault() {
+        this.contextRunner.run((context) -> assertThat(context.getBean(MessageResolver.class))
+                .isInstanceOf(CachingMessageResolver.class));
+        this.contextRunner.withPropertyValues("web.starter.i18n.cache-templates=false")
+                .run((context) -> assertThat(context.getBean(MessageResolver.class))
+                        .isInstanceOf(MessageResolverImpl.class));
+    }
+
+    @Test
+    // Error code messages are localized from the message bundles of the supported locales
+    void shouldLocalizeErrorMessages() {
+        this.contextRunner.withPropertyValues("web.starter.i18n.supported-locales=zh,en",
+                "web.starter.i18n.default-locale=en").run((context) -> {
+            LocalizedErrorMessages messages = context.getBean(LocalizedErrorMessages.class);
+            assertThat(messages.getMessage(DefaultErrorCode.INTERNAL_ERROR, Locale.SIMPLIFIED_CHINESE))
+                .isEqualTo("服务器内部错误");
+            assertThat(messages.getMessage(DefaultErrorCode.INTERNAL_ERROR, Locale.ENGLISH)).isNull();
+            GlobalExceptionHandler handler = context.getBean(GlobalExceptionHandler.class);
+            LocaleContextHolder.setLocale(Locale.CHINA);
+            try {
+                assertThat(handler.handleGenericException(new IllegalStateException(),
+                        new ServletWebRequest(new MockHttpServletRequest())).getBody().getMessage())
+                    .isEqualTo("服务器内部错误");
+            }
+            finally {
+                LocaleContextHolder.resetLocaleContext();
+            }
+        });
+    }
+
+    @Test
+    // Accept-Language headers are resolved once and counted as cache hits afterwards
+    void shouldCacheResolvedLocales() {
+        this.contextRunner.withPropertyValues("web.starter.i18n.supported-locales=zh-CN,en",
+                "web.starter.i18n.default-locale=en").run((context) -> {
+            CachingAcceptHeaderLocaleResolver resolver = (CachingAcceptHeaderLocaleResolver) context
+                .getBean(LocaleResolver.class);
+            for (int i = 0; i < 3; i++) {
+                MockHttpServletRequest request = new MockHttpServletRequest();
+                request.addHeader(HttpHeaders.ACCEPT_LANGUAGE, "zh-CN,zh;q=0.9,en;q=0.8");
+                assertThat(resolver.resolveLocale(request)).isEqualTo(Locale.SIMPLIFIED_CHINESE);
+            }
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            context.getBean("localeResolverMeterBinder", MeterBinder.class).bindTo(registry);
+            assertThat(registry.get("web.starter.locale.cache.hits").functionCounter().count()).isEqualTo(2);
+            assertThat(registry.get("web.starter.locale.cache.misses").functionCounter().count()).isEqualTo(1);
+        });
+        this.contextRunner.withPropertyValues("web.starter.i18n.locale-cache-size=0")
+                .run((context) -> assertThat(context.getBean(LocaleResolver.class))
+                        .isNotInstanceOf(CachingAcceptHeaderLocaleResolver.class));
+    }
+
     @Test
     void shouldSkipI18nBeansWhenDisabled() {
         this.contextRunner.withPropertyValues("web.starter.i18n.enabled=false").run((context) -> {
@@ -180,7 +575,7 @@ class WebAutoConfigurationTests {
         this.contextRunner.withPropertyValues("web.starter.cors.enabled=true",
                 "web.starter.cors.allowed-origins=https://a.com",
                 "web.starter.cors.allowed-methods=GET,POST").run((context) -> {
-            WebMvcConfigurer configurer = context.getBean(WebMvcConfigurer.class);
+            WebMvcConfigurer configurer = context.getBean("webStarterCorsConfigurer", WebMvcConfigurer.class);
             RecordingCorsRegistry registry = new RecordingCorsRegistry();
             configurer.addCorsMappings(registry);
             assertThat(registry.lastRegistration).isNotNull();
@@ -190,6 +585,74 @@ class WebAutoConfigurationTests {
         });
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    // Binary formats should be registered after JSON and share the starter Jackson options
+    void shouldRegisterBinaryEnvelopeConverters() {
+        this.contextRunner.withPropertyValues("web.starter.jackson.write-long-as-string=true").run((context) -> {
+            HttpMessageConverters.ServerBuilder builder = HttpMessageConverters.forServer().registerDefaults();
+            context.getBeanProvider(ServerHttpMessageConvertersCustomizer.class)
+                    .orderedStream().forEach((customizer) -> customizer.customize(builder));
+            List<HttpMessageConverter<?>> converters = new ArrayList<>();
+            builder.build().forEach(converters::add);
+            int json = indexOf(converters, JacksonJsonHttpMessageConverter.class);
+            int cbor = indexOf(converters, JacksonCborHttpMessageConverter.class);
+            assertThat(json).isNotNegative();
+            assertThat(cbor).isGreaterThan(json);
+            assertThat(indexOf(converters, JacksonSmileHttpMessageConverter.class)).isGreaterThan(json);
+
+            HttpMessageConverter<Object> converter = (HttpMessageConverter<Object>) converters.get(cbor);
+            MockHttpOutputMessage output = new MockHttpOutputMessage();
+            converter.write(ApiResponse.success(Map.of("id", 42L)), MediaType.APPLICATION_CBOR, output);
+            Map<String, Object> decoded = CBORMapper.builder().build().readValue(output.getBodyAsBytes(), Map.class);
+            assertThat(decoded).containsEntry("code", "0").containsEntry("data", Map.of("id", "42"));
+        });
+    }
+
+    @Test
+    void shouldSkipBinaryConvertersWhenDisabled() {
+        this.contextRunner.withPropertyValues("web.starter.jackson.cbor-enabled=false",
+                "web.starter.jackson.smile-enabled=false")
+                .run((context) -> {
+                    assertThat(context).doesNotHaveBean("webStarterCborConverterCustomizer");
+                    assertThat(context).doesNotHaveBean("webStarterSmileConverterCustomizer");
+                });
+    }
+
+    @Test
+    // The protobuf converter is registered through the converters builder unless disabled
+    void shouldRegisterProtobufConverter() {
+        this.contextRunner.run((context) -> {
+            HttpMessageConverters.ServerBuilder builder = HttpMessageConverters.forServer().registerDefaults();
+            context.getBean("webStarterProtobufConverterCustomizer", ServerHttpMessageConvertersCustomizer.class)
+                    .customize(builder);
+            List<HttpMessageConverter<?>> converters = new ArrayList<>();
+            builder.build().forEach(converters::add);
+            assertThat(indexOf(converters, ApiResponseProtobufHttpMessageConverter.class)).isNotNegative();
+            assertThat(indexOf(converters, JacksonJsonHttpMessageConverter.class)).isNotNegative();
+        });
+        this.contextRunner.withPropertyValues("web.starter.response.protobuf-enabled=false")
+                .run((context) -> assertThat(context).doesNotHaveBean("webStarterProtobufConverterCustomizer"));
+    }
+
+    private static String hs256Token(String secret, String payload) throws Exception {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String signingInput = encoder.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8)) + "."
+                + encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return signingInput + "." + encoder.encodeToString(mac.doFinal(signingInput.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static int indexOf(List<HttpMessageConverter<?>> converters, Class<?> type) {
+        for (int i = 0; i < converters.size(); i++) {
+            if (type.isInstance(converters.get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     private static final class RecordingCorsRegistry extends CorsRegistry {
 
         RecordingCorsRegistration lastRegistration;
@@ -227,4 +690,48 @@ class WebAutoConfigurationTests {
             return super.allowedMethods(methods);
         }
     }
+
+    private record SimpleErrorCode(String code) implements ErrorCode {
+
+        @Override
+        public String getCode() {
+            return this.code;
+        }
+
+        @Override
+        public String getMessage() {
+            return "Contributed";
+        }
+    }
+
+    static class TwoViolations {
+
+        @NotBlank
+        private String name;
+
+        @NotNull
+        private Integer quantity;
+
+        public String getName() {
+            return this.name;
+        }
+
+        public Integer getQuantity() {
+            return this.quantity;
+        }
+    }
+
+    static class SecuredController {
+
+        @LoginRequired
+        public void secured() {
+        }
+    }
+
+    static class ScopedController {
+
+        @LoginRequired("orders:read")
+        public void orders() {
+        }
+    }
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import com.childrengreens.web.context.exception.BusinessException;
+import com.childrengreens.web.context.exception.DefaultErrorCode;
+import com.childrengreens.web.context.exception.GlobalExceptionHandler;
+import com.childrengreens.web.context.response.ApiResponseFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of throwing a {@link BusinessException} from a nested call and
+ * turning it into a response through {@link GlobalExceptionHandler}, with and without
+ * stack trace capture.
+ * <p>
+ * The {@code depth} parameter approximates the number of frames between a controller
+ * method and the servlet container. Logging is bound to slf4j-nop so that only the
+ * exception path is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BusinessExceptionBenchmark {
+
+    @Param({ "true", "false" })
+    private boolean stackTrace;
+
+    @Param({ "16", "128" })
+    private int depth;
+
+    private GlobalExceptionHandler handler;
+
+    @Setup
+    public void setUp() {
+        BusinessException.setStackTraceEnabled(this.stackTrace);
+        this.handler = new GlobalExceptionHandler(new ApiResponseFactory());
+    }
+
+    @TearDown
+    public void tearDown() {
+        BusinessException.setStackTraceEnabled(true);
+    }
+
+    @Benchmark
+    public Object throwAndHandle() {
+        try {
+            return reject(this.depth);
+        }
+        catch (BusinessException ex) {
+            return this.handler.handleBusinessException(ex);
+        }
+    }
+
+    private static Object reject(int remaining) {
+        if (remaining == 0) {
+            throw new BusinessException(DefaultErrorCode.VALIDATION_ERROR, "Order quantity exceeds stock");
+        }
+        return reject(remaining - 1);
+    }
+}
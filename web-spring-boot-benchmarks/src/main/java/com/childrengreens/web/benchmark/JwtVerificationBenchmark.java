@@ -0,0 +1,117 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import com.childrengreens.web.context.auth.jwt.JwtKey;
+import com.childrengreens.web.context.auth.jwt.JwtKeySet;
+import com.childrengreens.web.context.auth.jwt.JwtVerifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of {@link JwtVerifier} for each supported signature
+ * family, with keys parsed once up front.
+ * <p>
+ * Tokens carry a typical set of claims and never expire, so only decoding, signature
+ * verification and claim parsing are measured. Runs with several threads to exercise
+ * the per-thread {@code Mac} and {@code Signature} reuse.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private static final String PAYLOAD = "{\"sub\":\"user-42\",\"iss\":\"https://issuer.example.com\","
+            + "\"aud\":\"orders\",\"scope\":\"orders:read orders:write\",\"iat\":1700000000}";
+
+    @Param({ "HS256", "RS256", "ES256" })
+    private String algorithm;
+
+    private JwtVerifier verifier;
+
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        String header = "{\"alg\":\"" + this.algorithm + "\",\"typ\":\"JWT\",\"kid\":\"k1\"}";
+        String input = ENCODER.encodeToString(header.getBytes(StandardCharsets.UTF_8)) + "."
+                + ENCODER.encodeToString(PAYLOAD.getBytes(StandardCharsets.UTF_8));
+        byte[] signingInput = input.getBytes(StandardCharsets.US_ASCII);
+        JwtKey key;
+        byte[] signature;
+        if (this.algorithm.startsWith("HS")) {
+            byte[] secret = "benchmark-secret-benchmark-secret".getBytes(StandardCharsets.US_ASCII);
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret, "HmacSHA256"));
+            signature = mac.doFinal(signingInput);
+            key = JwtKey.hmac("k1", this.algorithm, secret);
+        }
+        else {
+            boolean rsa = this.algorithm.startsWith("RS");
+            KeyPairGenerator generator = KeyPairGenerator.getInstance(rsa ? "RSA" : "EC");
+            if (rsa) {
+                generator.initialize(2048);
+            }
+            else {
+                generator.initialize(new ECGenParameterSpec("secp256r1"));
+            }
+            KeyPair keyPair = generator.generateKeyPair();
+            Signature signer = Signature.getInstance(rsa ? "SHA256withRSA" : "SHA256withECDSAinP1363Format");
+            signer.initSign(keyPair.getPrivate());
+            signer.update(signingInput);
+            signature = signer.sign();
+            key = JwtKey.publicKey("k1", this.algorithm, keyPair.getPublic());
+        }
+        JwtKeySet keys = JwtKeySet.of(List.of(key));
+        this.verifier = new JwtVerifier(() -> keys, Duration.ofSeconds(60), "https://issuer.example.com", "orders");
+        this.token = input + "." + ENCODER.encodeToString(signature);
+    }
+
+    @Benchmark
+    public Map<String, Object> verify() {
+        return this.verifier.verify(this.token);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.benchmark;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import com.childrengreens.web.context.i18n.CachingMessageResolver;
+import com.childrengreens.web.context.i18n.MessageResolver;
+import com.childrengreens.web.context.i18n.MessageResolverImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.support.ReloadableResourceBundleMessageSource;
+
+/**
+ * Measures resolving messages from a {@link ReloadableResourceBundleMessageSource}
+ * configured like the starter's default, directly through {@link MessageResolverImpl}
+ * and through {@link CachingMessageResolver}, from several threads at once.
+ * <p>
+ * The requested locale falls back to the default bundle, so every direct lookup walks
+ * the locale fallback chain.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class MessageResolverBenchmark {
+
+    private static final Locale LOCALE = Locale.CANADA_FRENCH;
+
+    @Param({ "direct", "caching" })
+    private String resolver;
+
+    private MessageResolver messageResolver;
+
+    @Setup
+    public void setUp() {
+        ReloadableResourceBundleMessageSource messageSource = new ReloadableResourceBundleMessageSource();
+        messageSource.setBasename("classpath:benchmark-i18n/messages");
+        messageSource.setDefaultEncoding("UTF-8");
+        messageSource.setCacheMillis(Duration.ofMinutes(5).toMillis());
+        messageSource.setFallbackToSystemLocale(false);
+        this.messageResolver = "caching".equals(this.resolver)
+                ? new CachingMessageResolver(messageSource, Duration.ofMinutes(5))
+                : new MessageResolverImpl(messageSource);
+    }
+
+    @Benchmark
+    public String plainMessage() {
+        return this.messageResolver.getMessageForLocale("order.created", LOCALE);
+    }
+
+    @Benchmark
+    public String parameterizedMessage() {
+        return this.messageResolver.getMessageForLocale("order.shipped", LOCALE, "A-1024", "Berlin");
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import com.childrengreens.web.context.exception.GlobalExceptionHandler;
+import com.childrengreens.web.context.response.ApiResponseFactory;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Valid;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures validating a large nested DTO in which every element is invalid and
+ * turning the violations into a response through {@link GlobalExceptionHandler},
+ * with Hibernate Validator's fail-fast mode switched on and off.
+ * <p>
+ * The {@code items} parameter controls the size of the nested collection; each item
+ * carries three violations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    @Param({ "true", "false" })
+    private boolean failFast;
+
+    @Param({ "10", "200" })
+    private int items;
+
+    private ValidatorFactory factory;
+
+    private Validator validator;
+
+    private GlobalExceptionHandler handler;
+
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        this.factory = Validation.byDefaultProvider().configure()
+                .addProperty("hibernate.validator.fail_fast", String.valueOf(this.failFast))
+                .buildValidatorFactory();
+        this.validator = this.factory.getValidator();
+        this.handler = new GlobalExceptionHandler(new ApiResponseFactory());
+        this.order = new Order(this.items);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.factory.close();
+    }
+
+    @Benchmark
+    public Object validateAndHandle() {
+        Set<ConstraintViolation<Order>> violations = this.validator.validate(this.order);
+        return this.handler.handleConstraintViolation(new ConstraintViolationException(violations));
+    }
+
+    public static class Order {
+
+        @NotBlank
+        private final String customer = "";
+
+        @Valid
+        @Size(max = 5)
+        private final List<Line> lines = new ArrayList<>();
+
+        Order(int items) {
+            for (int i = 0; i < items; i++) {
+                this.lines.add(new Line());
+            }
+        }
+
+        public String getCustomer() {
+            return this.customer;
+        }
+
+        public List<Line> getLines() {
+            return this.lines;
+        }
+    }
+
+    public static class Line {
+
+        @NotBlank
+        private final String sku = " ";
+
+        @Min(1)
+        private final int quantity = 0;
+
+        @NotNull
+        private final Integer warehouse = null;
+
+        public String getSku() {
+            return this.sku;
+        }
+
+        public int getQuantity() {
+            return this.quantity;
+        }
+
+        public Integer getWarehouse() {
+            return this.warehouse;
+        }
+    }
+}
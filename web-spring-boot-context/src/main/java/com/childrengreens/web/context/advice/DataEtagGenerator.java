@@ -0,0 +1,98 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.advice;
+
+import java.io.OutputStream;
+import java.util.Objects;
+
+import org.springframework.http.MediaType;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Computes weak entity tags from the {@code data} part of an
+ * {@link com.childrengreens.web.context.response.ApiResponse ApiResponse}.
+ * <p>
+ * The envelope carries a per-request trace id, so hashing the full body would never
+ * yield a stable tag. Instead the payload is serialised straight into a 64-bit FNV-1a
+ * hash without buffering the bytes. The tag is weak because the rendered envelope
+ * still differs between requests.
+ */
+public final class DataEtagGenerator {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final ObjectMapper objectMapper;
+
+    public DataEtagGenerator(ObjectMapper objectMapper) {
+        this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper");
+    }
+
+    /**
+     * Generate a weak ETag for the given payload.
+     * @param data the envelope payload, may be {@code null}
+     * @param contentType the negotiated content type, mixed into the hash so that
+     * different representations never share a tag
+     * @return the quoted weak ETag, or {@code null} if the payload cannot be serialised
+     */
+    public String generate(Object data, MediaType contentType) {
+        HashingOutputStream hash = new HashingOutputStream();
+        if (contentType != null) {
+            hash.update(contentType.getType());
+            hash.update(contentType.getSubtype());
+        }
+        try {
+            this.objectMapper.writeValue(hash, data);
+        }
+        catch (JacksonException ex) {
+            return null;
+        }
+        return "W/\"" + toHex(hash.value) + "\"";
+    }
+
+    private static String toHex(long value) {
+        String hex = Long.toHexString(value);
+        return (hex.length() < 16) ? "0".repeat(16 - hex.length()) + hex : hex;
+    }
+
+    private static final class HashingOutputStream extends OutputStream {
+
+        private long value = FNV_OFFSET_BASIS;
+
+        void update(String text) {
+            for (int i = 0; i < text.length(); i++) {
+                write(text.charAt(i));
+            }
+            write(0);
+        }
+
+        @Override
+        public void write(int b) {
+            this.value = (this.value ^ (b & 0xff)) * FNV_PRIME;
+        }
+
+        @Override
+        public void write(byte[] bytes, int off, int len) {
+            long current = this.value;
+            for (int i = off; i < off + len; i++) {
+                current = (current ^ (bytes[i] & 0xff)) * FNV_PRIME;
+            }
+            this.value = current;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.advice;
+
+/**
+ * Controls when error responses are rendered as RFC 9457 problem details.
+ *
+ * @see ProblemDetailResponseAdvice
+ */
+public enum ProblemDetailMode {
+
+    /**
+     * Always render errors as {@code ApiResponse} envelopes.
+     */
+    NEVER,
+
+    /**
+     * Render problem details only for clients that accept
+     * {@code application/problem+json} ahead of other JSON types.
+     */
+    ON_REQUEST,
+
+    /**
+     * Render problem details for every JSON error response.
+     */
+    ALWAYS
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.advice;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import com.childrengreens.web.context.exception.ErrorCode;
+import com.childrengreens.web.context.exception.ErrorCodeRegistry;
+import com.childrengreens.web.context.exception.GlobalExceptionHandler;
+import com.childrengreens.web.context.response.ApiResponse;
+import org.jspecify.annotations.NonNull;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.converter.AbstractJacksonHttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * {@link ResponseBodyAdvice} that renders the error envelopes produced by
+ * {@link GlobalExceptionHandler} as RFC 9457 {@link ProblemDetail}s.
+ * <p>
+ * The {@code type} and {@code title} members are prepared once per registered
+ * {@link ErrorCode}; only the status, detail and extension members {@code code},
+ * {@code traceId} and, for validation failures, {@code errors} are filled in per
+ * request. The problem detail replaces the
+ * envelope before it is written, so the body is serialised exactly once.
+ */
+@ControllerAdvice
+public class ProblemDetailResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    private final ProblemDetailMode mode;
+
+    private final String typeBase;
+
+    private final Map<String, Template> templates;
+
+    public ProblemDetailResponseAdvice(ProblemDetailMode mode, ErrorCodeRegistry errorCodeRegistry) {
+        this(mode, errorCodeRegistry, null);
+    }
+
+    /**
+     * Create a new advice.
+     * @param mode when problem details should be rendered
+     * @param errorCodeRegistry the error codes to prepare templates for
+     * @param typeBase base URI that the error code is appended to in order to form the
+     * problem {@code type}, or {@code null} to use {@code about:blank}
+     */
+    public ProblemDetailResponseAdvice(ProblemDetailMode mode, ErrorCodeRegistry errorCodeRegistry,
+            String typeBase) {
+        this.mode = Objects.requireNonNull(mode, "mode");
+        this.typeBase = typeBase;
+        Map<String, Template> templates = new HashMap<>();
+        for (ErrorCode errorCode : errorCodeRegistry.getErrorCodes()) {
+            templates.put(errorCode.getCode(), createTemplate(errorCode.getCode(), errorCode.getMessage()));
+        }
+        this.templates = Map.copyOf(templates);
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, @NonNull Class converterType) {
+        return this.mode != ProblemDetailMode.NEVER
+                && GlobalExceptionHandler.class.isAssignableFrom(returnType.getContainingClass())
+                && AbstractJacksonHttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, @NonNull MethodParameter returnType, @NonNull MediaType selectedContentType,
+            @NonNull Class selectedConverterType, @NonNull ServerHttpRequest request, @NonNull ServerHttpResponse response) {
+        if (!(body instanceof ApiResponse<?> apiResponse) || !isProblemDetailRequested(selectedContentType)) {
+            return body;
+        }
+        int status = (response instanceof ServletServerHttpResponse servletResponse)
+                ? servletResponse.getServletResponse().getStatus() : 500;
+        if (status < 400) {
+            return body;
+        }
+        Template template = this.templates.get(apiResponse.getCode());
+        if (template == null) {
+            template = createTemplate(apiResponse.getCode(), null);
+        }
+        ProblemDetail problemDetail = template.create(status, apiResponse);
+        problemDetail.setInstance(URI.create(request.getURI().getRawPath()));
+        response.getHeaders().setContentType(MediaType.APPLICATION_PROBLEM_JSON);
+        return problemDetail;
+    }
+
+    private boolean isProblemDetailRequested(MediaType selectedContentType) {
+        if (this.mode == ProblemDetailMode.ON_REQUEST) {
+            return MediaType.APPLICATION_PROBLEM_JSON.equalsTypeAndSubtype(selectedContentType);
+        }
+        return MediaType.APPLICATION_JSON.equalsTypeAndSubtype(selectedContentType)
+                || "json".equals(selectedContentType.getSubtypeSuffix());
+    }
+
+    private Template createTemplate(String code, String title) {
+        URI type = (this.typeBase != null) ? URI.create(this.typeBase + code) : null;
+        return new Template(type, title);
+    }
+
+    private record Template(URI type, String title) {
+
+        ProblemDetail create(int status, ApiResponse<?> response) {
+            ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+                    HttpStatusCode.valueOf(status), response.getMessage());
+            if (this.type != null) {
+                problemDetail.setType(this.type);
+            }
+            if (this.title != null) {
+                problemDetail.setTitle(this.title);
+            }
+            problemDetail.setProperty("code", response.getCode());
+            if (response.getData() != null) {
+                problemDetail.setProperty("errors", response.getData());
+            }
+            String traceId = response.getTraceId();
+            if (traceId != null) {
+                problemDetail.setProperty("traceId", traceId);
+            }
+            return problemDetail;
+        }
+    }
+}
@@ -19,17 +19,27 @@ import com.childrengreens.web.context.response.ApiResponse;
 import com.childrengreens.web.context.response.ApiResponseFactory;
 import org.jspecify.annotations.NonNull;
 import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.AbstractJacksonHttpMessageConverter;
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
 import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
 
 /**
  * {@link ResponseBodyAdvice} that ensures all responses share the same layout.
+ * <p>
+ * When a {@link DataEtagGenerator} is configured, successful {@code GET} and
+ * {@code HEAD} responses carry a weak ETag derived from the payload only, and a
+ * matching {@code If-None-Match} short-circuits the body with {@code 304 Not Modified}.
  */
 @ControllerAdvice
 public class ResponseWrappingAdvice implements ResponseBodyAdvice<Object> {
@@ -38,30 +48,64 @@ public class ResponseWrappingAdvice implements ResponseBodyAdvice<Object> {
 
     private final boolean wrapOnNullBody;
 
+    private final DataEtagGenerator etagGenerator;
+
     public ResponseWrappingAdvice(ApiResponseFactory responseFactory) {
         this(responseFactory, true);
     }
 
     public ResponseWrappingAdvice(ApiResponseFactory responseFactory, boolean wrapOnNullBody) {
+        this(responseFactory, wrapOnNullBody, null);
+    }
+
+    public ResponseWrappingAdvice(ApiResponseFactory responseFactory, boolean wrapOnNullBody,
+            DataEtagGenerator etagGenerator) {
         this.responseFactory = responseFactory;
         this.wrapOnNullBody = wrapOnNullBody;
+        this.etagGenerator = etagGenerator;
     }
 
     @Override
     public boolean supports(@NonNull MethodParameter returnType, @NonNull Class converterType) {
-        return AbstractJacksonHttpMessageConverter.class.isAssignableFrom(converterType);
+        return AbstractJacksonHttpMessageConverter.class.isAssignableFrom(converterType)
+                || EnvelopeAwareHttpMessageConverter.class.isAssignableFrom(converterType);
     }
 
     @Override
     public Object beforeBodyWrite(Object body, @NonNull MethodParameter returnType, @NonNull MediaType selectedContentType,
                                   @NonNull Class selectedConverterType, @NonNull ServerHttpRequest request, @NonNull ServerHttpResponse response) {
-        if (body instanceof ApiResponse<?> || body instanceof ResponseEntity<?> || body instanceof String) {
+        if (body instanceof ApiResponse<?> apiResponse) {
+            return applyEtag(apiResponse, selectedContentType, request, response);
+        }
+        if (body instanceof ResponseEntity<?> || body instanceof ProblemDetail || body instanceof String) {
             return body;
         }
         if (body == null && !this.wrapOnNullBody) {
             response.setStatusCode(HttpStatus.NO_CONTENT);
             return null;
         }
-        return this.responseFactory.success(body);
+        return applyEtag(this.responseFactory.success(body), selectedContentType, request, response);
+    }
+
+    private Object applyEtag(ApiResponse<?> body, MediaType contentType, ServerHttpRequest request,
+            ServerHttpResponse response) {
+        if (this.etagGenerator == null || !(request instanceof ServletServerHttpRequest servletRequest)
+                || !(response instanceof ServletServerHttpResponse servletResponse)) {
+            return body;
+        }
+        HttpMethod method = request.getMethod();
+        if ((method != HttpMethod.GET && method != HttpMethod.HEAD)
+                || servletResponse.getServletResponse().getStatus() != HttpStatus.OK.value()
+                || servletResponse.getServletResponse().containsHeader(HttpHeaders.ETAG)
+                || !this.responseFactory.isSuccess(body)) {
+            return body;
+        }
+        String etag = this.etagGenerator.generate(body.getData(), contentType);
+        if (etag == null) {
+            return body;
+        }
+        ServletWebRequest webRequest = new ServletWebRequest(servletRequest.getServletRequest(),
+                servletResponse.getServletResponse());
+        return webRequest.checkNotModified(etag) ? null : body;
     }
 }
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.auth;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionStage;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.springframework.web.method.HandlerMethod;
+
+/**
+ * Non-blocking variant of {@link LoginRequirementEvaluator} for evaluators that
+ * consult a remote session or token service. Lookups can be shared between
+ * concurrent requests, for example through a {@link BatchingLookup}.
+ * <p>
+ * {@link LoginRequiredInterceptor} works with synchronous evaluators; use
+ * {@link #toBlocking(Duration)} to bridge an asynchronous one.
+ */
+@FunctionalInterface
+public interface AsyncLoginRequirementEvaluator {
+
+    /**
+     * Evaluate whether the caller is authenticated. Authentication failures complete
+     * the returned stage exceptionally with an application specific exception.
+     * @param request current HTTP request
+     * @param handler handler method resolved for the request
+     * @param scope optional scope provided via {@link LoginRequired}
+     * @return a stage completed once the caller is known to be authenticated
+     */
+    CompletionStage<Void> evaluate(HttpServletRequest request, HandlerMethod handler, String scope);
+
+    /**
+     * Adapt this evaluator to the synchronous contract.
+     * @param timeout how long to wait for an outcome
+     * @return the synchronous evaluator
+     * @see AsyncLoginRequirementEvaluatorAdapter
+     */
+    default LoginRequirementEvaluator toBlocking(Duration timeout) {
+        return new AsyncLoginRequirementEvaluatorAdapter(this, timeout);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.auth;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import com.childrengreens.web.context.exception.ServiceUnavailableException;
+import org.springframework.util.Assert;
+import org.springframework.web.method.HandlerMethod;
+
+/**
+ * {@link LoginRequirementEvaluator} that waits for an
+ * {@link AsyncLoginRequirementEvaluator}.
+ * <p>
+ * Handler interceptors run before the handler and cannot suspend the request, so the
+ * calling thread waits for the outcome. Stages that are already complete, for
+ * example cached outcomes, are consumed without blocking, and waiting is cheap when
+ * requests run on virtual threads ({@code spring.threads.virtual.enabled}). The
+ * request thread is never held longer than the configured timeout; an evaluation
+ * that does not complete in time is rejected with a
+ * {@link ServiceUnavailableException}.
+ */
+public class AsyncLoginRequirementEvaluatorAdapter implements LoginRequirementEvaluator {
+
+    private final AsyncLoginRequirementEvaluator delegate;
+
+    private final long timeoutNanos;
+
+    private final Duration retryAfter;
+
+    public AsyncLoginRequirementEvaluatorAdapter(AsyncLoginRequirementEvaluator delegate, Duration timeout) {
+        Assert.notNull(delegate, "delegate must not be null");
+        Assert.isTrue(timeout != null && !timeout.isNegative() && !timeout.isZero(), "timeout must be positive");
+        this.delegate = delegate;
+        this.timeoutNanos = timeout.toNanos();
+        this.retryAfter = timeout;
+    }
+
+    @Override
+    public void assertAuthenticated(HttpServletRequest request, HandlerMethod handler, String scope) {
+        CompletableFuture<Void> outcome = this.delegate.evaluate(request, handler, scope).toCompletableFuture();
+        try {
+            if (outcome.isDone()) {
+                outcome.join();
+            }
+            else {
+                outcome.get(this.timeoutNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+        catch (CompletionException | ExecutionException ex) {
+            throw rethrow(ex.getCause() != null ? ex.getCause() : ex);
+        }
+        catch (TimeoutException ex) {
+            outcome.cancel(false);
+            throw new ServiceUnavailableException("Authentication timed out", this.retryAfter);
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Authentication interrupted", null);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable failure) {
+        if (failure instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (failure instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException("Authentication failed", failure);
+    }
+}
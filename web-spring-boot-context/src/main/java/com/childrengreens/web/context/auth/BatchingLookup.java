@@ -0,0 +1,152 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.auth;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import org.springframework.util.Assert;
+
+/**
+ * Coalesces concurrent key lookups against a remote service into batches, for use by
+ * {@link AsyncLoginRequirementEvaluator} implementations.
+ * <p>
+ * Concurrent requests for the same key share one result. Keys requested while the
+ * maximum number of batches is in flight are queued and sent together as soon as a
+ * batch completes, so batching adapts to load without a timer: an idle service sees
+ * single-key batches, a busy one sees larger ones.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public class BatchingLookup<K, V> {
+
+    private final Function<Set<K>, ? extends CompletionStage<Map<K, V>>> loader;
+
+    private final int maxBatchSize;
+
+    private final int maxConcurrentBatches;
+
+    private final Object lock = new Object();
+
+    private final Map<K, CompletableFuture<V>> queued = new LinkedHashMap<>();
+
+    private final Map<K, CompletableFuture<V>> loading = new LinkedHashMap<>();
+
+    private int inFlight;
+
+    /**
+     * Create a new lookup.
+     * @param loader loads the values of a set of keys; keys absent from the returned
+     * map resolve to {@code null}
+     * @param maxBatchSize the maximum number of keys per batch
+     * @param maxConcurrentBatches the maximum number of batches in flight
+     */
+    public BatchingLookup(Function<Set<K>, ? extends CompletionStage<Map<K, V>>> loader, int maxBatchSize,
+            int maxConcurrentBatches) {
+        Assert.notNull(loader, "loader must not be null");
+        Assert.isTrue(maxBatchSize > 0, "maxBatchSize must be positive");
+        Assert.isTrue(maxConcurrentBatches > 0, "maxConcurrentBatches must be positive");
+        this.loader = loader;
+        this.maxBatchSize = maxBatchSize;
+        this.maxConcurrentBatches = maxConcurrentBatches;
+    }
+
+    /**
+     * Look up the value of the given key.
+     * @param key the key
+     * @return a future completed with the value, or {@code null} if the loader did not
+     * return one
+     */
+    public CompletableFuture<V> get(K key) {
+        Assert.notNull(key, "key must not be null");
+        Map<K, CompletableFuture<V>> batch;
+        CompletableFuture<V> future;
+        synchronized (this.lock) {
+            future = this.loading.get(key);
+            if (future == null) {
+                future = this.queued.computeIfAbsent(key, (k) -> new CompletableFuture<>());
+            }
+            batch = nextBatch();
+        }
+        if (batch != null) {
+            dispatch(batch);
+        }
+        return future;
+    }
+
+    private Map<K, CompletableFuture<V>> nextBatch() {
+        if (this.queued.isEmpty() || this.inFlight >= this.maxConcurrentBatches) {
+            return null;
+        }
+        Map<K, CompletableFuture<V>> batch = new LinkedHashMap<>();
+        var iterator = this.queued.entrySet().iterator();
+        while (iterator.hasNext() && batch.size() < this.maxBatchSize) {
+            Map.Entry<K, CompletableFuture<V>> entry = iterator.next();
+            batch.put(entry.getKey(), entry.getValue());
+            this.loading.put(entry.getKey(), entry.getValue());
+            iterator.remove();
+        }
+        this.inFlight++;
+        return batch;
+    }
+
+    private void dispatch(Map<K, CompletableFuture<V>> batch) {
+        CompletionStage<Map<K, V>> stage;
+        try {
+            stage = this.loader.apply(Collections.unmodifiableSet(batch.keySet()));
+        }
+        catch (RuntimeException ex) {
+            stage = CompletableFuture.failedFuture(ex);
+        }
+        stage.whenComplete((values, failure) -> complete(batch, values, failure));
+    }
+
+    private void complete(Map<K, CompletableFuture<V>> batch, Map<K, V> values, Throwable failure) {
+        Map<K, CompletableFuture<V>> next;
+        synchronized (this.lock) {
+            batch.keySet().forEach(this.loading::remove);
+            this.inFlight--;
+            next = nextBatch();
+        }
+        batch.forEach((key, future) -> {
+            if (failure != null) {
+                future.completeExceptionally(failure);
+            }
+            else {
+                future.complete((values != null) ? values.get(key) : null);
+            }
+        });
+        if (next != null) {
+            dispatch(next);
+        }
+    }
+
+    /**
+     * Return the number of keys queued or being loaded.
+     * @return the pending key count
+     */
+    int pending() {
+        synchronized (this.lock) {
+            return this.queued.size() + this.loading.size();
+        }
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import com.childrengreens.web.context.exception.BusinessException;
+import com.childrengreens.web.context.exception.ErrorCode;
+import com.childrengreens.web.context.exception.UnauthorizedException;
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.springframework.util.Assert;
+import org.springframework.web.method.HandlerMethod;
+
+/**
+ * {@link LoginRequirementEvaluator} decorator that caches the outcome of the
+ * delegate per credential and scope.
+ * <p>
+ * Credentials are never stored: entries are keyed by the SHA-256 digest of the
+ * credential extracted from the request together with the required scope. Successful
+ * checks are cached for the configured time-to-live. Rejections raised as a plain
+ * {@link UnauthorizedException} or {@link BusinessException} are cached for the
+ * negative time-to-live, and every hit throws a new exception carrying the same
+ * message and error code; any other failure is propagated and not cached. Concurrent
+ * requests carrying the same credential wait for a single in-flight delegate call
+ * instead of issuing their own. Requests without a credential always reach the
+ * delegate.
+ * <p>
+ * The cache is only suitable for evaluators whose decision depends on nothing but the
+ * credential and scope, whose credentials stay valid for at least the time-to-live,
+ * and that have no per-request side effects such as exposing the principal or its
+ * claims as a request attribute. Self-contained tokens such as JWTs meet none of
+ * these and must not be wrapped. Once {@code maxSize} entries are held, expired
+ * entries are swept at most once per the shorter time-to-live; until a sweep frees
+ * room, further credentials are evaluated without caching. A flood of unique
+ * credentials therefore costs one full scan per interval rather than one per request.
+ */
+public class CachingLoginRequirementEvaluator implements LoginRequirementEvaluator {
+
+    private static final Function<HttpServletRequest, String> AUTHORIZATION_HEADER =
+            (request) -> request.getHeader("Authorization");
+
+    private static final Supplier<RuntimeException> UNCACHED = () -> null;
+
+    private static final long MIN_SWEEP_INTERVAL_NANOS = Duration.ofMillis(1).toNanos();
+
+    private final LoginRequirementEvaluator delegate;
+
+    private final Function<HttpServletRequest, String> credentialExtractor;
+
+    private final long ttlNanos;
+
+    private final long negativeTtlNanos;
+
+    private final int maxSize;
+
+    private final LongSupplier clock;
+
+    private final long sweepIntervalNanos;
+
+    private final AtomicLong nextSweep;
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    public CachingLoginRequirementEvaluator(LoginRequirementEvaluator delegate, Duration ttl, Duration negativeTtl,
+            int maxSize) {
+        this(delegate, AUTHORIZATION_HEADER, ttl, negativeTtl, maxSize);
+    }
+
+    public CachingLoginRequirementEvaluator(LoginRequirementEvaluator delegate,
+            Function<HttpServletRequest, String> credentialExtractor, Duration ttl, Duration negativeTtl, int maxSize) {
+        this(delegate, credentialExtractor, ttl, negativeTtl, maxSize, System::nanoTime);
+    }
+
+    CachingLoginRequirementEvaluator(LoginRequirementEvaluator delegate,
+            Function<HttpServletRequest, String> credentialExtractor, Duration ttl, Duration negativeTtl, int maxSize,
+            LongSupplier clock) {
+        Assert.notNull(delegate, "delegate must not be null");
+        Assert.notNull(credentialExtractor, "credentialExtractor must not be null");
+        Assert.isTrue(ttl != null && !ttl.isNegative(), "ttl must not be negative");
+        Assert.isTrue(negativeTtl != null && !negativeTtl.isNegative(), "negativeTtl must not be negative");
+        Assert.isTrue(maxSize > 0, "maxSize must be positive");
+        this.delegate = delegate;
+        this.credentialExtractor = credentialExtractor;
+        this.ttlNanos = ttl.toNanos();
+        this.negativeTtlNanos = negativeTtl.toNanos();
+        this.maxSize = maxSize;
+        this.clock = Objects.requireNonNull(clock, "clock");
+        long shortestTtl = (this.negativeTtlNanos > 0) ? Math.min(this.ttlNanos, this.negativeTtlNanos) : this.ttlNanos;
+        this.sweepIntervalNanos = Math.max(shortestTtl, MIN_SWEEP_INTERVAL_NANOS);
+        this.nextSweep = new AtomicLong(clock.getAsLong());
+    }
+
+    @Override
+    public void assertAuthenticated(HttpServletRequest request, HandlerMethod handler, String scope) {
+        String credential = this.credentialExtractor.apply(request);
+        if (credential == null || credential.isEmpty()) {
+            this.delegate.assertAuthenticated(request, handler, scope);
+            return;
+        }
+        Key key = new Key(digest(credential), (scope != null) ? scope : "");
+        long now = this.clock.getAsLong();
+        Entry entry = this.entries.get(key);
+        if (entry == null || entry.isExpired(now)) {
+            if (entry == null && this.entries.size() >= this.maxSize && !sweep(now)) {
+                this.delegate.assertAuthenticated(request, handler, scope);
+                return;
+            }
+            Entry created = new Entry();
+            entry = this.entries.compute(key, (k, current) ->
+                    (current == null || current.isExpired(now)) ? created : current);
+            if (entry == created) {
+                load(key, created, request, handler, scope);
+                return;
+            }
+        }
+        Supplier<RuntimeException> failure = entry.await();
+        if (failure == UNCACHED) {
+            this.delegate.assertAuthenticated(request, handler, scope);
+        }
+        else if (failure != null) {
+            throw failure.get();
+        }
+    }
+
+    private void load(Key key, Entry entry, HttpServletRequest request, HandlerMethod handler, String scope) {
+        try {
+            this.delegate.assertAuthenticated(request, handler, scope);
+            entry.complete(null, this.clock.getAsLong() + this.ttlNanos);
+        }
+        catch (RuntimeException ex) {
+            Supplier<RuntimeException> failure = copyOf(ex);
+            if (failure != null) {
+                entry.complete(failure, this.clock.getAsLong() + this.negativeTtlNanos);
+            }
+            else {
+                this.entries.remove(key, entry);
+                entry.complete(UNCACHED, this.clock.getAsLong());
+            }
+            throw ex;
+        }
+        catch (Error ex) {
+            this.entries.remove(key, entry);
+            entry.fail(ex);
+            throw ex;
+        }
+    }
+
+    private boolean sweep(long now) {
+        long due = this.nextSweep.get();
+        if (now - due < 0 || !this.nextSweep.compareAndSet(due, now + this.sweepIntervalNanos)) {
+            return false;
+        }
+        this.entries.values().removeIf((entry) -> entry.isExpired(now));
+        return this.entries.size() < this.maxSize;
+    }
+
+    private static Supplier<RuntimeException> copyOf(RuntimeException ex) {
+        String message = ex.getMessage();
+        if (ex.getClass() == UnauthorizedException.class) {
+            return () -> new UnauthorizedException(message);
+        }
+        if (ex.getClass() == BusinessException.class) {
+            ErrorCode errorCode = ((BusinessException) ex).getErrorCode();
+            return () -> new BusinessException(errorCode, message, null, false);
+        }
+        return null;
+    }
+
+    private static String digest(String credential) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(credential.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        }
+        catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    /**
+     * Return the number of cached outcomes, including in-flight and expired ones.
+     * @return the cache size
+     */
+    int size() {
+        return this.entries.size();
+    }
+
+    private record Key(String credentialHash, String scope) {
+    }
+
+    private static final class Entry {
+
+        private final CompletableFuture<Supplier<RuntimeException>> outcome = new CompletableFuture<>();
+
+        private volatile long expiresAt = Long.MAX_VALUE;
+
+        boolean isExpired(long now) {
+            return this.outcome.isDone() && now - this.expiresAt >= 0;
+        }
+
+        void complete(Supplier<RuntimeException> failure, long expiresAt) {
+            this.expiresAt = expiresAt;
+            this.outcome.complete(failure);
+        }
+
+        void fail(Throwable ex) {
+            this.outcome.completeExceptionally(ex);
+        }
+
+        Supplier<RuntimeException> await() {
+            try {
+                return this.outcome.join();
+            }
+            catch (CompletionException ex) {
+                if (ex.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw ex;
+            }
+        }
+    }
+}
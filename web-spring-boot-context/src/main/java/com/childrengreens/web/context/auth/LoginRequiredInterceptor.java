@@ -15,46 +15,210 @@
  */
 package com.childrengreens.web.context.auth;
 
+import java.lang.annotation.Annotation;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
-import org.springframework.lang.Nullable;
+import com.childrengreens.web.context.exception.TooManyRequestsException;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.MethodClassKey;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.RequestPath;
 import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.util.ServletRequestPathUtils;
 
 /**
  * {@link HandlerInterceptor} that delegates authentication decisions to a
  * configurable {@link LoginRequirementEvaluator} whenever a handler is annotated
  * with {@link LoginRequired}.
+ * <p>
+ * The requirement of each handler method, including the absence of one, is resolved
+ * once and cached by method and bean type, so the per-request cost is a single map
+ * lookup rather than a merged annotation search.
+ * <p>
+ * Type-level annotations are found with merged annotation semantics, as method-level
+ * ones are: the {@code value} alias is honoured, and an annotation declared on a
+ * superclass, an interface or as a meta-annotation applies to the handler as well.
+ * <p>
+ * Include and exclude patterns can be supplied as pre-compiled
+ * {@link PathPatternIndex} instances instead of being registered on the
+ * interceptor registration. The request path is then only resolved and matched for
+ * handlers that actually carry a requirement, at a cost independent of the number
+ * of patterns. Matching uses the parsed request path, decoded and without
+ * {@code ;} parameters, the same way the handler mapping sees it.
+ * <p>
+ * When a {@link TokenBucketRateLimiter} is configured, handlers annotated with
+ * {@link RateLimited}, and optionally all {@link LoginRequired} handlers, are also
+ * subject to a per-principal quota once authenticated. Exhausted quotas are
+ * reported as a {@link TooManyRequestsException}.
  */
 public class LoginRequiredInterceptor implements HandlerInterceptor {
 
+    private static final Requirement NONE = new Requirement(false, null, null, null);
+
     private final LoginRequirementEvaluator evaluator;
 
+    private final PathPatternIndex includePatterns;
+
+    private final PathPatternIndex excludePatterns;
+
+    @Nullable
+    private final TokenBucketRateLimiter rateLimiter;
+
+    @Nullable
+    private final RateLimitKeyResolver keyResolver;
+
+    @Nullable
+    private final RateLimit defaultLimit;
+
+    private final Map<MethodClassKey, Requirement> requirements = new ConcurrentHashMap<>();
+
     public LoginRequiredInterceptor(LoginRequirementEvaluator evaluator) {
+        this(evaluator, PathPatternIndex.compile(List.of()), PathPatternIndex.compile(List.of()));
+    }
+
+    /**
+     * Create an interceptor restricted to the given paths.
+     * @param evaluator the evaluator to delegate to
+     * @param includePatterns the paths to check, or an empty index for all paths
+     * @param excludePatterns the paths to skip
+     */
+    public LoginRequiredInterceptor(LoginRequirementEvaluator evaluator, PathPatternIndex includePatterns,
+            PathPatternIndex excludePatterns) {
+        this(evaluator, includePatterns, excludePatterns, null, null, null);
+    }
+
+    /**
+     * Create an interceptor restricted to the given paths that also enforces request
+     * quotas.
+     * @param evaluator the evaluator to delegate to
+     * @param includePatterns the paths to check, or an empty index for all paths
+     * @param excludePatterns the paths to skip
+     * @param rateLimiter the limiter holding the quota buckets, or {@code null} to
+     * disable rate limiting
+     * @param keyResolver the resolver of the principal each request is counted
+     * against, required with a rate limiter
+     * @param defaultLimit the quota of {@link LoginRequired} handlers that do not
+     * declare {@link RateLimited}, or {@code null} for none
+     */
+    public LoginRequiredInterceptor(LoginRequirementEvaluator evaluator, PathPatternIndex includePatterns,
+            PathPatternIndex excludePatterns, @Nullable TokenBucketRateLimiter rateLimiter,
+            @Nullable RateLimitKeyResolver keyResolver, @Nullable RateLimit defaultLimit) {
         Assert.notNull(evaluator, "evaluator must not be null");
+        Assert.notNull(includePatterns, "includePatterns must not be null");
+        Assert.notNull(excludePatterns, "excludePatterns must not be null");
+        Assert.isTrue(rateLimiter == null || keyResolver != null, "keyResolver is required with a rateLimiter");
         this.evaluator = evaluator;
+        this.includePatterns = includePatterns;
+        this.excludePatterns = excludePatterns;
+        this.rateLimiter = rateLimiter;
+        this.keyResolver = keyResolver;
+        this.defaultLimit = defaultLimit;
     }
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
-        LoginRequired requirement = resolveRequirement(handler);
-        if (requirement != null && handler instanceof HandlerMethod handlerMethod) {
-            this.evaluator.assertAuthenticated(request, handlerMethod, requirement.scope());
+        if (handler instanceof HandlerMethod handlerMethod) {
+            Requirement requirement = getRequirement(handlerMethod);
+            if (requirement != NONE && isApplicable(request)) {
+                if (requirement.login()) {
+                    this.evaluator.assertAuthenticated(request, handlerMethod, requirement.scope());
+                }
+                if (requirement.limit() != null) {
+                    assertWithinLimit(request, requirement);
+                }
+            }
         }
         return true;
     }
 
-    @Nullable
-    private LoginRequired resolveRequirement(Object handler) {
-        if (!(handler instanceof HandlerMethod handlerMethod)) {
-            return null;
+    private void assertWithinLimit(HttpServletRequest request, Requirement requirement) {
+        String principal = this.keyResolver.resolveKey(request);
+        if (principal == null) {
+            return;
         }
-        LoginRequired requirement = handlerMethod.getMethodAnnotation(LoginRequired.class);
-        if (requirement != null) {
-            return requirement;
+        long waitNanos = this.rateLimiter.tryAcquire(requirement.keyPrefix() + principal, requirement.limit());
+        if (waitNanos > 0) {
+            throw new TooManyRequestsException(Duration.ofNanos(waitNanos));
         }
-        return handlerMethod.getBeanType().getAnnotation(LoginRequired.class);
+    }
+
+    private boolean isApplicable(HttpServletRequest request) {
+        if (this.includePatterns.isEmpty() && this.excludePatterns.isEmpty()) {
+            return true;
+        }
+        PathContainer path = ServletRequestPathUtils.hasParsedRequestPath(request)
+                ? ServletRequestPathUtils.getParsedRequestPath(request).pathWithinApplication()
+                : RequestPath.parse(request.getRequestURI(), request.getContextPath()).pathWithinApplication();
+        return (this.includePatterns.isEmpty() || this.includePatterns.matches(path))
+                && !this.excludePatterns.matches(path);
+    }
+
+    private Requirement getRequirement(HandlerMethod handlerMethod) {
+        MethodClassKey key = new MethodClassKey(handlerMethod.getMethod(), handlerMethod.getBeanType());
+        Requirement requirement = this.requirements.get(key);
+        if (requirement == null) {
+            requirement = this.requirements.computeIfAbsent(key, (k) -> resolveRequirement(handlerMethod));
+        }
+        return requirement;
+    }
+
+    private Requirement resolveRequirement(HandlerMethod handlerMethod) {
+        LoginRequired login = findAnnotation(handlerMethod, LoginRequired.class);
+        String scope = (login != null) ? login.scope() : null;
+        RateLimit limit = null;
+        String group = handlerMethod.getMethod().toGenericString();
+        if (this.rateLimiter != null) {
+            RateLimited rateLimited = findAnnotation(handlerMethod, RateLimited.class);
+            if (rateLimited != null) {
+                limit = new RateLimit(rateLimited.permits(),
+                        Duration.of(rateLimited.period(), rateLimited.unit().toChronoUnit()),
+                        (rateLimited.burst() > 0) ? rateLimited.burst() : rateLimited.permits());
+                if (StringUtils.hasLength(rateLimited.group())) {
+                    group = rateLimited.group();
+                }
+            }
+            else if (login != null && this.defaultLimit != null) {
+                limit = this.defaultLimit;
+            }
+        }
+        if (login == null && limit == null) {
+            return NONE;
+        }
+        return new Requirement(login != null, scope, limit, (limit != null) ? keyPrefix(group, limit) : null);
+    }
+
+    private static String keyPrefix(String group, RateLimit limit) {
+        return group + '\n' + limit.permits() + '/' + limit.period().toNanos() + '/' + limit.burst() + '\n';
+    }
+
+    private static <A extends Annotation> @Nullable A findAnnotation(HandlerMethod handlerMethod,
+            Class<A> annotationType) {
+        A annotation = handlerMethod.getMethodAnnotation(annotationType);
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), annotationType);
+        }
+        return annotation;
+    }
+
+    /**
+     * Return the number of handler methods whose requirement has been resolved.
+     * @return the cache size
+     */
+    int cachedRequirements() {
+        return this.requirements.size();
+    }
+
+    private record Requirement(boolean login, @Nullable String scope, @Nullable RateLimit limit,
+            @Nullable String keyPrefix) {
     }
 }
@@ -0,0 +1,282 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.auth;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * Set of path patterns compiled into a single segment trie, so that matching a path
+ * costs time proportional to its number of segments rather than to the number of
+ * patterns.
+ * <p>
+ * Patterns follow {@link PathPattern} semantics. Literal segments, {@code *},
+ * full-segment {@code {variable}} captures and a trailing {@code **} or
+ * {@code {*variable}} are compiled into the trie. Patterns using any other syntax,
+ * such as {@code ?}, partial wildcards like {@code *.css}, regular expression
+ * captures or a leading {@code **}, are kept as parsed {@link PathPattern}s and
+ * checked one by one after the trie.
+ */
+public final class PathPatternIndex {
+
+    private static final PathPatternIndex EMPTY = new PathPatternIndex(new Node(), List.of());
+
+    private final Node root;
+
+    private final List<PathPattern> fallback;
+
+    private PathPatternIndex(Node root, List<PathPattern> fallback) {
+        this.root = root;
+        this.fallback = fallback;
+    }
+
+    /**
+     * Compile the given patterns.
+     * @param patterns the patterns
+     * @return the index
+     * @throws org.springframework.web.util.pattern.PatternParseException if a pattern
+     * that cannot be compiled into the trie is invalid
+     */
+    public static PathPatternIndex compile(Collection<String> patterns) {
+        if (patterns.isEmpty()) {
+            return EMPTY;
+        }
+        Node root = new Node();
+        List<PathPattern> fallback = new ArrayList<>();
+        for (String pattern : patterns) {
+            if (!insert(root, pattern)) {
+                fallback.add(PathPatternParser.defaultInstance.parse(pattern));
+            }
+        }
+        return new PathPatternIndex(root, List.copyOf(fallback));
+    }
+
+    /**
+     * Return whether no pattern was compiled.
+     * @return {@code true} if the index never matches
+     */
+    public boolean isEmpty() {
+        return this == EMPTY;
+    }
+
+    /**
+     * Return whether any pattern matches the given path.
+     * @param path the encoded path within the application, for example
+     * {@code /api/orders/42}
+     * @return {@code true} on a match
+     */
+    public boolean matches(String path) {
+        return matches(PathContainer.parsePath(path));
+    }
+
+    /**
+     * Return whether any pattern matches the given parsed path. Like
+     * {@link PathPattern}, segments are compared by their
+     * {@link PathContainer.PathSegment#valueToMatch() decoded value without path
+     * parameters}, so encoded characters and {@code ;} parameters cannot be used to
+     * evade a pattern.
+     * @param path the path within the application
+     * @return {@code true} on a match
+     */
+    public boolean matches(PathContainer path) {
+        return matchesTrie(path) || matchesFallback(path);
+    }
+
+    private boolean matchesTrie(PathContainer path) {
+        List<Node> current = new ArrayList<>(4);
+        add(current, this.root);
+        List<PathContainer.Element> elements = path.elements();
+        int start = (!elements.isEmpty() && !(elements.get(0) instanceof PathContainer.PathSegment)) ? 1 : 0;
+        if (elements.isEmpty()) {
+            return isTerminal(current);
+        }
+        boolean expectingSegment = true;
+        for (int i = start; i <= elements.size(); i++) {
+            String segment;
+            if (i == elements.size()) {
+                if (!expectingSegment) {
+                    break;
+                }
+                segment = "";
+            }
+            else if (elements.get(i) instanceof PathContainer.PathSegment pathSegment) {
+                segment = pathSegment.valueToMatch();
+                expectingSegment = false;
+            }
+            else if (expectingSegment) {
+                segment = "";
+            }
+            else {
+                expectingSegment = true;
+                continue;
+            }
+            List<Node> next = new ArrayList<>(4);
+            for (Node node : current) {
+                node.advance(segment, next);
+            }
+            if (next.isEmpty()) {
+                return false;
+            }
+            current = next;
+        }
+        return isTerminal(current);
+    }
+
+    private static boolean isTerminal(List<Node> nodes) {
+        for (Node node : nodes) {
+            if (node.terminal) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean matchesFallback(PathContainer path) {
+        for (PathPattern pattern : this.fallback) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean insert(Node root, String pattern) {
+        String[] segments = pattern.isEmpty() ? new String[0]
+                : pattern.substring(pattern.charAt(0) == '/' ? 1 : 0).split("/", -1);
+        Node node = root;
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            boolean last = (i == segments.length - 1);
+            if (segment.equals("**") || isCaptureTheRest(segment)) {
+                if (!last) {
+                    return false;
+                }
+                node = node.restNode();
+            }
+            else if (segment.equals("*") && last) {
+                node = node.anyNode();
+            }
+            else if (segment.equals("*") || isVariable(segment)) {
+                node = node.nonEmptyNode();
+            }
+            else if (isLiteral(segment)) {
+                node = node.literalNode(segment);
+            }
+            else {
+                return false;
+            }
+        }
+        node.terminal = true;
+        return true;
+    }
+
+    private static boolean isCaptureTheRest(String segment) {
+        return segment.startsWith("{*") && segment.endsWith("}") && segment.indexOf(':') < 0;
+    }
+
+    private static boolean isVariable(String segment) {
+        return segment.length() > 2 && segment.charAt(0) == '{' && segment.endsWith("}")
+                && segment.indexOf('{', 1) < 0 && segment.indexOf(':') < 0 && segment.charAt(1) != '*';
+    }
+
+    private static boolean isLiteral(String segment) {
+        for (int i = 0; i < segment.length(); i++) {
+            char c = segment.charAt(i);
+            if (c == '*' || c == '?' || c == '{' || c == '}') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void add(List<Node> nodes, Node node) {
+        if (!nodes.contains(node)) {
+            nodes.add(node);
+            if (node.rest != null) {
+                add(nodes, node.rest);
+            }
+        }
+    }
+
+    private static final class Node {
+
+        private Map<String, Node> literals;
+
+        private Node any;
+
+        private Node nonEmpty;
+
+        private Node rest;
+
+        private boolean loop;
+
+        private boolean terminal;
+
+        void advance(String segment, List<Node> next) {
+            if (this.loop) {
+                add(next, this);
+            }
+            if (this.literals != null) {
+                Node literal = this.literals.get(segment);
+                if (literal != null) {
+                    add(next, literal);
+                }
+            }
+            if (this.any != null) {
+                add(next, this.any);
+            }
+            if (this.nonEmpty != null && !segment.isEmpty()) {
+                add(next, this.nonEmpty);
+            }
+        }
+
+        Node literalNode(String segment) {
+            if (this.literals == null) {
+                this.literals = new HashMap<>();
+            }
+            return this.literals.computeIfAbsent(segment, (key) -> new Node());
+        }
+
+        Node anyNode() {
+            if (this.any == null) {
+                this.any = new Node();
+            }
+            return this.any;
+        }
+
+        Node nonEmptyNode() {
+            if (this.nonEmpty == null) {
+                this.nonEmpty = new Node();
+            }
+            return this.nonEmpty;
+        }
+
+        Node restNode() {
+            if (this.rest == null) {
+                this.rest = new Node();
+                this.rest.loop = true;
+            }
+            return this.rest;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.auth;
+
+import java.time.Duration;
+
+import org.springframework.util.Assert;
+
+/**
+ * Request quota of a {@link TokenBucketRateLimiter} bucket: {@code permits} requests
+ * per {@code period}, of which up to {@code burst} may be made back to back.
+ *
+ * @param permits the number of requests per period
+ * @param period the refill period
+ * @param burst the bucket capacity
+ */
+public record RateLimit(long permits, Duration period, long burst) {
+
+    public RateLimit {
+        Assert.isTrue(permits > 0, "permits must be positive");
+        Assert.isTrue(period != null && !period.isNegative() && !period.isZero(), "period must be positive");
+        Assert.isTrue(burst > 0, "burst must be positive");
+    }
+
+    /**
+     * Create a quota whose burst equals its number of permits.
+     * @param permits the number of requests per period
+     * @param period the refill period
+     * @return the quota
+     */
+    public static RateLimit of(long permits, Duration period) {
+        return new RateLimit(permits, period, permits);
+    }
+
+    /**
+     * Return the interval at which a single permit is refilled.
+     * @return the interval in nanoseconds, at least one
+     */
+    long intervalNanos() {
+        return Math.max(1, this.period.toNanos() / this.permits);
+    }
+}
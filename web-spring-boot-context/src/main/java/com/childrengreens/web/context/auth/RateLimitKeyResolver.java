@@ -0,0 +1,36 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.auth;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Strategy that identifies the principal a request is counted against by
+ * {@link TokenBucketRateLimiter}.
+ */
+@FunctionalInterface
+public interface RateLimitKeyResolver {
+
+    /**
+     * Resolve the principal of an authenticated request.
+     * @param request the current request
+     * @return the principal key, or {@code null} to skip rate limiting
+     */
+    @Nullable
+    String resolveKey(HttpServletRequest request);
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.auth;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits how often each principal may invoke a controller or handler method. The
+ * quota is enforced by {@link LoginRequiredInterceptor} after the
+ * {@link LoginRequired} check, and exceeding it results in a {@code 429} response.
+ * <p>
+ * Requests are counted per principal, quota group and limit. By default every handler
+ * method has its own quota; handlers naming the same {@link #group()} share one
+ * bucket as long as they declare the same limit, while handlers with different
+ * limits are always counted separately.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.METHOD })
+public @interface RateLimited {
+
+    /**
+     * Number of requests allowed per {@link #period()}.
+     */
+    long permits();
+
+    /**
+     * Length of the refill period, in {@link #unit()}.
+     */
+    long period() default 1;
+
+    /**
+     * Time unit of {@link #period()}.
+     */
+    TimeUnit unit() default TimeUnit.SECONDS;
+
+    /**
+     * Number of requests that may be made back to back after an idle period.
+     * Defaults to {@link #permits()}.
+     */
+    long burst() default 0;
+
+    /**
+     * Quota group shared by handlers declaring the same limit. Defaults to the handler
+     * method itself.
+     */
+    String group() default "";
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.auth;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import org.springframework.web.method.HandlerMethod;
+
+/**
+ * Compiles the scopes declared through {@link LoginRequired} into dense integer ids so
+ * that granted scopes can be represented as a {@link ScopeSet} and authorization
+ * becomes a bit test.
+ * <p>
+ * By default scopes are matched by exact name. A hierarchy can be enabled by passing a
+ * separator: with {@code ':'}, granting {@code orders} implies {@code orders:read} and
+ * {@code orders:write}. This broadens what a token grants compared to exact-name
+ * checks, so it should only be enabled for scope vocabularies designed that way. The
+ * implied ids of every scope and of each of its ancestors are computed when scopes are
+ * registered, so {@link #grant(String)} costs one map lookup per granted scope no
+ * matter how deep the hierarchy is. Granted scopes that no handler requires are
+ * ignored.
+ * <p>
+ * Registration is expected at startup; it replaces an immutable snapshot, so lookups
+ * never lock. Scopes first seen later can still be added with {@link #register}.
+ */
+public final class ScopeRegistry {
+
+    private final String separator;
+
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), Map.of());
+
+    /**
+     * Create a registry matching scopes by exact name.
+     */
+    public ScopeRegistry() {
+        this("");
+    }
+
+    /**
+     * Create a registry.
+     * @param separator the hierarchy separator, or an empty string to disable the
+     * hierarchy
+     */
+    public ScopeRegistry(String separator) {
+        Assert.notNull(separator, "separator must not be null");
+        this.separator = separator;
+    }
+
+    /**
+     * Register the scopes declared by the given handler methods and their types.
+     * @param handlerMethods the handler methods, typically taken from the request
+     * mapping handler mapping
+     */
+    public void registerDeclaredScopes(Collection<HandlerMethod> handlerMethods) {
+        Set<String> scopes = new LinkedHashSet<>();
+        for (HandlerMethod handlerMethod : handlerMethods) {
+            LoginRequired requirement = handlerMethod.getMethodAnnotation(LoginRequired.class);
+            if (requirement == null) {
+                requirement = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), LoginRequired.class);
+            }
+            if (requirement != null && StringUtils.hasLength(requirement.scope())) {
+                scopes.add(requirement.scope());
+            }
+        }
+        registerAll(scopes);
+    }
+
+    /**
+     * Register a single scope.
+     * @param scope the scope
+     * @return its id
+     */
+    public int register(String scope) {
+        Integer id = this.snapshot.ids().get(scope);
+        if (id != null) {
+            return id;
+        }
+        registerAll(Set.of(scope));
+        return this.snapshot.ids().get(scope);
+    }
+
+    /**
+     * Register the given scopes, keeping the ids of scopes already known.
+     * @param scopes the scopes to register
+     */
+    public synchronized void registerAll(Collection<String> scopes) {
+        Map<String, Integer> ids = new HashMap<>(this.snapshot.ids());
+        for (String scope : scopes) {
+            Assert.hasLength(scope, "scope must not be empty");
+            ids.putIfAbsent(scope, ids.size());
+        }
+        if (ids.size() == this.snapshot.ids().size()) {
+            return;
+        }
+        int length = (ids.size() + 63) >> 6;
+        Map<String, long[]> implied = new HashMap<>();
+        ids.forEach((scope, id) -> {
+            set(implied.computeIfAbsent(scope, (key) -> new long[length]), id);
+            if (!this.separator.isEmpty()) {
+                for (int end = scope.lastIndexOf(this.separator); end > 0;
+                        end = scope.lastIndexOf(this.separator, end - 1)) {
+                    set(implied.computeIfAbsent(scope.substring(0, end), (key) -> new long[length]), id);
+                }
+            }
+        });
+        Map<String, ScopeSet> sets = new HashMap<>();
+        implied.forEach((scope, words) -> sets.put(scope, new ScopeSet(words)));
+        this.snapshot = new Snapshot(Map.copyOf(ids), Map.copyOf(sets));
+    }
+
+    /**
+     * Return the id of a registered scope.
+     * @param scope the scope
+     * @return the id, or {@code -1} if the scope is not registered
+     */
+    public int idOf(String scope) {
+        Integer id = this.snapshot.ids().get(scope);
+        return (id != null) ? id : -1;
+    }
+
+    /**
+     * Compile a space-separated list of granted scopes, as found in the OAuth
+     * {@code scope} claim, into a set including all implied scopes.
+     * @param scopes the granted scopes, may be {@code null}
+     * @return the granted set
+     */
+    public ScopeSet grant(String scopes) {
+        if (scopes == null || scopes.isEmpty()) {
+            return ScopeSet.EMPTY;
+        }
+        Snapshot snapshot = this.snapshot;
+        long[] granted = null;
+        int start = 0;
+        while (start < scopes.length()) {
+            int end = scopes.indexOf(' ', start);
+            if (end < 0) {
+                end = scopes.length();
+            }
+            if (end > start) {
+                granted = add(snapshot, granted, snapshot.implied().get(scopes.substring(start, end)));
+            }
+            start = end + 1;
+        }
+        return (granted != null) ? new ScopeSet(granted) : ScopeSet.EMPTY;
+    }
+
+    /**
+     * Compile a collection of granted scopes into a set including all implied scopes.
+     * @param scopes the granted scopes; entries that are not strings are ignored
+     * @return the granted set
+     */
+    public ScopeSet grant(Collection<?> scopes) {
+        Snapshot snapshot = this.snapshot;
+        long[] granted = null;
+        for (Object scope : scopes) {
+            if (scope instanceof String name) {
+                granted = add(snapshot, granted, snapshot.implied().get(name));
+            }
+        }
+        return (granted != null) ? new ScopeSet(granted) : ScopeSet.EMPTY;
+    }
+
+    /**
+     * Return the number of registered scopes.
+     * @return the registry size
+     */
+    public int size() {
+        return this.snapshot.ids().size();
+    }
+
+    private static long[] add(Snapshot snapshot, long[] granted, ScopeSet scope) {
+        if (scope == null) {
+            return granted;
+        }
+        long[] target = (granted != null) ? granted : new long[(snapshot.ids().size() + 63) >> 6];
+        scope.addTo(target);
+        return target;
+    }
+
+    private static void set(long[] words, int id) {
+        words[id >> 6] |= 1L << id;
+    }
+
+    private record Snapshot(Map<String, Integer> ids, Map<String, ScopeSet> implied) {
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.auth;
+
+import java.util.Arrays;
+
+/**
+ * Immutable set of scope ids assigned by a {@link ScopeRegistry}, stored as a bitset
+ * so that membership is a single bit test.
+ */
+public final class ScopeSet {
+
+    /**
+     * The empty set.
+     */
+    public static final ScopeSet EMPTY = new ScopeSet(new long[0]);
+
+    private final long[] words;
+
+    ScopeSet(long[] words) {
+        this.words = words;
+    }
+
+    /**
+     * Return whether the given scope id is in this set.
+     * @param scopeId the id returned by {@link ScopeRegistry#idOf(String)}
+     * @return {@code true} if the scope is granted; always {@code false} for negative ids
+     */
+    public boolean contains(int scopeId) {
+        int word = scopeId >> 6;
+        return scopeId >= 0 && word < this.words.length && (this.words[word] & (1L << scopeId)) != 0;
+    }
+
+    /**
+     * Return the union of this set and the given one.
+     * @param other the other set
+     * @return a set containing the scopes of both
+     */
+    public ScopeSet union(ScopeSet other) {
+        if (other.words.length == 0) {
+            return this;
+        }
+        if (this.words.length == 0) {
+            return other;
+        }
+        long[] words = Arrays.copyOf(this.words, Math.max(this.words.length, other.words.length));
+        for (int i = 0; i < other.words.length; i++) {
+            words[i] |= other.words[i];
+        }
+        return new ScopeSet(words);
+    }
+
+    void addTo(long[] target) {
+        for (int i = 0; i < this.words.length; i++) {
+            target[i] |= this.words[i];
+        }
+    }
+
+    public boolean isEmpty() {
+        for (long word : this.words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
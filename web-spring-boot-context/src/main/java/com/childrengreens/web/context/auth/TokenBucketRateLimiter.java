@@ -0,0 +1,121 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.auth;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.util.Assert;
+
+/**
+ * Lock-free token bucket rate limiter keyed by arbitrary strings.
+ * <p>
+ * Each bucket is a single {@link AtomicLong} holding the time at which it will be
+ * full again (the generic cell rate algorithm), so acquiring a permit is one CAS and
+ * needs no background refill. A bucket that has been full for longer than the idle
+ * timeout is indistinguishable from a new one and is evicted; evictions are swept
+ * inline by at most one caller per idle timeout.
+ */
+public class TokenBucketRateLimiter {
+
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    private final long idleTimeoutNanos;
+
+    private final LongSupplier clock;
+
+    private final AtomicLong nextSweep;
+
+    public TokenBucketRateLimiter(Duration idleTimeout) {
+        this(idleTimeout, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(Duration idleTimeout, LongSupplier clock) {
+        Assert.isTrue(idleTimeout != null && !idleTimeout.isNegative(), "idleTimeout must not be negative");
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.clock = clock;
+        this.nextSweep = new AtomicLong(clock.getAsLong() + this.idleTimeoutNanos);
+    }
+
+    /**
+     * Try to take a permit from the bucket of the given key, creating it with the
+     * given limit if necessary.
+     * @param key the bucket key
+     * @param limit the limit of a newly created bucket
+     * @return {@code 0} if a permit was taken, otherwise the number of nanoseconds
+     * until the next permit becomes available
+     */
+    public long tryAcquire(String key, RateLimit limit) {
+        long now = this.clock.getAsLong();
+        sweepIfDue(now);
+        Bucket bucket = this.buckets.get(key);
+        if (bucket == null) {
+            bucket = this.buckets.computeIfAbsent(key, (k) -> new Bucket(limit, now));
+        }
+        return bucket.tryAcquire(now);
+    }
+
+    private void sweepIfDue(long now) {
+        long due = this.nextSweep.get();
+        if (now - due < 0 || !this.nextSweep.compareAndSet(due, now + this.idleTimeoutNanos)) {
+            return;
+        }
+        this.buckets.forEach((key, bucket) -> {
+            if (now - bucket.fullAt.get() >= this.idleTimeoutNanos) {
+                this.buckets.remove(key, bucket);
+            }
+        });
+    }
+
+    /**
+     * Return the number of live buckets.
+     * @return the bucket count
+     */
+    public int size() {
+        return this.buckets.size();
+    }
+
+    private static final class Bucket {
+
+        private final long interval;
+
+        private final long tolerance;
+
+        private final AtomicLong fullAt;
+
+        Bucket(RateLimit limit, long now) {
+            this.interval = limit.intervalNanos();
+            this.tolerance = this.interval * limit.burst();
+            this.fullAt = new AtomicLong(now);
+        }
+
+        long tryAcquire(long now) {
+            while (true) {
+                long current = this.fullAt.get();
+                long next = ((current - now > 0) ? current : now) + this.interval;
+                long excess = next - now - this.tolerance;
+                if (excess > 0) {
+                    return excess;
+                }
+                if (this.fullAt.compareAndSet(current, next)) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.auth.jwt;
+
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.util.Map;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A parsed verification key bound to a single JWS algorithm.
+ * <p>
+ * Supported algorithms are {@code HS256/384/512}, {@code RS256/384/512} and
+ * {@code ES256/384/512}. Keys are parsed once; the JCA {@link Mac} or
+ * {@link Signature} used to verify with them is created once per thread and reused,
+ * so verification does not pay for provider lookups on every request.
+ */
+public final class JwtKey {
+
+    private static final Map<String, String> JCA_ALGORITHMS = Map.of("HS256", "HmacSHA256", "HS384", "HmacSHA384",
+            "HS512", "HmacSHA512", "RS256", "SHA256withRSA", "RS384", "SHA384withRSA", "RS512", "SHA512withRSA",
+            "ES256", "SHA256withECDSAinP1363Format", "ES384", "SHA384withECDSAinP1363Format", "ES512",
+            "SHA512withECDSAinP1363Format");
+
+    private final String keyId;
+
+    private final String algorithm;
+
+    private final Key key;
+
+    private final ThreadLocal<Object> verifiers;
+
+    private JwtKey(@Nullable String keyId, String algorithm, Key key) {
+        String jcaAlgorithm = JCA_ALGORITHMS.get(algorithm);
+        Assert.notNull(jcaAlgorithm, () -> "Unsupported JWS algorithm '" + algorithm + "'");
+        Assert.isTrue(algorithm.startsWith("HS") ? key instanceof SecretKey : key instanceof PublicKey,
+                () -> "Key type does not match algorithm '" + algorithm + "'");
+        this.keyId = keyId;
+        this.algorithm = algorithm;
+        this.key = key;
+        this.verifiers = ThreadLocal.withInitial(() -> newVerifier(jcaAlgorithm, key));
+    }
+
+    /**
+     * Create an HMAC key.
+     * @param keyId the key id matched against the {@code kid} header, may be {@code null}
+     * @param algorithm one of {@code HS256}, {@code HS384} or {@code HS512}
+     * @param secret the shared secret
+     * @return the key
+     */
+    public static JwtKey hmac(@Nullable String keyId, String algorithm, byte[] secret) {
+        Assert.isTrue(secret != null && secret.length > 0, "secret must not be empty");
+        return new JwtKey(keyId, algorithm, new SecretKeySpec(secret, JCA_ALGORITHMS.getOrDefault(algorithm, "HMAC")));
+    }
+
+    /**
+     * Create an RSA or EC public key.
+     * @param keyId the key id matched against the {@code kid} header, may be {@code null}
+     * @param algorithm one of the {@code RS*} or {@code ES*} algorithms
+     * @param publicKey the public key
+     * @return the key
+     */
+    public static JwtKey publicKey(@Nullable String keyId, String algorithm, PublicKey publicKey) {
+        return new JwtKey(keyId, algorithm, publicKey);
+    }
+
+    @Nullable
+    public String getKeyId() {
+        return this.keyId;
+    }
+
+    public String getAlgorithm() {
+        return this.algorithm;
+    }
+
+    /**
+     * Verify a signature over the first {@code length} bytes of {@code input}.
+     * @param input the JWS signing input ({@code header.payload}) as ASCII bytes
+     * @param length the number of bytes to verify
+     * @param signature the decoded signature
+     * @return whether the signature is valid
+     */
+    boolean verify(byte[] input, int length, byte[] signature) {
+        Object verifier = this.verifiers.get();
+        try {
+            if (verifier instanceof Mac mac) {
+                mac.update(input, 0, length);
+                return MessageDigest.isEqual(mac.doFinal(), signature);
+            }
+            Signature verifierSignature = (Signature) verifier;
+            verifierSignature.initVerify((PublicKey) this.key);
+            verifierSignature.update(input, 0, length);
+            return verifierSignature.verify(signature);
+        }
+        catch (GeneralSecurityException ex) {
+            return false;
+        }
+    }
+
+    private static Object newVerifier(String jcaAlgorithm, Key key) {
+        try {
+            if (key instanceof SecretKey) {
+                Mac mac = Mac.getInstance(jcaAlgorithm);
+                mac.init(key);
+                return mac;
+            }
+            return Signature.getInstance(jcaAlgorithm);
+        }
+        catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("JCA algorithm " + jcaAlgorithm + " is not available", ex);
+        }
+    }
+}
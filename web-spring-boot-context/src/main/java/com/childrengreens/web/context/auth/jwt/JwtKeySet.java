@@ -0,0 +1,188 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.auth.jwt;
+
+import java.math.BigInteger;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Immutable set of {@link JwtKey verification keys}, indexed by key id.
+ * <p>
+ * A JSON Web Key Set is parsed into {@link JwtKey} instances up front with
+ * {@link #parse(String)}, so looking up the key for a token is a map access. Keys
+ * without an {@code alg} member are bound to {@code RS256} for RSA, to the algorithm
+ * matching the curve for EC and to {@code HS256} for symmetric keys. Keys with a
+ * {@code use} other than {@code sig} are skipped.
+ */
+public final class JwtKeySet {
+
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+
+    private static final Map<String, String> CURVES = Map.of("P-256", "secp256r1", "P-384", "secp384r1", "P-521",
+            "secp521r1");
+
+    private static final Map<String, String> CURVE_ALGORITHMS = Map.of("P-256", "ES256", "P-384", "ES384", "P-521",
+            "ES512");
+
+    private final List<JwtKey> keys;
+
+    private final Map<String, JwtKey> keysById;
+
+    private JwtKeySet(Collection<JwtKey> keys) {
+        this.keys = List.copyOf(keys);
+        Map<String, JwtKey> keysById = new HashMap<>();
+        for (JwtKey key : this.keys) {
+            if (key.getKeyId() != null) {
+                keysById.put(key.getKeyId(), key);
+            }
+        }
+        this.keysById = Map.copyOf(keysById);
+    }
+
+    public static JwtKeySet of(Collection<JwtKey> keys) {
+        return new JwtKeySet(keys);
+    }
+
+    /**
+     * Parse a JSON Web Key Set document.
+     * @param json the JWKS document
+     * @return the parsed key set
+     * @throws IllegalArgumentException if the document or one of its signing keys is
+     * malformed
+     */
+    public static JwtKeySet parse(String json) {
+        Map<?, ?> document;
+        try {
+            document = JSON.readValue(json, Map.class);
+        }
+        catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Invalid JWKS document", ex);
+        }
+        if (!(document.get("keys") instanceof List<?> entries)) {
+            throw new IllegalArgumentException("JWKS document has no 'keys' array");
+        }
+        List<JwtKey> keys = new ArrayList<>(entries.size());
+        for (Object entry : entries) {
+            if (entry instanceof Map<?, ?> jwk) {
+                JwtKey key = parseKey(jwk);
+                if (key != null) {
+                    keys.add(key);
+                }
+            }
+        }
+        return new JwtKeySet(keys);
+    }
+
+    /**
+     * Find the key for a token header.
+     * @param keyId the {@code kid} header, may be {@code null}
+     * @param algorithm the {@code alg} header
+     * @return the matching key, or {@code null} if none matches; without a key id
+     * a key is only returned when exactly one key uses the algorithm
+     */
+    @Nullable
+    public JwtKey find(@Nullable String keyId, String algorithm) {
+        if (keyId != null) {
+            JwtKey key = this.keysById.get(keyId);
+            return (key != null && key.getAlgorithm().equals(algorithm)) ? key : null;
+        }
+        JwtKey match = null;
+        for (JwtKey key : this.keys) {
+            if (key.getAlgorithm().equals(algorithm)) {
+                if (match != null) {
+                    return null;
+                }
+                match = key;
+            }
+        }
+        return match;
+    }
+
+    public List<JwtKey> getKeys() {
+        return this.keys;
+    }
+
+    @Nullable
+    private static JwtKey parseKey(Map<?, ?> jwk) {
+        Object use = jwk.get("use");
+        if (use != null && !"sig".equals(use)) {
+            return null;
+        }
+        String keyType = member(jwk, "kty");
+        String keyId = (jwk.get("kid") instanceof String kid) ? kid : null;
+        String algorithm = (jwk.get("alg") instanceof String alg) ? alg : null;
+        try {
+            switch (keyType) {
+                case "RSA" -> {
+                    RSAPublicKeySpec spec = new RSAPublicKeySpec(unsigned(member(jwk, "n")), unsigned(member(jwk, "e")));
+                    PublicKey key = KeyFactory.getInstance("RSA").generatePublic(spec);
+                    return JwtKey.publicKey(keyId, (algorithm != null) ? algorithm : "RS256", key);
+                }
+                case "EC" -> {
+                    String curve = member(jwk, "crv");
+                    String curveName = CURVES.get(curve);
+                    if (curveName == null) {
+                        throw new IllegalArgumentException("Unsupported EC curve '" + curve + "'");
+                    }
+                    AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+                    parameters.init(new ECGenParameterSpec(curveName));
+                    ECPoint point = new ECPoint(unsigned(member(jwk, "x")), unsigned(member(jwk, "y")));
+                    ECPublicKeySpec spec = new ECPublicKeySpec(point, parameters.getParameterSpec(ECParameterSpec.class));
+                    PublicKey key = KeyFactory.getInstance("EC").generatePublic(spec);
+                    return JwtKey.publicKey(keyId, (algorithm != null) ? algorithm : CURVE_ALGORITHMS.get(curve), key);
+                }
+                case "oct" -> {
+                    byte[] secret = Base64.getUrlDecoder().decode(member(jwk, "k"));
+                    return JwtKey.hmac(keyId, (algorithm != null) ? algorithm : "HS256", secret);
+                }
+                default -> {
+                    return null;
+                }
+            }
+        }
+        catch (GeneralSecurityException ex) {
+            throw new IllegalArgumentException("Invalid " + keyType + " key '" + keyId + "'", ex);
+        }
+    }
+
+    private static String member(Map<?, ?> jwk, String name) {
+        if (jwk.get(name) instanceof String value) {
+            return value;
+        }
+        throw new IllegalArgumentException("JWK is missing '" + name + "'");
+    }
+
+    private static BigInteger unsigned(String base64Url) {
+        return new BigInteger(1, Base64.getUrlDecoder().decode(base64Url));
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.auth.jwt;
+
+import java.util.Collection;
+import java.util.Map;
+
+import com.childrengreens.web.context.auth.LoginRequired;
+import com.childrengreens.web.context.auth.LoginRequirementEvaluator;
+import com.childrengreens.web.context.auth.ScopeRegistry;
+import com.childrengreens.web.context.auth.ScopeSet;
+import com.childrengreens.web.context.exception.UnauthorizedException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.jspecify.annotations.Nullable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.Assert;
+import org.springframework.web.method.HandlerMethod;
+
+/**
+ * {@link LoginRequirementEvaluator} that accepts requests carrying a bearer JWT
+ * verified by a {@link JwtVerifier}.
+ * <p>
+ * A non-empty {@link LoginRequired#scope() scope} must be listed in the token's
+ * space-separated {@code scope} claim or in its {@code scp} claim. The verified claims
+ * are exposed to handlers as the {@link #CLAIMS_ATTRIBUTE} request attribute.
+ * Failures are reported as {@link UnauthorizedException}.
+ * <p>
+ * With a {@link ScopeRegistry}, granted scopes are compiled into a {@link ScopeSet}
+ * and the required scope is checked with a bit test, honouring the registry's scope
+ * hierarchy when one is configured; otherwise scopes are compared by exact name.
+ */
+public class JwtLoginRequirementEvaluator implements LoginRequirementEvaluator {
+
+    /**
+     * Request attribute holding the verified claims as a {@code Map<String, Object>}.
+     */
+    public static final String CLAIMS_ATTRIBUTE = JwtLoginRequirementEvaluator.class.getName() + ".claims";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private static final String[] SCOPE_CLAIMS = { "scope", "scp" };
+
+    private final JwtVerifier verifier;
+
+    private final ScopeRegistry scopeRegistry;
+
+    public JwtLoginRequirementEvaluator(JwtVerifier verifier) {
+        this(verifier, null);
+    }
+
+    public JwtLoginRequirementEvaluator(JwtVerifier verifier, @Nullable ScopeRegistry scopeRegistry) {
+        Assert.notNull(verifier, "verifier must not be null");
+        this.verifier = verifier;
+        this.scopeRegistry = scopeRegistry;
+    }
+
+    @Override
+    public void assertAuthenticated(HttpServletRequest request, HandlerMethod handler, String scope) {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            throw new UnauthorizedException("Missing bearer token");
+        }
+        Map<String, Object> claims = this.verifier.verify(authorization.substring(BEARER_PREFIX.length()).trim());
+        if (scope != null && !scope.isEmpty() && !hasScope(claims, scope)) {
+            throw new UnauthorizedException("Insufficient scope");
+        }
+        request.setAttribute(CLAIMS_ATTRIBUTE, claims);
+    }
+
+    private boolean hasScope(Map<String, Object> claims, String scope) {
+        if (this.scopeRegistry != null) {
+            int scopeId = this.scopeRegistry.idOf(scope);
+            if (scopeId < 0) {
+                scopeId = this.scopeRegistry.register(scope);
+            }
+            return grantedScopes(claims).contains(scopeId);
+        }
+        return containsScope(claims.get(SCOPE_CLAIMS[0]), scope) || containsScope(claims.get(SCOPE_CLAIMS[1]), scope);
+    }
+
+    private ScopeSet grantedScopes(Map<String, Object> claims) {
+        ScopeSet granted = ScopeSet.EMPTY;
+        for (String claim : SCOPE_CLAIMS) {
+            Object value = claims.get(claim);
+            if (value instanceof String scopes) {
+                granted = granted.union(this.scopeRegistry.grant(scopes));
+            }
+            else if (value instanceof Collection<?> scopes) {
+                granted = granted.union(this.scopeRegistry.grant(scopes));
+            }
+        }
+        return granted;
+    }
+
+    private static boolean containsScope(Object granted, String scope) {
+        if (granted instanceof Collection<?> scopes) {
+            return scopes.contains(scope);
+        }
+        if (!(granted instanceof String scopes)) {
+            return false;
+        }
+        int start = 0;
+        while (start <= scopes.length()) {
+            int end = scopes.indexOf(' ', start);
+            if (end < 0) {
+                end = scopes.length();
+            }
+            if (end - start == scope.length() && scopes.startsWith(scope, start)) {
+                return true;
+            }
+            start = end + 1;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.auth.jwt;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import com.childrengreens.web.context.exception.UnauthorizedException;
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Verifies compact JWS tokens locally against a {@link JwtKeySet}.
+ * <p>
+ * The token is converted to ASCII bytes once; header, payload and signature are
+ * base64url-decoded straight from slices of that array and the signature is verified
+ * over the same bytes, so no intermediate strings are created for the segments. The
+ * key set is obtained from the supplier on every call, which lets a refreshing source
+ * swap keys without coordination. Besides the signature, {@code exp}, {@code nbf} and,
+ * when configured, {@code iss} and {@code aud} are checked.
+ */
+public final class JwtVerifier {
+
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final Supplier<JwtKeySet> keys;
+
+    private final long clockSkewSeconds;
+
+    private final String issuer;
+
+    private final String audience;
+
+    private final Clock clock;
+
+    public JwtVerifier(Supplier<JwtKeySet> keys, Duration clockSkew, @Nullable String issuer,
+            @Nullable String audience) {
+        this(keys, clockSkew, issuer, audience, Clock.systemUTC());
+    }
+
+    JwtVerifier(Supplier<JwtKeySet> keys, Duration clockSkew, @Nullable String issuer, @Nullable String audience,
+            Clock clock) {
+        Assert.notNull(keys, "keys must not be null");
+        Assert.isTrue(clockSkew != null && !clockSkew.isNegative(), "clockSkew must not be negative");
+        this.keys = keys;
+        this.clockSkewSeconds = clockSkew.toSeconds();
+        this.issuer = issuer;
+        this.audience = audience;
+        this.clock = Objects.requireNonNull(clock, "clock");
+    }
+
+    /**
+     * Verify the given compact JWS and return its claims.
+     * @param token the token
+     * @return the verified claims
+     * @throws UnauthorizedException if the token is malformed, not validly signed by a
+     * known key or fails a claim check
+     */
+    public Map<String, Object> verify(String token) {
+        byte[] bytes = token.getBytes(StandardCharsets.US_ASCII);
+        int headerEnd = indexOf(bytes, 0);
+        int payloadEnd = (headerEnd > 0) ? indexOf(bytes, headerEnd + 1) : -1;
+        if (payloadEnd < 0 || indexOf(bytes, payloadEnd + 1) >= 0) {
+            throw new UnauthorizedException("Malformed token");
+        }
+        Map<String, Object> header = decodeJson(bytes, 0, headerEnd);
+        if (!(header.get("alg") instanceof String algorithm)) {
+            throw new UnauthorizedException("Malformed token");
+        }
+        String keyId = (header.get("kid") instanceof String kid) ? kid : null;
+        JwtKey key = this.keys.get().find(keyId, algorithm);
+        if (key == null) {
+            throw new UnauthorizedException("Unknown signing key");
+        }
+        byte[] signature = decode(bytes, payloadEnd + 1, bytes.length).array();
+        if (!key.verify(bytes, payloadEnd, signature)) {
+            throw new UnauthorizedException("Invalid token signature");
+        }
+        Map<String, Object> claims = decodeJson(bytes, headerEnd + 1, payloadEnd);
+        checkClaims(claims);
+        return Collections.unmodifiableMap(claims);
+    }
+
+    private void checkClaims(Map<String, Object> claims) {
+        long now = this.clock.instant().getEpochSecond();
+        if (claims.get("exp") instanceof Number expiresAt && now - this.clockSkewSeconds >= expiresAt.longValue()) {
+            throw new UnauthorizedException("Token expired");
+        }
+        if (claims.get("nbf") instanceof Number notBefore && now + this.clockSkewSeconds < notBefore.longValue()) {
+            throw new UnauthorizedException("Token not yet valid");
+        }
+        if (this.issuer != null && !this.issuer.equals(claims.get("iss"))) {
+            throw new UnauthorizedException("Unexpected token issuer");
+        }
+        if (this.audience != null && !hasAudience(claims.get("aud"))) {
+            throw new UnauthorizedException("Unexpected token audience");
+        }
+    }
+
+    private boolean hasAudience(Object audience) {
+        if (audience instanceof List<?> audiences) {
+            return audiences.contains(this.audience);
+        }
+        return this.audience.equals(audience);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> decodeJson(byte[] bytes, int start, int end) {
+        ByteBuffer decoded = decode(bytes, start, end);
+        Object json;
+        try {
+            json = JSON.readValue(decoded.array(), 0, decoded.limit(), Object.class);
+        }
+        catch (RuntimeException ex) {
+            throw new UnauthorizedException("Malformed token", ex);
+        }
+        if (!(json instanceof Map<?, ?> map)) {
+            throw new UnauthorizedException("Malformed token");
+        }
+        return (Map<String, Object>) map;
+    }
+
+    private static ByteBuffer decode(byte[] bytes, int start, int end) {
+        try {
+            return DECODER.decode(ByteBuffer.wrap(bytes, start, end - start));
+        }
+        catch (IllegalArgumentException ex) {
+            throw new UnauthorizedException("Malformed token", ex);
+        }
+    }
+
+    private static int indexOf(byte[] bytes, int from) {
+        for (int i = from; i < bytes.length; i++) {
+            if (bytes[i] == '.') {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
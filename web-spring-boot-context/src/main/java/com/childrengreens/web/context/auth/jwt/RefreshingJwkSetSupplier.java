@@ -0,0 +1,106 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.auth.jwt;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
+
+/**
+ * Supplies a {@link JwtKeySet} loaded from a JWKS {@link Resource}, such as a file or
+ * a local HTTP endpoint, and reloads it in the background.
+ * <p>
+ * The initial load happens in the constructor so that a missing or malformed key set
+ * fails fast. Refreshes run on a single daemon thread; a failed refresh is logged and
+ * the previously loaded keys stay in use. Readers only perform a volatile read.
+ */
+public class RefreshingJwkSetSupplier implements Supplier<JwtKeySet>, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshingJwkSetSupplier.class);
+
+    private final Resource resource;
+
+    private final ScheduledExecutorService scheduler;
+
+    private volatile JwtKeySet keySet;
+
+    /**
+     * Create a new supplier.
+     * @param resource the JWKS document
+     * @param refreshInterval how often to reload the document, or zero to load it once
+     */
+    public RefreshingJwkSetSupplier(Resource resource, Duration refreshInterval) {
+        Assert.notNull(resource, "resource must not be null");
+        Assert.isTrue(refreshInterval != null && !refreshInterval.isNegative(), "refreshInterval must not be negative");
+        this.resource = resource;
+        this.keySet = load();
+        if (refreshInterval.isZero()) {
+            this.scheduler = null;
+        }
+        else {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor((runnable) -> {
+                Thread thread = new Thread(runnable, "jwks-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long interval = refreshInterval.toMillis();
+            this.scheduler.scheduleWithFixedDelay(this::refresh, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public JwtKeySet get() {
+        return this.keySet;
+    }
+
+    /**
+     * Reload the key set, keeping the current keys if loading fails.
+     */
+    public void refresh() {
+        try {
+            this.keySet = load();
+        }
+        catch (RuntimeException ex) {
+            log.warn("Failed to refresh JWKS from {}, keeping previous keys: {}", this.resource, ex.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.scheduler != null) {
+            this.scheduler.shutdownNow();
+        }
+    }
+
+    private JwtKeySet load() {
+        try (InputStream input = this.resource.getInputStream()) {
+            return JwtKeySet.parse(new String(input.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        catch (IOException ex) {
+            throw new IllegalStateException("Unable to read JWKS from " + this.resource, ex);
+        }
+    }
+}
@@ -0,0 +1,326 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.compression;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Response wrapper that holds back the first bytes of the body until it knows whether
+ * the response reaches the compression threshold. Bodies below the threshold are
+ * written unchanged with an exact {@code Content-Length}; larger bodies of an allowed
+ * content type are streamed through gzip. A flush before the threshold is reached
+ * commits the response uncompressed.
+ * <p>
+ * Responses of an allowed content type always carry {@code Vary: Accept-Encoding},
+ * including when they stay uncompressed because they are small or because the client
+ * does not accept gzip. In the latter case nothing is held back.
+ */
+final class CompressingResponseWrapper extends HttpServletResponseWrapper {
+
+    private enum State {
+        UNDECIDED, COMPRESSING, PASS_THROUGH
+    }
+
+    private final int minSize;
+
+    private final Predicate<String> compressibleContentType;
+
+    private final DeflaterPool deflaterPool;
+
+    private final boolean gzipAccepted;
+
+    private State state = State.UNDECIDED;
+
+    private boolean finished;
+
+    private byte[] buffer;
+
+    private int count;
+
+    private long declaredContentLength = -1;
+
+    private OutputStream target;
+
+    private GzipOutputStream gzip;
+
+    private ServletOutputStream outputStream;
+
+    private PrintWriter writer;
+
+    CompressingResponseWrapper(HttpServletResponse response, int minSize, Predicate<String> compressibleContentType,
+            DeflaterPool deflaterPool, boolean gzipAccepted) {
+        super(response);
+        this.minSize = minSize;
+        this.compressibleContentType = compressibleContentType;
+        this.deflaterPool = deflaterPool;
+        this.gzipAccepted = gzipAccepted;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (this.outputStream == null) {
+            this.outputStream = new CompressingServletOutputStream(super.getOutputStream());
+        }
+        return this.outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (this.writer == null) {
+            this.writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+        }
+        return this.writer;
+    }
+
+    @Override
+    public void setContentLength(int len) {
+        setContentLengthLong(len);
+    }
+
+    @Override
+    public void setContentLengthLong(long len) {
+        this.declaredContentLength = len;
+        if (this.state == State.PASS_THROUGH) {
+            super.setContentLengthLong(len);
+        }
+    }
+
+    @Override
+    public void setHeader(String name, String value) {
+        if (isContentLength(name)) {
+            setContentLengthLong(value != null ? Long.parseLong(value) : -1);
+        }
+        else {
+            super.setHeader(name, value);
+        }
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        if (isContentLength(name)) {
+            setContentLengthLong(value != null ? Long.parseLong(value) : -1);
+        }
+        else {
+            super.addHeader(name, value);
+        }
+    }
+
+    @Override
+    public void setIntHeader(String name, int value) {
+        if (isContentLength(name)) {
+            setContentLengthLong(value);
+        }
+        else {
+            super.setIntHeader(name, value);
+        }
+    }
+
+    @Override
+    public void addIntHeader(String name, int value) {
+        if (isContentLength(name)) {
+            setContentLengthLong(value);
+        }
+        else {
+            super.addIntHeader(name, value);
+        }
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (this.writer != null) {
+            this.writer.flush();
+        }
+        if (this.state == State.UNDECIDED) {
+            decide(false, true);
+        }
+        this.target.flush();
+        super.flushBuffer();
+    }
+
+    @Override
+    public void resetBuffer() {
+        super.resetBuffer();
+        if (this.state == State.UNDECIDED) {
+            this.count = 0;
+        }
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        if (this.state == State.UNDECIDED) {
+            this.count = 0;
+            this.declaredContentLength = -1;
+        }
+    }
+
+    /**
+     * Complete the response: emit any held back bytes or the gzip trailer. Calls after
+     * the first are ignored.
+     *
+     * @throws IOException if writing fails
+     */
+    void finishResponse() throws IOException {
+        if (this.finished) {
+            return;
+        }
+        this.finished = true;
+        try {
+            if (this.writer != null) {
+                this.writer.flush();
+            }
+            if (this.state == State.UNDECIDED) {
+                decide(true, false);
+            }
+            if (this.gzip != null) {
+                this.gzip.finish();
+            }
+        }
+        finally {
+            if (this.gzip != null) {
+                this.gzip.release();
+            }
+        }
+    }
+
+    boolean isCompressing() {
+        return this.state == State.COMPRESSING;
+    }
+
+    private void write(byte[] b, int off, int len) throws IOException {
+        if (this.state == State.UNDECIDED) {
+            if (this.gzipAccepted && this.count + len < this.minSize) {
+                ensureCapacity(this.count + len);
+                System.arraycopy(b, off, this.buffer, this.count, len);
+                this.count += len;
+                return;
+            }
+            decide(false, false);
+        }
+        this.target.write(b, off, len);
+    }
+
+    private void decide(boolean complete, boolean flushed) throws IOException {
+        boolean belowThreshold = ((complete || flushed) && this.count < this.minSize)
+                || (this.declaredContentLength >= 0 && this.declaredContentLength < this.minSize);
+        boolean compressible = isCompressible();
+        if (compressible) {
+            addVaryAcceptEncoding();
+        }
+        if (compressible && this.gzipAccepted && !belowThreshold) {
+            this.state = State.COMPRESSING;
+            super.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            this.gzip = new GzipOutputStream(super.getOutputStream(), this.deflaterPool);
+            this.target = this.gzip;
+        }
+        else {
+            this.state = State.PASS_THROUGH;
+            if (this.declaredContentLength >= 0) {
+                super.setContentLengthLong(this.declaredContentLength);
+            }
+            else if (complete && !isCommitted()) {
+                super.setContentLengthLong(this.count);
+            }
+            this.target = super.getOutputStream();
+        }
+        if (this.count > 0) {
+            this.target.write(this.buffer, 0, this.count);
+            this.count = 0;
+        }
+        this.buffer = null;
+    }
+
+    private void addVaryAcceptEncoding() {
+        for (String vary : getHeaders(HttpHeaders.VARY)) {
+            for (String name : vary.split(",")) {
+                String trimmed = name.trim();
+                if ("*".equals(trimmed) || HttpHeaders.ACCEPT_ENCODING.equalsIgnoreCase(trimmed)) {
+                    return;
+                }
+            }
+        }
+        super.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    private boolean isCompressible() {
+        int status = getStatus();
+        if (status == SC_NO_CONTENT || status == SC_NOT_MODIFIED || status < SC_OK) {
+            return false;
+        }
+        return !containsHeader(HttpHeaders.CONTENT_ENCODING) && this.compressibleContentType.test(getContentType());
+    }
+
+    private void ensureCapacity(int required) {
+        if (this.buffer == null) {
+            this.buffer = new byte[Math.min(Math.max(required, 256), Math.max(this.minSize, 1))];
+        }
+        else if (required > this.buffer.length) {
+            this.buffer = Arrays.copyOf(this.buffer, Math.min(Math.max(required, this.buffer.length * 2), this.minSize));
+        }
+    }
+
+    private static boolean isContentLength(String name) {
+        return HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name);
+    }
+
+    private final class CompressingServletOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+
+        CompressingServletOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            CompressingResponseWrapper.this.write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            CompressingResponseWrapper.this.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            // Converters flush after every write; only flush once the encoding is decided
+            if (CompressingResponseWrapper.this.target != null) {
+                CompressingResponseWrapper.this.target.flush();
+            }
+        }
+
+        @Override
+        public boolean isReady() {
+            return this.delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            this.delegate.setWriteListener(writeListener);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.compression;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.Deflater;
+
+import org.springframework.util.Assert;
+
+/**
+ * Bounded pool of raw (no zlib wrapper) {@link Deflater} instances. Creating a
+ * {@code Deflater} allocates native zlib state, so reusing instances avoids that cost
+ * on every compressed response.
+ */
+public class DeflaterPool {
+
+    private final int level;
+
+    private final BlockingQueue<Deflater> deflaters;
+
+    public DeflaterPool(int level, int maxIdle) {
+        Assert.isTrue(level == Deflater.DEFAULT_COMPRESSION || (level >= 0 && level <= 9),
+                "level must be -1 or between 0 and 9");
+        Assert.isTrue(maxIdle > 0, "maxIdle must be positive");
+        this.level = level;
+        this.deflaters = new ArrayBlockingQueue<>(maxIdle);
+    }
+
+    /**
+     * Borrow a deflater, creating a new one when the pool is empty.
+     *
+     * @return a reset deflater
+     */
+    public Deflater acquire() {
+        Deflater deflater = this.deflaters.poll();
+        return (deflater != null ? deflater : new Deflater(this.level, true));
+    }
+
+    /**
+     * Return a deflater to the pool; it is released when the pool is already full.
+     *
+     * @param deflater the deflater previously obtained from {@link #acquire()}
+     */
+    public void release(Deflater deflater) {
+        deflater.reset();
+        if (!this.deflaters.offer(deflater)) {
+            deflater.end();
+        }
+    }
+
+    int idleCount() {
+        return this.deflaters.size();
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.compression;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Minimal gzip writer that borrows its {@link Deflater} from a {@link DeflaterPool}
+ * instead of allocating one per stream like {@link java.util.zip.GZIPOutputStream}.
+ */
+final class GzipOutputStream extends OutputStream {
+
+    private static final byte[] HEADER = { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff };
+
+    private static final int BUFFER_SIZE = 4096;
+
+    private final OutputStream out;
+
+    private final DeflaterPool pool;
+
+    private final CRC32 crc = new CRC32();
+
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+
+    private Deflater deflater;
+
+    GzipOutputStream(OutputStream out, DeflaterPool pool) throws IOException {
+        this.out = out;
+        this.pool = pool;
+        this.deflater = pool.acquire();
+        out.write(HEADER);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[] { (byte) b }, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return;
+        }
+        ensureOpen();
+        this.crc.update(b, off, len);
+        this.deflater.setInput(b, off, len);
+        while (!this.deflater.needsInput()) {
+            deflate(Deflater.NO_FLUSH);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (this.deflater != null) {
+            while (deflate(Deflater.SYNC_FLUSH) == this.buffer.length) {
+                // keep draining until the deflater has emitted everything
+            }
+        }
+        this.out.flush();
+    }
+
+    /**
+     * Write the remaining compressed data and the gzip trailer, then hand the deflater
+     * back to the pool. The underlying stream is left open.
+     *
+     * @throws IOException if writing fails
+     */
+    void finish() throws IOException {
+        if (this.deflater == null) {
+            return;
+        }
+        try {
+            this.deflater.finish();
+            while (!this.deflater.finished()) {
+                deflate(Deflater.NO_FLUSH);
+            }
+            writeIntLittleEndian((int) this.crc.getValue());
+            writeIntLittleEndian((int) this.deflater.getBytesRead());
+        }
+        finally {
+            release();
+        }
+    }
+
+    /**
+     * Return the deflater to the pool without completing the stream.
+     */
+    void release() {
+        if (this.deflater != null) {
+            this.pool.release(this.deflater);
+            this.deflater = null;
+        }
+    }
+
+    private int deflate(int flush) throws IOException {
+        int length = this.deflater.deflate(this.buffer, 0, this.buffer.length, flush);
+        if (length > 0) {
+            this.out.write(this.buffer, 0, length);
+        }
+        return length;
+    }
+
+    private void writeIntLittleEndian(int value) throws IOException {
+        this.out.write(value & 0xff);
+        this.out.write((value >> 8) & 0xff);
+        this.out.write((value >> 16) & 0xff);
+        this.out.write((value >> 24) & 0xff);
+    }
+
+    private void ensureOpen() throws IOException {
+        if (this.deflater == null) {
+            throw new IOException("Stream already finished");
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.compression;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.jspecify.annotations.NonNull;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.Assert;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+/**
+ * Servlet filter that gzip-compresses response bodies once they reach a minimum size.
+ * <p>
+ * Only responses whose content type is in the configured allow-list are compressed,
+ * so small error envelopes and already compressed payloads are passed through
+ * untouched. Deflaters are taken from a shared {@link DeflaterPool}.
+ * <p>
+ * Async requests are finished by the filter on their async dispatch, or by an
+ * {@link AsyncListener} when they complete without one.
+ */
+public class ResponseCompressionFilter extends OncePerRequestFilter {
+
+    private static final String GZIP = "gzip";
+
+    private final int minSize;
+
+    private final Set<String> mimeTypes;
+
+    private final DeflaterPool deflaterPool;
+
+    public ResponseCompressionFilter(int minSize, Collection<String> mimeTypes, DeflaterPool deflaterPool) {
+        Assert.isTrue(minSize >= 0, "minSize must not be negative");
+        Assert.notNull(mimeTypes, "mimeTypes must not be null");
+        Assert.notNull(deflaterPool, "deflaterPool must not be null");
+        this.minSize = minSize;
+        this.mimeTypes = new HashSet<>();
+        for (String mimeType : mimeTypes) {
+            this.mimeTypes.add(mimeType.trim().toLowerCase(Locale.ROOT));
+        }
+        this.deflaterPool = deflaterPool;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        if (HttpMethod.HEAD.matches(request.getMethod())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        CompressingResponseWrapper wrapper = WebUtils.getNativeResponse(response, CompressingResponseWrapper.class);
+        HttpServletResponse responseToUse = response;
+        if (wrapper == null) {
+            wrapper = new CompressingResponseWrapper(response, this.minSize, this::isCompressible, this.deflaterPool,
+                    acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING)));
+            responseToUse = wrapper;
+        }
+        try {
+            filterChain.doFilter(request, responseToUse);
+        }
+        finally {
+            if (!isAsyncStarted(request)) {
+                wrapper.finishResponse();
+            }
+            else if (responseToUse == wrapper) {
+                request.getAsyncContext().addListener(new FinishingAsyncListener(wrapper));
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    boolean isCompressible(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        int separator = contentType.indexOf(';');
+        String mimeType = (separator >= 0 ? contentType.substring(0, separator) : contentType).trim()
+                .toLowerCase(Locale.ROOT);
+        if (this.mimeTypes.contains(mimeType)) {
+            return true;
+        }
+        int slash = mimeType.indexOf('/');
+        return slash > 0 && this.mimeTypes.contains(mimeType.substring(0, slash) + "/*");
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        int start = 0;
+        int length = acceptEncoding.length();
+        while (start < length) {
+            int end = acceptEncoding.indexOf(',', start);
+            if (end < 0) {
+                end = length;
+            }
+            int parameters = acceptEncoding.indexOf(';', start);
+            int nameEnd = (parameters >= 0 && parameters < end ? parameters : end);
+            String coding = acceptEncoding.substring(start, nameEnd).trim();
+            if ((GZIP.equalsIgnoreCase(coding) || "*".equals(coding))
+                    && !isZeroQuality(acceptEncoding.substring(nameEnd, end))) {
+                return true;
+            }
+            start = end + 1;
+        }
+        return false;
+    }
+
+    private static boolean isZeroQuality(String parameters) {
+        int q = parameters.indexOf("q=");
+        if (q < 0) {
+            return false;
+        }
+        try {
+            return Double.parseDouble(parameters.substring(q + 2).trim()) == 0;
+        }
+        catch (NumberFormatException ex) {
+            return false;
+        }
+    }
+
+    private static final class FinishingAsyncListener implements AsyncListener {
+
+        private final CompressingResponseWrapper wrapper;
+
+        FinishingAsyncListener(CompressingResponseWrapper wrapper) {
+            this.wrapper = wrapper;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) throws IOException {
+            this.wrapper.finishResponse();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.concurrency;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.util.Assert;
+
+/**
+ * Adaptive concurrency limit using additive-increase/multiplicative-decrease.
+ * <p>
+ * Each completed request reports its latency. A request slower than the latency
+ * threshold, or one that was dropped, shrinks the limit by the backoff ratio; a fast
+ * request grows it by one, but only while at least half of the current limit is in
+ * use, so that an idle service does not inflate its limit. Requests whose duration
+ * says nothing about load, such as long polls or streamed responses, can give their
+ * slot back through {@link #release()} without reporting a sample. The limit always
+ * stays between the configured minimum and maximum.
+ */
+public class AimdConcurrencyLimiter {
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private final long latencyThresholdNanos;
+
+    private final double backoffRatio;
+
+    private final AtomicInteger limit;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public AimdConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold,
+            double backoffRatio) {
+        Assert.isTrue(minLimit > 0, "minLimit must be positive");
+        Assert.isTrue(maxLimit >= minLimit, "maxLimit must not be lower than minLimit");
+        Assert.isTrue(initialLimit >= minLimit && initialLimit <= maxLimit,
+                "initialLimit must be between minLimit and maxLimit");
+        Assert.notNull(latencyThreshold, "latencyThreshold must not be null");
+        Assert.isTrue(latencyThreshold.toNanos() > 0, "latencyThreshold must be positive");
+        Assert.isTrue(backoffRatio > 0 && backoffRatio < 1, "backoffRatio must be between 0 and 1");
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.limit = new AtomicInteger(initialLimit);
+    }
+
+    /**
+     * Try to reserve a slot for a new request.
+     * @return {@code true} if the request may proceed and must later be passed to
+     * {@link #release(long, boolean)}
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = this.inFlight.get();
+            if (current >= this.limit.get()) {
+                return false;
+            }
+            if (this.inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Release a slot reserved by {@link #tryAcquire()} and adjust the limit.
+     * @param latencyNanos how long the request took
+     * @param dropped whether the request failed in a way that indicates overload
+     */
+    public void release(long latencyNanos, boolean dropped) {
+        int inFlightBefore = this.inFlight.getAndDecrement();
+        if (dropped || latencyNanos > this.latencyThresholdNanos) {
+            this.limit.updateAndGet((current) -> Math.max(this.minLimit, (int) (current * this.backoffRatio)));
+        }
+        else if (inFlightBefore * 2 >= this.limit.get()) {
+            this.limit.updateAndGet((current) -> Math.min(this.maxLimit, current + 1));
+        }
+    }
+
+    /**
+     * Release a slot reserved by {@link #tryAcquire()} without adjusting the limit.
+     */
+    public void release() {
+        this.inFlight.decrementAndGet();
+    }
+
+    /**
+     * Return the current concurrency limit.
+     * @return the limit
+     */
+    public int getLimit() {
+        return this.limit.get();
+    }
+
+    /**
+     * Return the number of requests currently holding a slot.
+     * @return the in-flight count
+     */
+    public int getInFlight() {
+        return this.inFlight.get();
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.concurrency;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.childrengreens.web.context.exception.ServiceUnavailableException;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.jspecify.annotations.NonNull;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.Assert;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+/**
+ * Servlet filter that sheds load once the number of concurrent requests exceeds an
+ * {@link AimdConcurrencyLimiter}'s adaptive limit.
+ * <p>
+ * Rejected requests never reach the dispatcher. They are answered through the given
+ * {@link HandlerExceptionResolver} with a {@link ServiceUnavailableException}, so the
+ * {@code 503} body and {@code Retry-After} header come from the same exception
+ * handler that renders every other error. Without a resolver, only the status and
+ * header are written. Requests that go async keep their slot until the async request
+ * completes, but their duration is not reported to the limiter: long polls, server-sent
+ * events and streamed downloads are slow by design and must not shrink the limit for
+ * regular traffic. Only an async error counts as an overload signal.
+ * <p>
+ * The filter must be ordered after Spring's {@code RequestContextFilter}, so that the
+ * resolver renders rejections with the request's locale.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final AimdConcurrencyLimiter limiter;
+
+    private final ServiceUnavailableException rejection;
+
+    private final HandlerExceptionResolver exceptionResolver;
+
+    public ConcurrencyLimitFilter(AimdConcurrencyLimiter limiter, ServiceUnavailableException rejection,
+            HandlerExceptionResolver exceptionResolver) {
+        Assert.notNull(limiter, "limiter must not be null");
+        Assert.notNull(rejection, "rejection must not be null");
+        this.limiter = limiter;
+        this.rejection = rejection;
+        this.exceptionResolver = exceptionResolver;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        if (!this.limiter.tryAcquire()) {
+            reject(request, response);
+            return;
+        }
+        long start = System.nanoTime();
+        boolean dropped = true;
+        try {
+            filterChain.doFilter(request, response);
+            dropped = false;
+        }
+        finally {
+            if (!dropped && request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleasingListener());
+            }
+            else {
+                this.limiter.release(System.nanoTime() - start, dropped);
+            }
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (this.exceptionResolver == null
+                || this.exceptionResolver.resolveException(request, response, null, this.rejection) == null) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            long retryAfter = this.rejection.getRetryAfterSeconds();
+            if (retryAfter >= 0) {
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+            }
+        }
+        response.flushBuffer();
+    }
+
+    private final class ReleasingListener implements AsyncListener {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release(false);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release(false);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release(true);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void release(boolean dropped) {
+            if (!this.released.compareAndSet(false, true)) {
+                return;
+            }
+            if (dropped) {
+                ConcurrencyLimitFilter.this.limiter.release(0, true);
+            }
+            else {
+                ConcurrencyLimitFilter.this.limiter.release();
+            }
+        }
+    }
+}
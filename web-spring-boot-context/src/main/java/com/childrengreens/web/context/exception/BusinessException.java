@@ -19,27 +19,59 @@ import java.util.Objects;
 
 /**
  * Exception type representing a business rule violation.
+ * <p>
+ * Business exceptions are expected control flow, so capturing a stack trace is often
+ * the most expensive part of throwing one. Stack trace capture and suppression can be
+ * turned off for every instance via {@link #setStackTraceEnabled(boolean)}, or per
+ * instance through the {@code writableStackTrace} constructor.
  */
 public class BusinessException extends RuntimeException {
 
+    private static volatile boolean stackTraceEnabled = true;
+
     private final ErrorCode errorCode;
 
     public BusinessException(ErrorCode errorCode) {
-        super(errorCode != null ? errorCode.getMessage() : null);
-        this.errorCode = Objects.requireNonNull(errorCode, "errorCode");
+        this(errorCode, errorCode != null ? errorCode.getMessage() : null, null, stackTraceEnabled);
     }
 
     public BusinessException(ErrorCode errorCode, String message) {
-        super(message);
-        this.errorCode = Objects.requireNonNull(errorCode, "errorCode");
+        this(errorCode, message, null, stackTraceEnabled);
     }
 
     public BusinessException(ErrorCode errorCode, String message, Throwable cause) {
-        super(message, cause);
+        this(errorCode, message, cause, stackTraceEnabled);
+    }
+
+    /**
+     * Create a new exception, choosing whether the stack trace is captured.
+     * @param errorCode the error code to report
+     * @param message the detail message
+     * @param cause the cause, may be {@code null}
+     * @param writableStackTrace whether the stack trace should be filled in; when
+     * {@code false}, suppressed exceptions are disabled as well
+     */
+    public BusinessException(ErrorCode errorCode, String message, Throwable cause, boolean writableStackTrace) {
+        super(message, cause, writableStackTrace, writableStackTrace);
         this.errorCode = Objects.requireNonNull(errorCode, "errorCode");
     }
 
     public ErrorCode getErrorCode() {
         return this.errorCode;
     }
+
+    /**
+     * Return whether business exceptions capture stack traces by default.
+     */
+    public static boolean isStackTraceEnabled() {
+        return stackTraceEnabled;
+    }
+
+    /**
+     * Set whether business exceptions created through the default constructors
+     * capture stack traces. Defaults to {@code true}.
+     */
+    public static void setStackTraceEnabled(boolean enabled) {
+        stackTraceEnabled = enabled;
+    }
 }
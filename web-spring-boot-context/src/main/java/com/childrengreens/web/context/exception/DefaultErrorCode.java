@@ -15,30 +15,39 @@
  */
 package com.childrengreens.web.context.exception;
 
+import org.springframework.http.HttpStatus;
+
 /**
  * Default set of error codes used by the web starter.
  */
 public enum DefaultErrorCode implements ErrorCode {
 
-    SUCCESS("0", "Success"),
+    SUCCESS("0", "Success", HttpStatus.OK),
+
+    VALIDATION_ERROR("1000", "Validation failed", HttpStatus.BAD_REQUEST),
 
-    VALIDATION_ERROR("1000", "Validation failed"),
+    BUSINESS_ERROR("1001", "Business rule violated", HttpStatus.BAD_REQUEST),
 
-    BUSINESS_ERROR("1001", "Business rule violated"),
+    UNAUTHORIZED("1002", "Unauthorized", HttpStatus.UNAUTHORIZED),
 
-    UNAUTHORIZED("1002", "Unauthorized"),
+    RESOURCE_NOT_FOUND("1004", "Resource not found", HttpStatus.NOT_FOUND),
 
-    RESOURCE_NOT_FOUND("1004", "Resource not found"),
+    SERVICE_UNAVAILABLE("1005", "Service unavailable", HttpStatus.SERVICE_UNAVAILABLE),
 
-    INTERNAL_ERROR("1999", "Internal server error");
+    TOO_MANY_REQUESTS("1006", "Too many requests", HttpStatus.TOO_MANY_REQUESTS),
+
+    INTERNAL_ERROR("1999", "Internal server error", HttpStatus.INTERNAL_SERVER_ERROR);
 
     private final String code;
 
     private final String message;
 
-    DefaultErrorCode(String code, String message) {
+    private final HttpStatus httpStatus;
+
+    DefaultErrorCode(String code, String message, HttpStatus httpStatus) {
         this.code = code;
         this.message = message;
+        this.httpStatus = httpStatus;
     }
 
     @Override
@@ -50,4 +59,9 @@ public enum DefaultErrorCode implements ErrorCode {
     public String getMessage() {
         return this.message;
     }
+
+    @Override
+    public HttpStatus getHttpStatus() {
+        return this.httpStatus;
+    }
 }
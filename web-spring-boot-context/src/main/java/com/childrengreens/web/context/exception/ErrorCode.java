@@ -15,6 +15,8 @@
  */
 package com.childrengreens.web.context.exception;
 
+import org.springframework.http.HttpStatus;
+
 /**
  * Contract for describing an application specific error code.
  */
@@ -33,4 +35,15 @@ public interface ErrorCode {
      * @return default error message
      */
     String getMessage();
+
+    /**
+     * HTTP status used when this error is reported through
+     * {@link GlobalExceptionHandler}. Can be overridden per code through
+     * {@link ErrorStatusMapping}.
+     *
+     * @return HTTP status, {@link HttpStatus#BAD_REQUEST} unless overridden
+     */
+    default HttpStatus getHttpStatus() {
+        return HttpStatus.BAD_REQUEST;
+    }
 }
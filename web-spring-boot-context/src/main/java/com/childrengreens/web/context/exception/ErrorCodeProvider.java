@@ -0,0 +1,40 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.exception;
+
+import java.util.Collection;
+
+/**
+ * Contributes {@link ErrorCode}s to the {@link ErrorCodeRegistry}.
+ * <p>
+ * Modules declare their codes explicitly, typically from an enum:
+ * <pre class="code">
+ * &#64;Bean
+ * ErrorCodeProvider orderErrorCodes() {
+ *     return () -&gt; List.of(OrderErrorCode.values());
+ * }
+ * </pre>
+ */
+@FunctionalInterface
+public interface ErrorCodeProvider {
+
+    /**
+     * Return the error codes contributed by this provider.
+     *
+     * @return error codes, never {@code null}
+     */
+    Collection<? extends ErrorCode> getErrorCodes();
+}
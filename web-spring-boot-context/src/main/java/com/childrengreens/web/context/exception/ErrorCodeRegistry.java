@@ -0,0 +1,119 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.exception;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Index of every known {@link ErrorCode}, keyed by its code.
+ * <p>
+ * Codes are registered explicitly rather than discovered through classpath scanning,
+ * which keeps the registry usable in AOT-processed applications. Two different error
+ * codes sharing the same code string are rejected when the registry is built, so
+ * collisions between modules surface at startup instead of in responses.
+ */
+public final class ErrorCodeRegistry {
+
+    private final Map<String, ErrorCode> errorCodes;
+
+    private final List<ErrorCode> orderedErrorCodes;
+
+    private ErrorCodeRegistry(Map<String, ErrorCode> errorCodes) {
+        this.errorCodes = Map.copyOf(errorCodes);
+        this.orderedErrorCodes = List.copyOf(errorCodes.values());
+    }
+
+    /**
+     * Build a registry from the given error codes.
+     * @param errorCodes the error codes to index
+     * @return the registry
+     * @throws IllegalStateException if different error codes share the same code
+     */
+    public static ErrorCodeRegistry of(Collection<? extends ErrorCode> errorCodes) {
+        Map<String, ErrorCode> index = new LinkedHashMap<>();
+        List<String> collisions = new ArrayList<>();
+        for (ErrorCode errorCode : errorCodes) {
+            Objects.requireNonNull(errorCode, "errorCode");
+            String code = Objects.requireNonNull(errorCode.getCode(), "code");
+            ErrorCode existing = index.putIfAbsent(code, errorCode);
+            if (existing != null && !existing.equals(errorCode)) {
+                collisions.add("'" + code + "' is declared by both " + describe(existing) + " and "
+                        + describe(errorCode));
+            }
+        }
+        if (!collisions.isEmpty()) {
+            throw new IllegalStateException("Duplicate error codes: " + String.join("; ", collisions));
+        }
+        return new ErrorCodeRegistry(index);
+    }
+
+    /**
+     * Build a registry from {@link DefaultErrorCode} and the codes contributed by the
+     * given providers.
+     * @param providers the providers to collect codes from
+     * @return the registry
+     * @throws IllegalStateException if different error codes share the same code
+     */
+    public static ErrorCodeRegistry fromProviders(Iterable<? extends ErrorCodeProvider> providers) {
+        List<ErrorCode> errorCodes = new ArrayList<>(List.of(DefaultErrorCode.values()));
+        for (ErrorCodeProvider provider : providers) {
+            errorCodes.addAll(provider.getErrorCodes());
+        }
+        return of(errorCodes);
+    }
+
+    /**
+     * Find the error code registered for the given code.
+     * @param code the code to look up
+     * @return the matching error code, or {@code null}
+     */
+    public ErrorCode find(String code) {
+        return (code != null) ? this.errorCodes.get(code) : null;
+    }
+
+    /**
+     * Return whether the given code is registered.
+     */
+    public boolean contains(String code) {
+        return find(code) != null;
+    }
+
+    /**
+     * Return every registered error code in registration order.
+     */
+    public List<ErrorCode> getErrorCodes() {
+        return this.orderedErrorCodes;
+    }
+
+    /**
+     * Return the number of registered error codes.
+     */
+    public int size() {
+        return this.orderedErrorCodes.size();
+    }
+
+    private static String describe(ErrorCode errorCode) {
+        if (errorCode instanceof Enum<?> constant) {
+            return constant.getDeclaringClass().getName() + "." + constant.name();
+        }
+        return errorCode.getClass().getName();
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.exception;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.childrengreens.web.context.response.ApiResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Cache of immutable error responses for error codes whose code and message never
+ * change.
+ * <p>
+ * Cached bodies are created through {@link ApiResponse#shared} so that the trace id
+ * is resolved when the response is written, which makes a single instance safe to
+ * return for every request. Only enum-based error codes are cached, keeping the
+ * number of entries bounded; localized variants are keyed by error code and message,
+ * which is bounded by the {@link LocalizedErrorMessages} table they come from.
+ */
+final class ErrorResponseCache {
+
+    private final Map<ErrorCode, ResponseEntity<ApiResponse<Void>>> responses = new ConcurrentHashMap<>();
+
+    private final Map<LocalizedKey, ResponseEntity<ApiResponse<Void>>> localizedResponses = new ConcurrentHashMap<>();
+
+    ResponseEntity<ApiResponse<Void>> get(ErrorCode errorCode, HttpStatus status) {
+        if (!(errorCode instanceof Enum<?>)) {
+            return build(errorCode, status);
+        }
+        ResponseEntity<ApiResponse<Void>> response = this.responses.get(errorCode);
+        if (response == null) {
+            response = this.responses.computeIfAbsent(errorCode, (key) -> build(key, status));
+        }
+        return (response.getStatusCode() == status) ? response : build(errorCode, status);
+    }
+
+    ResponseEntity<ApiResponse<Void>> get(ErrorCode errorCode, HttpStatus status, String message) {
+        if (!(errorCode instanceof Enum<?>)) {
+            return build(errorCode.getCode(), message, status);
+        }
+        LocalizedKey key = new LocalizedKey(errorCode, message);
+        ResponseEntity<ApiResponse<Void>> response = this.localizedResponses.get(key);
+        if (response == null) {
+            response = this.localizedResponses.computeIfAbsent(key, (k) -> build(errorCode.getCode(), message, status));
+        }
+        return (response.getStatusCode() == status) ? response : build(errorCode.getCode(), message, status);
+    }
+
+    private static ResponseEntity<ApiResponse<Void>> build(ErrorCode errorCode, HttpStatus status) {
+        return build(errorCode.getCode(), errorCode.getMessage(), status);
+    }
+
+    private static ResponseEntity<ApiResponse<Void>> build(String code, String message, HttpStatus status) {
+        ApiResponse<Void> body = ApiResponse.shared(code, message, null);
+        return ResponseEntity.status(status).body(body);
+    }
+
+    private record LocalizedKey(ErrorCode errorCode, String message) {
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.exception;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Immutable table mapping error codes to the HTTP status reported for them.
+ * <p>
+ * The table is built once from the statuses declared by known {@link ErrorCode}s and
+ * explicit overrides, so resolving a status on the error path is a single hash
+ * lookup. Codes missing from the table fall back to {@link ErrorCode#getHttpStatus()}.
+ */
+public final class ErrorStatusMapping {
+
+    private static final ErrorStatusMapping DEFAULT = of(List.of(DefaultErrorCode.values()), Collections.emptyMap());
+
+    private final Map<String, HttpStatus> statuses;
+
+    private ErrorStatusMapping(Map<String, HttpStatus> statuses) {
+        this.statuses = Map.copyOf(statuses);
+    }
+
+    /**
+     * Return the mapping for {@link DefaultErrorCode}.
+     */
+    public static ErrorStatusMapping defaults() {
+        return DEFAULT;
+    }
+
+    /**
+     * Build a mapping from the given error codes, applying overrides keyed by code.
+     * @param errorCodes the error codes whose declared statuses seed the table
+     * @param overrides statuses that take precedence over the declared ones
+     * @return the immutable mapping
+     */
+    public static ErrorStatusMapping of(Collection<? extends ErrorCode> errorCodes, Map<String, HttpStatus> overrides) {
+        Map<String, HttpStatus> statuses = new HashMap<>();
+        for (ErrorCode errorCode : errorCodes) {
+            HttpStatus status = errorCode.getHttpStatus();
+            if (status != null) {
+                statuses.put(errorCode.getCode(), status);
+            }
+        }
+        statuses.putAll(overrides);
+        return new ErrorStatusMapping(statuses);
+    }
+
+    /**
+     * Resolve the HTTP status for the given error code.
+     */
+    public HttpStatus resolve(ErrorCode errorCode) {
+        HttpStatus status = this.statuses.get(errorCode.getCode());
+        if (status != null) {
+            return status;
+        }
+        status = errorCode.getHttpStatus();
+        return (status != null) ? status : HttpStatus.BAD_REQUEST;
+    }
+
+    /**
+     * Return the table as a map of code to status, sorted by code.
+     */
+    public Map<String, HttpStatus> getStatuses() {
+        return Collections.unmodifiableMap(new TreeMap<>(this.statuses));
+    }
+}
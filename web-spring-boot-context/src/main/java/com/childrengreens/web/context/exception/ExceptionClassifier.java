@@ -0,0 +1,133 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.exception;
+
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.web.context.request.async.AsyncRequestNotUsableException;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
+
+/**
+ * Classifies exceptions that reach the generic handler into client disconnects,
+ * async request timeouts and everything else, and counts the first two.
+ * <p>
+ * Classification is primarily done by type: the class hierarchy of each exception type
+ * is inspected once and the outcome cached in a {@link ClassValue}, so repeated lookups
+ * cost a single map probe per cause. Client disconnects are recognised by the fully
+ * qualified names of the container-specific types (Tomcat's
+ * {@code org.apache.catalina.connector.ClientAbortException} and Jetty's
+ * {@code org.eclipse.jetty.io.EofException}) so that neither container is required on
+ * the classpath, and by Spring's {@link AsyncRequestNotUsableException}. Messages are
+ * never inspected, so other I/O failures are always reported as errors.
+ */
+public class ExceptionClassifier {
+
+    static final int MAX_CAUSE_DEPTH = 8;
+
+    private static final Set<String> CLIENT_ABORT_TYPES = Set.of("org.apache.catalina.connector.ClientAbortException",
+            "org.eclipse.jetty.io.EofException");
+
+    private static final ClassValue<Category> CATEGORIES = new ClassValue<>() {
+
+        @Override
+        protected Category computeValue(Class<?> type) {
+            if (AsyncRequestTimeoutException.class.isAssignableFrom(type)) {
+                return Category.REQUEST_TIMEOUT;
+            }
+            if (AsyncRequestNotUsableException.class.isAssignableFrom(type)) {
+                return Category.CLIENT_ABORT;
+            }
+            for (Class<?> candidate = type; candidate != null; candidate = candidate.getSuperclass()) {
+                if (CLIENT_ABORT_TYPES.contains(candidate.getName())) {
+                    return Category.CLIENT_ABORT;
+                }
+            }
+            return Category.OTHER;
+        }
+    };
+
+    private final LongAdder clientAborts = new LongAdder();
+
+    private final LongAdder requestTimeouts = new LongAdder();
+
+    /**
+     * Classify the given exception, inspecting up to {@value #MAX_CAUSE_DEPTH} levels of
+     * its cause chain, and record the outcome.
+     * @param exception the exception to classify
+     * @return the category, never {@code null}
+     */
+    public Category classify(Throwable exception) {
+        Category category = categorize(exception);
+        if (category == Category.CLIENT_ABORT) {
+            this.clientAborts.increment();
+        }
+        else if (category == Category.REQUEST_TIMEOUT) {
+            this.requestTimeouts.increment();
+        }
+        return category;
+    }
+
+    /**
+     * Return the number of client disconnects seen so far.
+     * @return the client abort count
+     */
+    public long getClientAbortCount() {
+        return this.clientAborts.sum();
+    }
+
+    /**
+     * Return the number of async request timeouts seen so far.
+     * @return the request timeout count
+     */
+    public long getRequestTimeoutCount() {
+        return this.requestTimeouts.sum();
+    }
+
+    static Category categorize(Throwable exception) {
+        Throwable current = exception;
+        for (int depth = 0; current != null && depth < MAX_CAUSE_DEPTH; depth++) {
+            Category category = CATEGORIES.get(current.getClass());
+            if (category != Category.OTHER) {
+                return category;
+            }
+            Throwable cause = current.getCause();
+            current = (cause != current) ? cause : null;
+        }
+        return Category.OTHER;
+    }
+
+    /**
+     * Outcome of {@link #classify(Throwable)}.
+     */
+    public enum Category {
+
+        /**
+         * The client closed the connection before the response was written.
+         */
+        CLIENT_ABORT,
+
+        /**
+         * An async request did not complete within its timeout.
+         */
+        REQUEST_TIMEOUT,
+
+        /**
+         * Any other exception.
+         */
+        OTHER
+    }
+}
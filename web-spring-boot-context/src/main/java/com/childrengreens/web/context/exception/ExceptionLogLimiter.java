@@ -0,0 +1,216 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.exception;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Throttles repeated exception log statements.
+ * <p>
+ * Exceptions are fingerprinted by type, error code and throw site, the top stack
+ * frame. The first occurrence of a fingerprint is logged in full; further occurrences
+ * within the same window are only counted. When the same fingerprint recurs after the
+ * window closes, the caller reports the count as a one-line summary. Fingerprints are
+ * kept in a bounded {@link ConcurrentHashMap} and counted with {@link LongAdder}s, so
+ * the steady-state path takes no locks.
+ * <p>
+ * At most once per window, a {@link #check} also sweeps fingerprints whose window
+ * has closed. Any count still pending is logged as a summary by the limiter itself,
+ * so occurrences are reported even when a burst stops, and the entry is evicted to
+ * make room for new fingerprints.
+ */
+public final class ExceptionLogLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(ExceptionLogLimiter.class);
+
+    private static final Fingerprint OVERFLOW = new Fingerprint(ExceptionLogLimiter.class, null, null);
+
+    private final Map<Fingerprint, Entry> entries = new ConcurrentHashMap<>();
+
+    private final long windowNanos;
+
+    private final int maxFingerprints;
+
+    private final LongSupplier clock;
+
+    private final BiConsumer<String, Long> summaryLogger;
+
+    private final AtomicLong lastSweep;
+
+    public ExceptionLogLimiter(Duration window, int maxFingerprints) {
+        this(window, maxFingerprints, System::nanoTime, null);
+    }
+
+    ExceptionLogLimiter(Duration window, int maxFingerprints, LongSupplier clock,
+            BiConsumer<String, Long> summaryLogger) {
+        Assert.isTrue(window != null && !window.isNegative() && !window.isZero(), "window must be positive");
+        Assert.isTrue(maxFingerprints > 0, "maxFingerprints must be positive");
+        this.windowNanos = window.toNanos();
+        this.maxFingerprints = maxFingerprints;
+        this.clock = Objects.requireNonNull(clock, "clock");
+        this.summaryLogger = (summaryLogger != null) ? summaryLogger : (description, count) -> log
+                .warn("{} similar exceptions suppressed in the last {}: {}", count, window, description);
+        this.lastSweep = new AtomicLong(clock.getAsLong());
+    }
+
+    /**
+     * Record an occurrence of the given exception and decide how it should be logged.
+     * @param exception the exception about to be logged
+     * @param errorCode the error code reported for it, may be {@code null}
+     * @return the logging decision
+     */
+    public Decision check(Throwable exception, String errorCode) {
+        long now = this.clock.getAsLong();
+        Decision decision = decide(Fingerprint.of(exception, errorCode), now);
+        sweepIfDue(now);
+        return decision;
+    }
+
+    private Decision decide(Fingerprint fingerprint, long now) {
+        Entry entry = this.entries.get(fingerprint);
+        if (entry == null) {
+            entry = register(fingerprint, now);
+            if (entry == null) {
+                return Decision.FULL;
+            }
+        }
+        long windowStart = entry.windowStart.get();
+        if (now - windowStart >= this.windowNanos && entry.windowStart.compareAndSet(windowStart, now)) {
+            long suppressed = entry.suppressed.sumThenReset();
+            return (suppressed > 0) ? new Decision(true, suppressed) : Decision.FULL;
+        }
+        entry.suppressed.increment();
+        return Decision.SUPPRESS;
+    }
+
+    /**
+     * Return the window in which repeated occurrences are suppressed.
+     */
+    public Duration getWindow() {
+        return Duration.ofNanos(this.windowNanos);
+    }
+
+    int size() {
+        return this.entries.size();
+    }
+
+    private Entry register(Fingerprint fingerprint, long now) {
+        if (this.entries.size() >= this.maxFingerprints) {
+            sweepIfDue(now);
+            if (this.entries.size() >= this.maxFingerprints) {
+                Entry overflow = this.entries.get(OVERFLOW);
+                if (overflow != null) {
+                    return overflow;
+                }
+                fingerprint = OVERFLOW;
+            }
+        }
+        Entry created = new Entry(now);
+        Entry existing = this.entries.putIfAbsent(fingerprint, created);
+        return (existing != null) ? existing : null;
+    }
+
+    private void sweepIfDue(long now) {
+        long last = this.lastSweep.get();
+        if (now - last < this.windowNanos || !this.lastSweep.compareAndSet(last, now)) {
+            return;
+        }
+        for (Iterator<Map.Entry<Fingerprint, Entry>> iterator = this.entries.entrySet().iterator();
+                iterator.hasNext();) {
+            Map.Entry<Fingerprint, Entry> candidate = iterator.next();
+            Entry entry = candidate.getValue();
+            if (now - entry.windowStart.get() >= this.windowNanos) {
+                iterator.remove();
+                long suppressed = entry.suppressed.sumThenReset();
+                if (suppressed > 0) {
+                    this.summaryLogger.accept(candidate.getKey().describe(), suppressed);
+                }
+            }
+        }
+    }
+
+    /**
+     * Outcome of {@link #check(Throwable, String)}.
+     * @param logged whether the occurrence should produce a log statement
+     * @param suppressedCount number of occurrences suppressed during the previous
+     * window, reported in a summary instead of a full stack trace
+     */
+    public record Decision(boolean logged, long suppressedCount) {
+
+        static final Decision FULL = new Decision(true, 0);
+
+        static final Decision SUPPRESS = new Decision(false, 0);
+
+        /**
+         * Whether the exception should be logged with its stack trace.
+         */
+        public boolean isFull() {
+            return this.logged && this.suppressedCount == 0;
+        }
+
+        /**
+         * Whether a one-line summary of suppressed occurrences should be logged.
+         */
+        public boolean isSummary() {
+            return this.logged && this.suppressedCount > 0;
+        }
+    }
+
+    private record Fingerprint(Class<?> type, String errorCode, StackTraceElement throwSite) {
+
+        static Fingerprint of(Throwable exception, String errorCode) {
+            StackTraceElement[] stackTrace = exception.getStackTrace();
+            return new Fingerprint(exception.getClass(), errorCode, (stackTrace.length > 0) ? stackTrace[0] : null);
+        }
+
+        String describe() {
+            if (this == OVERFLOW) {
+                return "fingerprints beyond the tracked limit";
+            }
+            StringBuilder description = new StringBuilder(this.type.getName());
+            if (this.errorCode != null) {
+                description.append(" [").append(this.errorCode).append(']');
+            }
+            if (this.throwSite != null) {
+                description.append(" at ").append(this.throwSite);
+            }
+            return description.toString();
+        }
+    }
+
+    private static final class Entry {
+
+        private final AtomicLong windowStart;
+
+        private final LongAdder suppressed = new LongAdder();
+
+        Entry(long windowStart) {
+            this.windowStart = new AtomicLong(windowStart);
+        }
+    }
+}
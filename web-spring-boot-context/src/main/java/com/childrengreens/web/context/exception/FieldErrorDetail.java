@@ -0,0 +1,29 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.exception;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * A single validation error reported by {@link GlobalExceptionHandler}.
+ *
+ * @param field the rejected field, {@code null} for object-level errors
+ * @param code the constraint or error code, for example {@code NotBlank}
+ * @param message the resolved message
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record FieldErrorDetail(String field, String code, String message) {
+}
@@ -20,14 +20,16 @@ import com.childrengreens.web.context.response.ApiResponseFactory;
 import jakarta.validation.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.BindException;
 import org.springframework.validation.BindingResult;
-import org.springframework.validation.FieldError;
 import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -39,11 +41,25 @@ import org.springframework.web.method.annotation.MethodArgumentTypeMismatchExcep
 import org.springframework.web.servlet.NoHandlerFoundException;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * Default implementation of a global exception handler that produces a unified
  * response body.
+ * <p>
+ * When an {@link ExceptionLogLimiter} is supplied, repeated business and unexpected
+ * exceptions are logged in full once per window and summarised afterwards. Errors
+ * that carry nothing but a constant error code are answered with shared, immutable
+ * responses instead of allocating a new envelope per request.
+ * <p>
+ * Unexpected exceptions are first run through an {@link ExceptionClassifier}: client
+ * disconnects are counted and logged at debug level without writing a body, and
+ * async request timeouts are answered with {@code 503 Service Unavailable}.
+ * <p>
+ * When {@link LocalizedErrorMessages} are supplied, errors that carry their error
+ * code's default message are answered with the message localized for the current
+ * request locale instead.
  */
 @RestControllerAdvice
 @Order(Ordered.HIGHEST_PRECEDENCE + 10)
@@ -53,35 +69,114 @@ public class GlobalExceptionHandler {
 
     private final ApiResponseFactory responseFactory;
 
+    private final ExceptionLogLimiter logLimiter;
+
+    private final ErrorStatusMapping statusMapping;
+
+    private final ValidationErrorCollector validationErrorCollector;
+
+    private final ExceptionClassifier exceptionClassifier;
+
+    private final LocalizedErrorMessages localizedMessages;
+
+    private final ErrorResponseCache errorResponses = new ErrorResponseCache();
+
     public GlobalExceptionHandler(ApiResponseFactory responseFactory) {
+        this(responseFactory, null);
+    }
+
+    public GlobalExceptionHandler(ApiResponseFactory responseFactory, ExceptionLogLimiter logLimiter) {
+        this(responseFactory, logLimiter, ErrorStatusMapping.defaults());
+    }
+
+    public GlobalExceptionHandler(ApiResponseFactory responseFactory, ExceptionLogLimiter logLimiter,
+            ErrorStatusMapping statusMapping) {
+        this(responseFactory, logLimiter, statusMapping, new ValidationErrorCollector());
+    }
+
+    public GlobalExceptionHandler(ApiResponseFactory responseFactory, ExceptionLogLimiter logLimiter,
+            ErrorStatusMapping statusMapping, ValidationErrorCollector validationErrorCollector) {
+        this(responseFactory, logLimiter, statusMapping, validationErrorCollector, new ExceptionClassifier());
+    }
+
+    public GlobalExceptionHandler(ApiResponseFactory responseFactory, ExceptionLogLimiter logLimiter,
+            ErrorStatusMapping statusMapping, ValidationErrorCollector validationErrorCollector,
+            ExceptionClassifier exceptionClassifier) {
+        this(responseFactory, logLimiter, statusMapping, validationErrorCollector, exceptionClassifier, null);
+    }
+
+    public GlobalExceptionHandler(ApiResponseFactory responseFactory, ExceptionLogLimiter logLimiter,
+            ErrorStatusMapping statusMapping, ValidationErrorCollector validationErrorCollector,
+            ExceptionClassifier exceptionClassifier, LocalizedErrorMessages localizedMessages) {
         this.responseFactory = responseFactory;
+        this.logLimiter = logLimiter;
+        this.statusMapping = Objects.requireNonNull(statusMapping, "statusMapping");
+        this.validationErrorCollector = Objects.requireNonNull(validationErrorCollector, "validationErrorCollector");
+        this.exceptionClassifier = Objects.requireNonNull(exceptionClassifier, "exceptionClassifier");
+        this.localizedMessages = localizedMessages;
     }
 
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<ApiResponse<Void>> handleBusinessException(BusinessException exception) {
-        log.warn("Business exception: {}", exception.getMessage(), exception);
-        var response = this.responseFactory.failure(exception.getErrorCode(), exception.getMessage());
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        logThrottled(Level.WARN, exception, exception.getErrorCode().getCode(), "Business exception: {}",
+                exception::getMessage);
+        ErrorCode errorCode = exception.getErrorCode();
+        HttpStatus status = this.statusMapping.resolve(errorCode);
+        if (Objects.equals(exception.getMessage(), errorCode.getMessage())) {
+            return constantResponse(errorCode, status);
+        }
+        var response = this.responseFactory.failure(errorCode, exception.getMessage());
+        return ResponseEntity.status(status).body(response);
+    }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ApiResponse<Void>> handleServiceUnavailable(ServiceUnavailableException exception) {
+        log.debug("Request rejected: {}", exception.getMessage());
+        return rejection(exception, HttpStatus.SERVICE_UNAVAILABLE, exception.getRetryAfterSeconds());
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ApiResponse<Void>> handleTooManyRequests(TooManyRequestsException exception) {
+        log.debug("Request throttled: {}", exception.getMessage());
+        return rejection(exception, HttpStatus.TOO_MANY_REQUESTS, exception.getRetryAfterSeconds());
+    }
+
+    private ResponseEntity<ApiResponse<Void>> rejection(BusinessException exception, HttpStatus status,
+            long retryAfter) {
+        ErrorCode errorCode = exception.getErrorCode();
+        ApiResponse<Void> body = Objects.equals(exception.getMessage(), errorCode.getMessage())
+                ? constantResponse(errorCode, status).getBody()
+                : ApiResponse.failure(errorCode, exception.getMessage());
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(status);
+        if (retryAfter >= 0) {
+            builder.header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        }
+        return builder.body(body);
     }
 
     @ExceptionHandler({ MethodArgumentNotValidException.class, BindException.class })
-    public ResponseEntity<ApiResponse<Void>> handleBindingErrors(Exception exception) {
+    public ResponseEntity<ApiResponse<List<FieldErrorDetail>>> handleBindingErrors(Exception exception) {
         BindingResult bindingResult = exception instanceof MethodArgumentNotValidException
                 ? ((MethodArgumentNotValidException) exception).getBindingResult()
                 : ((BindException) exception).getBindingResult();
-        List<String> messages = bindingResult.getAllErrors().stream().map(error -> {
-            if (error instanceof FieldError fieldError) {
-                return fieldError.getField() + ": " + fieldError.getDefaultMessage();
-            }
-            return error.getDefaultMessage();
-        }).collect(Collectors.toList());
-        var response = ApiResponse.failure(DefaultErrorCode.VALIDATION_ERROR,
-                String.join("; ", messages));
+        ValidationErrorCollector.Result result = this.validationErrorCollector.collect(bindingResult);
+        var response = ApiResponse.of(DefaultErrorCode.VALIDATION_ERROR.getCode(), result.message(), result.errors());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<ApiResponse<List<FieldErrorDetail>>> handleConstraintViolation(
+            ConstraintViolationException exception) {
+        log.debug("Constraint validation failed: {}", exception.getMessage(), exception);
+        ValidationErrorCollector.Result result = this.validationErrorCollector
+                .collect(exception.getConstraintViolations());
+        String message = result.message().isEmpty() ? exception.getMessage() : result.message();
+        var response = ApiResponse.of(DefaultErrorCode.VALIDATION_ERROR.getCode(),
+                message != null ? message : DefaultErrorCode.VALIDATION_ERROR.getMessage(), result.errors());
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
-    @ExceptionHandler({ ConstraintViolationException.class, MethodArgumentTypeMismatchException.class,
-            MissingServletRequestParameterException.class })
+    @ExceptionHandler({ MethodArgumentTypeMismatchException.class, MissingServletRequestParameterException.class })
     public ResponseEntity<ApiResponse<Void>> handleBadRequest(Exception exception) {
         log.debug("Request validation failed: {}", exception.getMessage(), exception);
         var response = ApiResponse.failure(DefaultErrorCode.VALIDATION_ERROR,
@@ -122,15 +217,62 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(UnauthorizedException.class)
     public ResponseEntity<ApiResponse<Void>> handleUnauthorized(UnauthorizedException exception) {
-        String message = exception.getMessage() != null ? exception.getMessage() : DefaultErrorCode.UNAUTHORIZED.getMessage();
+        String message = exception.getMessage();
+        if (message == null || message.equals(DefaultErrorCode.UNAUTHORIZED.getMessage())) {
+            return constantResponse(DefaultErrorCode.UNAUTHORIZED, HttpStatus.UNAUTHORIZED);
+        }
         var response = ApiResponse.failure(DefaultErrorCode.UNAUTHORIZED, message);
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
     }
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<Void>> handleGenericException(Exception exception, WebRequest request) {
-        log.error("Unhandled exception processing request {}", request.getDescription(false), exception);
-        var response = this.responseFactory.failure(DefaultErrorCode.INTERNAL_ERROR);
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        switch (this.exceptionClassifier.classify(exception)) {
+            case CLIENT_ABORT -> {
+                log.debug("Client disconnected while processing request {}", request.getDescription(false), exception);
+                return null;
+            }
+            case REQUEST_TIMEOUT -> {
+                log.debug("Async request timed out: {}", request.getDescription(false));
+                return constantResponse(DefaultErrorCode.SERVICE_UNAVAILABLE, HttpStatus.SERVICE_UNAVAILABLE);
+            }
+            default -> {
+            }
+        }
+        logThrottled(Level.ERROR, exception, DefaultErrorCode.INTERNAL_ERROR.getCode(),
+                "Unhandled exception processing request {}", () -> request.getDescription(false));
+        return constantResponse(DefaultErrorCode.INTERNAL_ERROR, HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    private ResponseEntity<ApiResponse<Void>> constantResponse(ErrorCode errorCode, HttpStatus status) {
+        if (this.localizedMessages != null) {
+            String message = this.localizedMessages.getMessage(errorCode, LocaleContextHolder.getLocale());
+            if (message != null) {
+                return this.errorResponses.get(errorCode, status, message);
+            }
+        }
+        return this.errorResponses.get(errorCode, status);
+    }
+
+    private void logThrottled(Level level, Throwable exception, String errorCode, String message,
+            Supplier<?> argument) {
+        if (!log.isEnabledForLevel(level)) {
+            return;
+        }
+        if (this.logLimiter == null) {
+            log.atLevel(level).setCause(exception).addArgument(argument).log(message);
+            return;
+        }
+        ExceptionLogLimiter.Decision decision = this.logLimiter.check(exception, errorCode);
+        if (decision.isFull()) {
+            log.atLevel(level).setCause(exception).addArgument(argument).log(message);
+        }
+        else if (decision.isSummary()) {
+            log.atLevel(level)
+                .addArgument(argument)
+                .addArgument(decision.suppressedCount())
+                .addArgument(this.logLimiter.getWindow())
+                .log(message + " ({} similar exceptions suppressed in the last {})");
+        }
     }
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.exception;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import com.childrengreens.web.context.i18n.MessageResolver;
+import org.springframework.util.Assert;
+
+/**
+ * Table of localized {@link ErrorCode} messages, resolved once per code and locale
+ * when the table is built.
+ * <p>
+ * The message of an error code is looked up through a {@link MessageResolver} under
+ * the given prefix followed by the code, for example {@code error.1001}. Codes
+ * without a message for a locale keep their default message. At request time a
+ * message is found by exact locale, then by language, then in the default locale,
+ * so localizing an error response costs a few map lookups and never reaches the
+ * {@code MessageSource}.
+ */
+public final class LocalizedErrorMessages {
+
+    private final Map<Locale, Map<String, String>> messages;
+
+    private final Locale defaultLocale;
+
+    /**
+     * Resolve the messages of the given error codes for every supported locale.
+     * @param messageResolver the resolver to look messages up with
+     * @param errorCodes the error codes to localize
+     * @param supportedLocales the locales to build tables for
+     * @param defaultLocale the locale used when a request locale is not supported
+     * @param keyPrefix the prefix of message keys, for example {@code error.}
+     */
+    public LocalizedErrorMessages(MessageResolver messageResolver, Collection<? extends ErrorCode> errorCodes,
+            Collection<Locale> supportedLocales, Locale defaultLocale, String keyPrefix) {
+        Assert.notNull(messageResolver, "messageResolver must not be null");
+        Assert.notNull(errorCodes, "errorCodes must not be null");
+        Assert.notNull(defaultLocale, "defaultLocale must not be null");
+        Assert.notNull(keyPrefix, "keyPrefix must not be null");
+        Set<Locale> locales = new LinkedHashSet<>(supportedLocales);
+        locales.add(defaultLocale);
+        Map<Locale, Map<String, String>> messages = new HashMap<>();
+        for (Locale locale : locales) {
+            Map<String, String> table = new HashMap<>();
+            for (ErrorCode errorCode : errorCodes) {
+                String key = keyPrefix + errorCode.getCode();
+                String message = messageResolver.getMessageForLocale(key, locale);
+                if (message != null && !message.equals(key)) {
+                    table.put(errorCode.getCode(), message);
+                }
+            }
+            messages.put(locale, Map.copyOf(table));
+        }
+        this.messages = Map.copyOf(messages);
+        this.defaultLocale = defaultLocale;
+    }
+
+    /**
+     * Return the localized message of the given error code.
+     * @param errorCode the error code
+     * @param locale the requested locale, or {@code null} for the default locale
+     * @return the localized message, or {@code null} if the code has none
+     */
+    public String getMessage(ErrorCode errorCode, Locale locale) {
+        Map<String, String> table = (locale != null) ? findTable(locale) : null;
+        if (table == null) {
+            table = this.messages.get(this.defaultLocale);
+        }
+        return table.get(errorCode.getCode());
+    }
+
+    private Map<String, String> findTable(Locale locale) {
+        Map<String, String> table = this.messages.get(locale);
+        if (table == null && !locale.getCountry().isEmpty()) {
+            table = this.messages.get(Locale.forLanguageTag(locale.getLanguage()));
+        }
+        return table;
+    }
+
+    /**
+     * Return the locales a table was built for.
+     * @return the supported locales
+     */
+    public Set<Locale> getLocales() {
+        return this.messages.keySet();
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.exception;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a caller has exceeded its request quota.
+ * <p>
+ * Like {@link ServiceUnavailableException}, instances never capture a stack trace.
+ * The optional retry delay is rendered as a {@code Retry-After} header by
+ * {@link GlobalExceptionHandler}.
+ */
+public class TooManyRequestsException extends BusinessException {
+
+    private final Duration retryAfter;
+
+    public TooManyRequestsException(Duration retryAfter) {
+        this(DefaultErrorCode.TOO_MANY_REQUESTS.getMessage(), retryAfter);
+    }
+
+    public TooManyRequestsException(String message, Duration retryAfter) {
+        super(DefaultErrorCode.TOO_MANY_REQUESTS, message, null, false);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Return how long the caller should wait before retrying.
+     * @return the retry delay, or {@code null} if none should be advertised
+     */
+    public Duration getRetryAfter() {
+        return this.retryAfter;
+    }
+
+    /**
+     * Return the retry delay in whole seconds, rounded up, as used for the
+     * {@code Retry-After} header.
+     * @return the delay in seconds, or {@code -1} if none should be advertised
+     */
+    public long getRetryAfterSeconds() {
+        if (this.retryAfter == null || this.retryAfter.isNegative()) {
+            return -1;
+        }
+        return (this.retryAfter.toMillis() + 999) / 1000;
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.exception;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.childrengreens.web.context.i18n.MessageResolver;
+import jakarta.validation.ConstraintViolation;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.util.Assert;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+
+/**
+ * Turns binding errors and constraint violations into a bounded list of
+ * {@link FieldErrorDetail}s plus a summary message, in a single pass over the errors.
+ * <p>
+ * When a {@link MessageResolver} is available, application messages registered for
+ * an error's codes take precedence over the default message. Which of the codes
+ * resolves is remembered per locale, so repeated errors of the same kind skip the
+ * lookups that are known to miss.
+ */
+public final class ValidationErrorCollector {
+
+    /**
+     * Default number of errors reported per response.
+     */
+    public static final int DEFAULT_MAX_ERRORS = 50;
+
+    private static final int MAX_CACHED_RESOLUTIONS = 1024;
+
+    private static final int UNRESOLVED = -1;
+
+    private final int maxErrors;
+
+    private final MessageResolver messageResolver;
+
+    private final Map<ResolutionKey, Integer> resolutions = new ConcurrentHashMap<>();
+
+    public ValidationErrorCollector() {
+        this(DEFAULT_MAX_ERRORS, null);
+    }
+
+    /**
+     * Create a new collector.
+     * @param maxErrors maximum number of errors reported in detail
+     * @param messageResolver resolver for application messages, may be {@code null}
+     */
+    public ValidationErrorCollector(int maxErrors, MessageResolver messageResolver) {
+        Assert.isTrue(maxErrors > 0, "maxErrors must be positive");
+        this.maxErrors = maxErrors;
+        this.messageResolver = messageResolver;
+    }
+
+    /**
+     * Collect the errors held by the given binding result.
+     * @param bindingResult the binding result
+     * @return the collected errors
+     */
+    public Result collect(BindingResult bindingResult) {
+        int total = bindingResult.getErrorCount();
+        int reported = Math.min(total, this.maxErrors);
+        List<FieldErrorDetail> details = new ArrayList<>(reported);
+        StringBuilder summary = new StringBuilder();
+        Locale locale = LocaleContextHolder.getLocale();
+        for (ObjectError error : bindingResult.getAllErrors()) {
+            if (details.size() == reported) {
+                break;
+            }
+            String field = (error instanceof FieldError fieldError) ? fieldError.getField() : null;
+            String message = resolveMessage(error, locale);
+            details.add(new FieldErrorDetail(field, error.getCode(), message));
+            append(summary, field, message);
+        }
+        return new Result(Collections.unmodifiableList(details), finish(summary, total - details.size()));
+    }
+
+    /**
+     * Collect the given Bean Validation constraint violations. Messages are taken as
+     * interpolated by the validator.
+     * @param violations the violations, may be {@code null}
+     * @return the collected errors
+     */
+    public Result collect(Collection<? extends ConstraintViolation<?>> violations) {
+        if (violations == null || violations.isEmpty()) {
+            return new Result(List.of(), "");
+        }
+        int total = violations.size();
+        int reported = Math.min(total, this.maxErrors);
+        List<FieldErrorDetail> details = new ArrayList<>(reported);
+        StringBuilder summary = new StringBuilder();
+        for (ConstraintViolation<?> violation : violations) {
+            if (details.size() == reported) {
+                break;
+            }
+            String field = (violation.getPropertyPath() != null) ? violation.getPropertyPath().toString() : null;
+            if (field != null && field.isEmpty()) {
+                field = null;
+            }
+            String code = violation.getConstraintDescriptor() != null
+                    ? violation.getConstraintDescriptor().getAnnotation().annotationType().getSimpleName() : null;
+            details.add(new FieldErrorDetail(field, code, violation.getMessage()));
+            append(summary, field, violation.getMessage());
+        }
+        return new Result(Collections.unmodifiableList(details), finish(summary, total - details.size()));
+    }
+
+    /**
+     * Return the maximum number of errors reported in detail.
+     */
+    public int getMaxErrors() {
+        return this.maxErrors;
+    }
+
+    int cachedResolutions() {
+        return this.resolutions.size();
+    }
+
+    static void append(StringBuilder summary, String field, String message) {
+        if (!summary.isEmpty()) {
+            summary.append("; ");
+        }
+        if (field != null) {
+            summary.append(field).append(": ");
+        }
+        summary.append(message);
+    }
+
+    static String finish(StringBuilder summary, int omitted) {
+        if (omitted > 0) {
+            summary.append("; and ").append(omitted).append(" more");
+        }
+        return summary.toString();
+    }
+
+    private String resolveMessage(ObjectError error, Locale locale) {
+        String[] codes = error.getCodes();
+        if (this.messageResolver == null || codes == null || codes.length == 0) {
+            return defaultMessage(error);
+        }
+        ResolutionKey key = new ResolutionKey(codes[0], locale);
+        Integer index = this.resolutions.get(key);
+        if (index == null) {
+            index = findResolvableCode(codes, locale, error.getArguments());
+            if (this.resolutions.size() < MAX_CACHED_RESOLUTIONS) {
+                this.resolutions.putIfAbsent(key, index);
+            }
+        }
+        if (index == UNRESOLVED || index >= codes.length) {
+            return defaultMessage(error);
+        }
+        return this.messageResolver.getMessageForLocale(codes[index], locale, error.getArguments());
+    }
+
+    private int findResolvableCode(String[] codes, Locale locale, Object[] arguments) {
+        for (int i = 0; i < codes.length; i++) {
+            String message = this.messageResolver.getMessageForLocale(codes[i], locale, arguments);
+            if (message != null && !message.equals(codes[i])) {
+                return i;
+            }
+        }
+        return UNRESOLVED;
+    }
+
+    private static String defaultMessage(ObjectError error) {
+        String message = error.getDefaultMessage();
+        return (message != null) ? message : DefaultErrorCode.VALIDATION_ERROR.getMessage();
+    }
+
+    /**
+     * Collected validation errors.
+     *
+     * @param errors the reported errors, at most {@link #getMaxErrors()}
+     * @param message a summary of the reported errors
+     */
+    public record Result(List<FieldErrorDetail> errors, String message) {
+    }
+
+    private record ResolutionKey(String code, Locale locale) {
+    }
+}
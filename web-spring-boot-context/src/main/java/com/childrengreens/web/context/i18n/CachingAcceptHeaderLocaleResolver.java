@@ -0,0 +1,154 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.i18n;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.Assert;
+import org.springframework.web.servlet.i18n.AcceptHeaderLocaleResolver;
+
+/**
+ * {@link AcceptHeaderLocaleResolver} that caches the resolved locale per
+ * {@code Accept-Language} header value.
+ * <p>
+ * Clients send few distinct header values, so after warm-up a request is resolved
+ * with one map lookup instead of the container parsing the header and the resolver
+ * matching it against the supported locales. The cache is bounded: when it is full,
+ * the least recently used tenth of the entries is evicted, with access times tracked
+ * at a one second granularity so that hits rarely write to shared memory. Header values longer than
+ * {@value #MAX_HEADER_LENGTH} characters are resolved without caching. Hits and
+ * misses are counted for monitoring.
+ */
+public class CachingAcceptHeaderLocaleResolver extends AcceptHeaderLocaleResolver {
+
+    private static final int MAX_HEADER_LENGTH = 256;
+
+    private static final long ACCESS_GRANULARITY_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final int maxSize;
+
+    private final Map<String, Entry> cache = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    public CachingAcceptHeaderLocaleResolver(int maxSize) {
+        Assert.isTrue(maxSize > 0, "maxSize must be positive");
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public Locale resolveLocale(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.ACCEPT_LANGUAGE);
+        if (header == null || header.length() > MAX_HEADER_LENGTH) {
+            return super.resolveLocale(request);
+        }
+        Entry entry = this.cache.get(header);
+        if (entry != null) {
+            this.hits.increment();
+            long now = System.nanoTime();
+            if (now - entry.lastAccess > ACCESS_GRANULARITY_NANOS) {
+                entry.lastAccess = now;
+            }
+            return entry.locale;
+        }
+        this.misses.increment();
+        Locale locale = super.resolveLocale(request);
+        if (this.cache.size() >= this.maxSize) {
+            evictLeastRecentlyUsed();
+        }
+        this.cache.put(header, new Entry(locale, System.nanoTime()));
+        return locale;
+    }
+
+    private synchronized void evictLeastRecentlyUsed() {
+        if (this.cache.size() < this.maxSize) {
+            return;
+        }
+        List<Map.Entry<String, Entry>> entries = new ArrayList<>(this.cache.entrySet());
+        entries.sort(Comparator.comparingLong((candidate) -> candidate.getValue().lastAccess));
+        int evictions = Math.max(1, entries.size() / 10);
+        for (int i = 0; i < evictions; i++) {
+            this.cache.remove(entries.get(i).getKey(), entries.get(i).getValue());
+        }
+    }
+
+    @Override
+    public void setSupportedLocales(List<Locale> locales) {
+        super.setSupportedLocales(locales);
+        clearCache();
+    }
+
+    @Override
+    public void setDefaultLocale(Locale defaultLocale) {
+        super.setDefaultLocale(defaultLocale);
+        clearCache();
+    }
+
+    /**
+     * Discard all cached locales.
+     */
+    public void clearCache() {
+        this.cache.clear();
+    }
+
+    /**
+     * Return the number of requests resolved from the cache.
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Return the number of requests whose header had to be resolved.
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Return the number of cached header values.
+     * @return the cache size
+     */
+    public int getCacheSize() {
+        return this.cache.size();
+    }
+
+    private static final class Entry {
+
+        private final Locale locale;
+
+        private volatile long lastAccess;
+
+        Entry(Locale locale, long lastAccess) {
+            this.locale = locale;
+            this.lastAccess = lastAccess;
+        }
+    }
+}
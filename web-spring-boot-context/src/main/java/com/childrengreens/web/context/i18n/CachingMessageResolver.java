@@ -0,0 +1,153 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.i18n;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+import org.springframework.context.MessageSource;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * {@link MessageResolver} that caches message templates per code and locale.
+ * <p>
+ * Each template is fetched from the {@link MessageSource} once, without arguments,
+ * so the message source performs its locale fallback and properties lookup only on a
+ * cache miss. Messages requested without arguments are returned as the stored
+ * string, as {@code MessageSource} does by default, and parameterized messages are
+ * formatted by a {@link MessageTemplate} compiled on first use, so no
+ * {@code MessageFormat} is parsed or locked per call.
+ * <p>
+ * Cached templates expire after the given time to live so that reloadable message
+ * sources are still picked up; a negative value caches them forever. Arguments
+ * that are themselves {@link MessageSourceResolvable} are delegated to the message
+ * source unchanged.
+ */
+public class CachingMessageResolver implements MessageResolver {
+
+    private static final int MAX_ENTRIES_PER_LOCALE = 10_000;
+
+    private final MessageSource messageSource;
+
+    private final long ttlNanos;
+
+    private final LongSupplier clock;
+
+    private final ConcurrentMap<Locale, ConcurrentMap<String, Entry>> entries = new ConcurrentHashMap<>();
+
+    public CachingMessageResolver(MessageSource messageSource, Duration ttl) {
+        this(messageSource, ttl, System::nanoTime);
+    }
+
+    CachingMessageResolver(MessageSource messageSource, Duration ttl, LongSupplier clock) {
+        Assert.notNull(messageSource, "messageSource must not be null");
+        Assert.notNull(ttl, "ttl must not be null");
+        this.messageSource = messageSource;
+        this.ttlNanos = ttl.isNegative() ? -1 : ttl.toNanos();
+        this.clock = clock;
+    }
+
+    @Override
+    public String getMessage(String code, Object... args) {
+        return getMessageInternal(code, LocaleContextHolder.getLocale(), args);
+    }
+
+    @Override
+    public String getMessageForLocale(String code, Locale locale, Object... args) {
+        return getMessageInternal(code, (locale != null) ? locale : LocaleContextHolder.getLocale(), args);
+    }
+
+    private String getMessageInternal(String code, Locale locale, Object[] args) {
+        if (this.ttlNanos == 0 || hasResolvableArgument(args)) {
+            return this.messageSource.getMessage(code, args, code, locale);
+        }
+        Entry entry = getEntry(code, locale);
+        if (ObjectUtils.isEmpty(args)) {
+            return entry.message;
+        }
+        return entry.template(locale).format(args, locale);
+    }
+
+    private Entry getEntry(String code, Locale locale) {
+        ConcurrentMap<String, Entry> messages = this.entries.computeIfAbsent(locale,
+                (key) -> new ConcurrentHashMap<>());
+        long now = this.clock.getAsLong();
+        Entry entry = messages.get(code);
+        if (entry == null || entry.isExpired(now, this.ttlNanos)) {
+            entry = new Entry(resolveTemplate(code, locale), now);
+            if (messages.size() < MAX_ENTRIES_PER_LOCALE || messages.containsKey(code)) {
+                messages.put(code, entry);
+            }
+        }
+        return entry;
+    }
+
+    private String resolveTemplate(String code, Locale locale) {
+        String message = this.messageSource.getMessage(code, null, null, locale);
+        return (message != null) ? message : code;
+    }
+
+    private static boolean hasResolvableArgument(Object[] args) {
+        if (args != null) {
+            for (Object arg : args) {
+                if (arg instanceof MessageSourceResolvable) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Discard all cached templates.
+     */
+    public void clear() {
+        this.entries.clear();
+    }
+
+    private static final class Entry {
+
+        private final String message;
+
+        private final long loadedAt;
+
+        private volatile MessageTemplate template;
+
+        Entry(String message, long loadedAt) {
+            this.message = message;
+            this.loadedAt = loadedAt;
+        }
+
+        boolean isExpired(long now, long ttlNanos) {
+            return ttlNanos > 0 && now - this.loadedAt >= ttlNanos;
+        }
+
+        MessageTemplate template(Locale locale) {
+            MessageTemplate template = this.template;
+            if (template == null) {
+                template = MessageTemplate.compile(this.message, locale);
+                this.template = template;
+            }
+            return template;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.i18n;
+
+import java.text.DateFormat;
+import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Message pattern compiled once and formatted without synchronization.
+ * <p>
+ * Patterns whose arguments are all plain {@code {n}} placeholders are split into
+ * literal fragments and argument indexes, formatted the way {@link MessageFormat}
+ * formats untyped arguments. Patterns using format types or styles, such as
+ * {@code {0,number,#.##}} or choice formats, keep a parsed {@link MessageFormat}
+ * prototype that is cloned for each call instead of being parsed again.
+ */
+final class MessageTemplate {
+
+    private final String[] literals;
+
+    private final int[] indexes;
+
+    private final MessageFormat prototype;
+
+    private MessageTemplate(String[] literals, int[] indexes, MessageFormat prototype) {
+        this.literals = literals;
+        this.indexes = indexes;
+        this.prototype = prototype;
+    }
+
+    /**
+     * Compile the given {@link MessageFormat} pattern.
+     * @param pattern the pattern
+     * @param locale the locale used to format numbers and dates
+     * @return the compiled template
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    static MessageTemplate compile(String pattern, Locale locale) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '\'') {
+                    literal.append('\'');
+                    i++;
+                }
+                else {
+                    quoted = !quoted;
+                }
+            }
+            else if (quoted || c != '{') {
+                literal.append(c);
+            }
+            else {
+                int close = pattern.indexOf('}', i + 1);
+                int index = (close > i + 1) ? parseIndex(pattern, i + 1, close) : -1;
+                if (index < 0) {
+                    return new MessageTemplate(null, null, new MessageFormat(pattern, locale));
+                }
+                literals.add(literal.toString());
+                literal.setLength(0);
+                indexes.add(index);
+                i = close;
+            }
+        }
+        literals.add(literal.toString());
+        return new MessageTemplate(literals.toArray(new String[0]),
+                indexes.stream().mapToInt(Integer::intValue).toArray(), null);
+    }
+
+    private static int parseIndex(String pattern, int start, int end) {
+        if (end - start > 4) {
+            return -1;
+        }
+        int index = 0;
+        for (int i = start; i < end; i++) {
+            char c = pattern.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            index = index * 10 + (c - '0');
+        }
+        return index;
+    }
+
+    /**
+     * Format the template with the given arguments.
+     * @param args the arguments
+     * @param locale the locale used to format numbers and dates
+     * @return the formatted message
+     */
+    String format(Object[] args, Locale locale) {
+        if (this.prototype != null) {
+            return ((MessageFormat) this.prototype.clone()).format(args);
+        }
+        StringBuilder result = new StringBuilder(64);
+        for (int i = 0; i < this.indexes.length; i++) {
+            result.append(this.literals[i]);
+            int index = this.indexes[i];
+            if (index >= args.length) {
+                result.append('{').append(index).append('}');
+            }
+            else {
+                appendArgument(result, args[index], locale);
+            }
+        }
+        return result.append(this.literals[this.indexes.length]).toString();
+    }
+
+    private static void appendArgument(StringBuilder result, Object argument, Locale locale) {
+        if (argument instanceof String string) {
+            result.append(string);
+        }
+        else if (argument instanceof Number number) {
+            result.append(NumberFormat.getInstance(locale).format(number));
+        }
+        else if (argument instanceof Date date) {
+            result.append(DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, locale).format(date));
+        }
+        else {
+            result.append(argument);
+        }
+    }
+}
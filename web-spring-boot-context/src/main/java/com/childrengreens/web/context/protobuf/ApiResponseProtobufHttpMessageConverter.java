@@ -0,0 +1,188 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.protobuf;
+
+import java.io.IOException;
+import java.util.Map;
+
+import com.childrengreens.web.context.advice.EnvelopeAwareHttpMessageConverter;
+import com.childrengreens.web.context.response.ApiResponse;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.Message;
+import com.google.protobuf.WireFormat;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractSmartHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Write-only converter that renders {@link ApiResponse} envelopes as protocol buffers
+ * for clients sending {@code Accept: application/x-protobuf}.
+ * <p>
+ * The wire layout matches {@code api_response.proto} shipped next to this class:
+ * {@link Message} payloads are written as {@code google.protobuf.Any} and binary
+ * payloads as raw bytes. The envelope is streamed field by field, so no intermediate
+ * {@code Any} or {@link ByteString} copy of the payload is created.
+ * <p>
+ * Whether a body can be written is decided from its declared type during content
+ * negotiation: envelopes whose payload type is known to have no protobuf
+ * representation are declined, so such requests fall through to another converter or
+ * are answered with {@code 406} instead of failing half-way through the response.
+ * <p>
+ * Custom converters are consulted before the default ones, so during a request the
+ * protobuf representation is only offered when the {@code Accept} header names
+ * {@code application/x-protobuf} explicitly; clients accepting {@code *}{@code /*}
+ * keep receiving JSON.
+ */
+public class ApiResponseProtobufHttpMessageConverter extends AbstractSmartHttpMessageConverter<Object>
+        implements EnvelopeAwareHttpMessageConverter {
+
+    public static final MediaType PROTOBUF = new MediaType("application", "x-protobuf");
+
+    static final String TYPE_URL_PREFIX = "type.googleapis.com/";
+
+    static final int CODE_FIELD = 1;
+
+    static final int MESSAGE_FIELD = 2;
+
+    static final int TRACE_ID_FIELD = 3;
+
+    static final int DATA_FIELD = 4;
+
+    static final int RAW_DATA_FIELD = 5;
+
+    private static final int ANY_TYPE_URL_FIELD = 1;
+
+    private static final int ANY_VALUE_FIELD = 2;
+
+    public ApiResponseProtobufHttpMessageConverter() {
+        super(PROTOBUF);
+    }
+
+    @Override
+    public boolean canRead(@NonNull ResolvableType type, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public @NonNull Object read(@NonNull ResolvableType type, @NonNull HttpInputMessage inputMessage,
+            @Nullable Map<String, Object> hints) {
+        throw new HttpMessageNotReadableException("Reading ApiResponse envelopes is not supported", inputMessage);
+    }
+
+    @Override
+    public boolean canWrite(@NonNull ResolvableType targetType, @NonNull Class<?> valueClass,
+            @Nullable MediaType mediaType) {
+        if (ApiResponse.class.isAssignableFrom(valueClass)) {
+            Class<?> dataType = targetType.as(ApiResponse.class).getGeneric(0).resolve(Object.class);
+            return (dataType == Object.class || dataType == Void.class || isProtobufPayload(dataType))
+                    && canWriteFor(mediaType);
+        }
+        return isProtobufPayload(valueClass) && canWriteFor(mediaType);
+    }
+
+    private boolean canWriteFor(@Nullable MediaType mediaType) {
+        return (mediaType != null) ? canWrite(mediaType) : isRequestedExplicitly();
+    }
+
+    private static boolean isRequestedExplicitly() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return true;
+        }
+        String accept = attributes.getRequest().getHeader(HttpHeaders.ACCEPT);
+        if (accept == null || !accept.contains(PROTOBUF.getSubtype())) {
+            return false;
+        }
+        for (MediaType requested : MediaType.parseMediaTypes(accept)) {
+            if (PROTOBUF.equalsTypeAndSubtype(requested)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isProtobufPayload(Class<?> type) {
+        return Message.class.isAssignableFrom(type) || byte[].class == type || ByteString.class.isAssignableFrom(type);
+    }
+
+    @Override
+    protected void writeInternal(@NonNull Object body, @NonNull ResolvableType bodyType,
+            @NonNull HttpOutputMessage outputMessage, @Nullable Map<String, Object> hints) throws IOException {
+        CodedOutputStream output = CodedOutputStream.newInstance(outputMessage.getBody());
+        if (body instanceof ApiResponse<?> response) {
+            writeEnvelope(response, output);
+        }
+        else if (body instanceof Message message) {
+            message.writeTo(output);
+        }
+        else if (body instanceof byte[] bytes) {
+            output.writeRawBytes(bytes);
+        }
+        else if (body instanceof ByteString bytes) {
+            output.writeRawBytes(bytes);
+        }
+        output.flush();
+    }
+
+    private void writeEnvelope(ApiResponse<?> response, CodedOutputStream output) throws IOException {
+        output.writeString(CODE_FIELD, response.getCode());
+        output.writeString(MESSAGE_FIELD, response.getMessage());
+        String traceId = response.getTraceId();
+        if (traceId != null) {
+            output.writeString(TRACE_ID_FIELD, traceId);
+        }
+        Object data = response.getData();
+        if (data == null) {
+            return;
+        }
+        if (data instanceof Message message) {
+            writeAny(message, output);
+        }
+        else if (data instanceof byte[] bytes) {
+            output.writeByteArray(RAW_DATA_FIELD, bytes);
+        }
+        else if (data instanceof ByteString bytes) {
+            output.writeBytes(RAW_DATA_FIELD, bytes);
+        }
+        else {
+            throw new HttpMessageNotWritableException("Cannot write payload of type " + data.getClass().getName()
+                    + " as protobuf; return a com.google.protobuf.Message or byte[] instead");
+        }
+    }
+
+    private void writeAny(Message message, CodedOutputStream output) throws IOException {
+        String typeUrl = TYPE_URL_PREFIX + message.getDescriptorForType().getFullName();
+        int messageSize = message.getSerializedSize();
+        int anySize = CodedOutputStream.computeStringSize(ANY_TYPE_URL_FIELD, typeUrl)
+                + CodedOutputStream.computeTagSize(ANY_VALUE_FIELD)
+                + CodedOutputStream.computeUInt32SizeNoTag(messageSize) + messageSize;
+        output.writeTag(DATA_FIELD, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        output.writeUInt32NoTag(anySize);
+        output.writeString(ANY_TYPE_URL_FIELD, typeUrl);
+        output.writeTag(ANY_VALUE_FIELD, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        output.writeUInt32NoTag(messageSize);
+        message.writeTo(output);
+    }
+}
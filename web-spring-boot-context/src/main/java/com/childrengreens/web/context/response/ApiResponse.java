@@ -44,11 +44,14 @@ public final class ApiResponse<T> implements Serializable {
 
     private final String traceId;
 
-    private ApiResponse(String code, String message, T data, String traceId) {
+    private final boolean traceIdDeferred;
+
+    private ApiResponse(String code, String message, T data, String traceId, boolean traceIdDeferred) {
         this.code = Objects.requireNonNull(code, "code");
         this.message = Objects.requireNonNull(message, "message");
         this.data = data;
         this.traceId = traceId;
+        this.traceIdDeferred = traceIdDeferred;
     }
 
     public String getCode() {
@@ -64,7 +67,7 @@ public final class ApiResponse<T> implements Serializable {
     }
 
     public String getTraceId() {
-        return this.traceId;
+        return (this.traceIdDeferred ? resolveTraceId() : this.traceId);
     }
 
     public static <T> ApiResponse<T> success(T data) {
@@ -92,7 +95,22 @@ public final class ApiResponse<T> implements Serializable {
     }
 
     public static <T> ApiResponse<T> of(String code, String message, T data) {
-        return new ApiResponse<>(code, message, data, resolveTraceId());
+        return new ApiResponse<>(code, message, data, resolveTraceId(), false);
+    }
+
+    /**
+     * Create a response whose trace id is read from {@link TraceIdHolder} every time
+     * {@link #getTraceId()} is called rather than captured on creation. Such instances
+     * carry no request state and can therefore be shared across requests.
+     *
+     * @param code response code
+     * @param message response message
+     * @param data optional payload, should be immutable when the instance is shared
+     * @param <T> payload type
+     * @return a response that resolves the trace id at serialization time
+     */
+    public static <T> ApiResponse<T> shared(String code, String message, T data) {
+        return new ApiResponse<>(code, message, data, null, true);
     }
 
     private static String resolveTraceId() {
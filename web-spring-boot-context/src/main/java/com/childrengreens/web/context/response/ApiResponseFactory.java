@@ -21,8 +21,14 @@ import java.util.function.Supplier;
 import com.childrengreens.web.context.exception.DefaultErrorCode;
 import com.childrengreens.web.context.exception.ErrorCode;
 
+import org.springframework.util.StringUtils;
+
 /**
  * Factory that centralises the creation of {@link ApiResponse} instances.
+ * <p>
+ * The configured suppliers are resolved once into an immutable snapshot so that
+ * building a response does not call back into configuration on every request. Call
+ * {@link #refresh()} when the underlying configuration changes.
  */
 public final class ApiResponseFactory {
 
@@ -34,6 +40,8 @@ public final class ApiResponseFactory {
 
     private final Supplier<String> defaultErrorMessageSupplier;
 
+    private volatile Defaults defaults;
+
     public ApiResponseFactory() {
         this(DefaultErrorCode.SUCCESS::getCode, DefaultErrorCode.SUCCESS::getMessage,
                 DefaultErrorCode.INTERNAL_ERROR::getCode, DefaultErrorCode.INTERNAL_ERROR::getMessage);
@@ -46,18 +54,40 @@ public final class ApiResponseFactory {
         this.defaultErrorCodeSupplier = Objects.requireNonNull(defaultErrorCodeSupplier, "defaultErrorCodeSupplier");
         this.defaultErrorMessageSupplier = Objects.requireNonNull(defaultErrorMessageSupplier,
                 "defaultErrorMessageSupplier");
+        this.defaults = resolveDefaults();
     }
 
+    /**
+     * Re-read the suppliers and replace the current snapshot of default codes and
+     * messages.
+     */
+    public void refresh() {
+        this.defaults = resolveDefaults();
+    }
+
+    @SuppressWarnings("unchecked")
     public <T> ApiResponse<T> success(T data) {
-        return ApiResponse.of(this.successCodeSupplier.get(), this.successMessageSupplier.get(), data);
+        Defaults defaults = this.defaults;
+        if (data == null) {
+            return (ApiResponse<T>) defaults.emptySuccess();
+        }
+        return ApiResponse.of(defaults.successCode(), defaults.successMessage(), data);
     }
 
     public ApiResponse<Void> success() {
-        return ApiResponse.of(this.successCodeSupplier.get(), this.successMessageSupplier.get(), null);
+        return this.defaults.emptySuccess();
     }
 
+    /**
+     * Create a failure response with the default error code.
+     * @param message the message, or {@code null} or empty to use the default error
+     * message
+     * @return the response
+     */
     public ApiResponse<Void> failure(String message) {
-        return ApiResponse.of(this.defaultErrorCodeSupplier.get(), message, null);
+        Defaults defaults = this.defaults;
+        return ApiResponse.of(defaults.defaultErrorCode(),
+                StringUtils.hasText(message) ? message : defaults.defaultErrorMessage(), null);
     }
 
     public ApiResponse<Void> failure(ErrorCode errorCode) {
@@ -67,4 +97,22 @@ public final class ApiResponseFactory {
     public ApiResponse<Void> failure(ErrorCode errorCode, String message) {
         return ApiResponse.failure(errorCode, message);
     }
+
+    /**
+     * Return whether the given response carries the configured success code.
+     */
+    public boolean isSuccess(ApiResponse<?> response) {
+        return response != null && Objects.equals(this.defaults.successCode(), response.getCode());
+    }
+
+    private Defaults resolveDefaults() {
+        String successCode = this.successCodeSupplier.get();
+        String successMessage = this.successMessageSupplier.get();
+        return new Defaults(successCode, successMessage, this.defaultErrorCodeSupplier.get(),
+                this.defaultErrorMessageSupplier.get(), ApiResponse.shared(successCode, successMessage, null));
+    }
+
+    private record Defaults(String successCode, String successMessage, String defaultErrorCode,
+            String defaultErrorMessage, ApiResponse<Void> emptySuccess) {
+    }
 }
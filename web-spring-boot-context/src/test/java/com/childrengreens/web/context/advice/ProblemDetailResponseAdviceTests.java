@@ -0,0 +1,118 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.advice;
+
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.util.List;
+
+import com.childrengreens.web.context.exception.DefaultErrorCode;
+import com.childrengreens.web.context.exception.ErrorCodeRegistry;
+import com.childrengreens.web.context.exception.GlobalExceptionHandler;
+import com.childrengreens.web.context.exception.UnauthorizedException;
+import com.childrengreens.web.context.response.ApiResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProblemDetailResponseAdviceTests {
+
+    private final ErrorCodeRegistry registry = ErrorCodeRegistry.of(List.of(DefaultErrorCode.values()));
+
+    @Test
+    // Only handler methods of GlobalExceptionHandler written as JSON are candidates
+    void supportsExceptionHandlerMethodsOnly() throws NoSuchMethodException {
+        ProblemDetailResponseAdvice advice = new ProblemDetailResponseAdvice(ProblemDetailMode.ALWAYS, this.registry);
+        ProblemDetailResponseAdvice disabled = new ProblemDetailResponseAdvice(ProblemDetailMode.NEVER, this.registry);
+
+        assertThat(advice.supports(handlerMethod(), JacksonJsonHttpMessageConverter.class)).isTrue();
+        assertThat(advice.supports(handlerMethod(), ByteArrayHttpMessageConverter.class)).isFalse();
+        assertThat(advice.supports(new MethodParameter(Object.class.getMethod("toString"), -1),
+                JacksonJsonHttpMessageConverter.class)).isFalse();
+        assertThat(disabled.supports(handlerMethod(), JacksonJsonHttpMessageConverter.class)).isFalse();
+    }
+
+    @Test
+    // Errors should be rendered as problem details carrying the code as an extension member
+    void beforeBodyWriteRendersProblemDetail() throws NoSuchMethodException {
+        ProblemDetailResponseAdvice advice = new ProblemDetailResponseAdvice(ProblemDetailMode.ALWAYS, this.registry,
+                "https://errors.example.com/");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(401);
+        ApiResponse<Void> body = ApiResponse.failure(DefaultErrorCode.UNAUTHORIZED, "token expired");
+
+        Object result = write(advice, body, MediaType.APPLICATION_JSON, response);
+
+        assertThat(result).isInstanceOf(ProblemDetail.class);
+        ProblemDetail problemDetail = (ProblemDetail) result;
+        assertThat(problemDetail.getStatus()).isEqualTo(401);
+        assertThat(problemDetail.getType()).isEqualTo(URI.create("https://errors.example.com/1002"));
+        assertThat(problemDetail.getTitle()).isEqualTo("Unauthorized");
+        assertThat(problemDetail.getDetail()).isEqualTo("token expired");
+        assertThat(problemDetail.getInstance()).isEqualTo(URI.create("/orders"));
+        assertThat(problemDetail.getProperties()).containsEntry("code", "1002");
+    }
+
+    @Test
+    // In ON_REQUEST mode only clients asking for problem+json get problem details
+    void beforeBodyWriteHonoursNegotiatedMediaType() throws NoSuchMethodException {
+        ProblemDetailResponseAdvice advice = new ProblemDetailResponseAdvice(ProblemDetailMode.ON_REQUEST,
+                this.registry);
+        ApiResponse<Void> body = ApiResponse.failure(DefaultErrorCode.INTERNAL_ERROR);
+        MockHttpServletResponse json = new MockHttpServletResponse();
+        json.setStatus(500);
+        MockHttpServletResponse problem = new MockHttpServletResponse();
+        problem.setStatus(500);
+
+        assertThat(write(advice, body, MediaType.APPLICATION_JSON, json)).isSameAs(body);
+        assertThat(write(advice, body, MediaType.APPLICATION_PROBLEM_JSON, problem)).isInstanceOf(ProblemDetail.class);
+    }
+
+    @Test
+    // Non-error statuses and foreign bodies are left untouched
+    void beforeBodyWriteSkipsSuccessfulResponses() throws NoSuchMethodException {
+        ProblemDetailResponseAdvice advice = new ProblemDetailResponseAdvice(ProblemDetailMode.ALWAYS, this.registry);
+        ApiResponse<Void> body = ApiResponse.success();
+
+        assertThat(write(advice, body, MediaType.APPLICATION_JSON, new MockHttpServletResponse())).isSameAs(body);
+        assertThat(write(advice, "plain", MediaType.APPLICATION_JSON, new MockHttpServletResponse())).isEqualTo("plain");
+    }
+
+    private Object write(ProblemDetailResponseAdvice advice, Object body, MediaType contentType,
+            MockHttpServletResponse response) throws NoSuchMethodException {
+        ServletServerHttpResponse outputMessage = new ServletServerHttpResponse(response);
+        Object result = advice.beforeBodyWrite(body, handlerMethod(), contentType, JacksonJsonHttpMessageConverter.class,
+                new ServletServerHttpRequest(new MockHttpServletRequest("GET", "/orders")), outputMessage);
+        if (result instanceof ProblemDetail) {
+            assertThat(outputMessage.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_PROBLEM_JSON);
+        }
+        return result;
+    }
+
+    private static MethodParameter handlerMethod() throws NoSuchMethodException {
+        Method method = GlobalExceptionHandler.class.getMethod("handleUnauthorized", UnauthorizedException.class);
+        return new MethodParameter(method, -1);
+    }
+}
@@ -16,13 +16,16 @@
 package com.childrengreens.web.context.advice;
 
 import java.lang.reflect.Method;
+import java.util.Map;
 
+import com.childrengreens.web.context.protobuf.ApiResponseProtobufHttpMessageConverter;
 import com.childrengreens.web.context.response.ApiResponse;
 import com.childrengreens.web.context.response.ApiResponseFactory;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.MethodParameter;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.ByteArrayHttpMessageConverter;
 import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
@@ -30,6 +33,7 @@ import org.springframework.http.server.ServletServerHttpRequest;
 import org.springframework.http.server.ServletServerHttpResponse;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
+import tools.jackson.databind.json.JsonMapper;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -47,6 +51,16 @@ class ResponseWrappingAdviceTests {
         assertThat(supported).isTrue();
     }
 
+    @Test
+    // Converters that render the envelope natively should receive wrapped bodies
+    void supportsReturnsTrueForEnvelopeAwareConverters() throws NoSuchMethodException {
+        MethodParameter parameter = methodParameter("jsonBody");
+
+        boolean supported = this.advice.supports(parameter, ApiResponseProtobufHttpMessageConverter.class);
+
+        assertThat(supported).isTrue();
+    }
+
     @Test
     // Binary outputs should not be wrapped to avoid double handling
     void supportsReturnsFalseForBinaryConverters() throws NoSuchMethodException {
@@ -85,6 +99,19 @@ class ResponseWrappingAdviceTests {
         assertThat(responseEntityResult).isInstanceOf(ResponseEntity.class);
     }
 
+    @Test
+    // Problem details are a complete error representation and must not be wrapped
+    void beforeBodyWriteSkipsProblemDetail() throws NoSuchMethodException {
+        ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.NOT_FOUND);
+
+        Object result = this.advice.beforeBodyWrite(problemDetail, methodParameter("jsonBody"),
+                MediaType.APPLICATION_PROBLEM_JSON, JacksonJsonHttpMessageConverter.class,
+                new ServletServerHttpRequest(new MockHttpServletRequest()),
+                new ServletServerHttpResponse(new MockHttpServletResponse()));
+
+        assertThat(result).isSameAs(problemDetail);
+    }
+
     @Test
     void beforeBodyWriteHonorsNullBodyWhenDisabled() throws Exception {
         ResponseWrappingAdvice noWrapAdvice = new ResponseWrappingAdvice(new ApiResponseFactory(), false);
@@ -100,6 +127,68 @@ class ResponseWrappingAdviceTests {
         assertThat(response.getStatus()).isEqualTo(HttpStatus.NO_CONTENT.value());
     }
 
+    @Test
+    // Successful GET responses should carry a weak ETag derived from the payload only
+    void beforeBodyWriteAddsDataEtagForGetRequests() throws Exception {
+        ResponseWrappingAdvice etagAdvice = etagAdvice();
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        MockHttpServletResponse second = new MockHttpServletResponse();
+
+        Object result = writeWithEtag(etagAdvice, new MockHttpServletRequest("GET", "/items"), first, "payload");
+        writeWithEtag(etagAdvice, new MockHttpServletRequest("GET", "/items"), second, "payload");
+
+        assertThat(result).isInstanceOf(ApiResponse.class);
+        assertThat(first.getHeader("ETag")).startsWith("W/\"").isEqualTo(second.getHeader("ETag"));
+    }
+
+    @Test
+    // Matching If-None-Match should produce 304 without a body
+    void beforeBodyWriteReturnsNotModifiedWhenEtagMatches() throws Exception {
+        ResponseWrappingAdvice etagAdvice = etagAdvice();
+        MockHttpServletResponse initial = new MockHttpServletResponse();
+        writeWithEtag(etagAdvice, new MockHttpServletRequest("GET", "/items"), initial, "payload");
+        MockHttpServletRequest conditional = new MockHttpServletRequest("GET", "/items");
+        conditional.addHeader("If-None-Match", initial.getHeader("ETag"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        Object result = writeWithEtag(etagAdvice, conditional, response, "payload");
+
+        assertThat(result).isNull();
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+    }
+
+    @Test
+    // Changed payloads and unsafe methods must not be served as not modified
+    void beforeBodyWriteSkipsEtagForChangedDataAndPost() throws Exception {
+        ResponseWrappingAdvice etagAdvice = etagAdvice();
+        MockHttpServletResponse initial = new MockHttpServletResponse();
+        writeWithEtag(etagAdvice, new MockHttpServletRequest("GET", "/items"), initial, "payload");
+        MockHttpServletRequest conditional = new MockHttpServletRequest("GET", "/items");
+        conditional.addHeader("If-None-Match", initial.getHeader("ETag"));
+        MockHttpServletResponse changed = new MockHttpServletResponse();
+        MockHttpServletResponse post = new MockHttpServletResponse();
+
+        Object changedResult = writeWithEtag(etagAdvice, conditional, changed, "updated");
+        writeWithEtag(etagAdvice, new MockHttpServletRequest("POST", "/items"), post, "payload");
+
+        assertThat(changedResult).isInstanceOf(ApiResponse.class);
+        assertThat(changed.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(changed.getHeader("ETag")).isNotEqualTo(initial.getHeader("ETag"));
+        assertThat(post.getHeader("ETag")).isNull();
+    }
+
+    private ResponseWrappingAdvice etagAdvice() {
+        return new ResponseWrappingAdvice(new ApiResponseFactory(), true,
+                new DataEtagGenerator(JsonMapper.builder().build()));
+    }
+
+    private Object writeWithEtag(ResponseWrappingAdvice etagAdvice, MockHttpServletRequest request,
+            MockHttpServletResponse response, String data) throws NoSuchMethodException {
+        return etagAdvice.beforeBodyWrite(Map.of("name", data), methodParameter("jsonBody"), MediaType.APPLICATION_JSON,
+                JacksonJsonHttpMessageConverter.class, new ServletServerHttpRequest(request),
+                new ServletServerHttpResponse(response));
+    }
+
     private MethodParameter methodParameter(String methodName) throws NoSuchMethodException {
         Method method = SampleController.class.getDeclaredMethod(methodName);
         return new MethodParameter(method, -1);
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.auth;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import com.childrengreens.web.context.exception.ServiceUnavailableException;
+import com.childrengreens.web.context.exception.UnauthorizedException;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AsyncLoginRequirementEvaluatorAdapterTests {
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+
+    @Test
+    // A successful stage lets the request through
+    void assertAuthenticatedPassesOnSuccess() {
+        AsyncLoginRequirementEvaluator async = (request, handler, scope) -> CompletableFuture.runAsync(() -> { });
+        LoginRequirementEvaluator evaluator = async.toBlocking(Duration.ofSeconds(5));
+
+        assertThatCode(() -> evaluator.assertAuthenticated(this.request, null, "")).doesNotThrowAnyException();
+    }
+
+    @Test
+    // Failures are rethrown unwrapped so GlobalExceptionHandler can render them
+    void assertAuthenticatedRethrowsFailure() {
+        LoginRequirementEvaluator evaluator = new AsyncLoginRequirementEvaluatorAdapter(
+                (request, handler, scope) -> CompletableFuture.supplyAsync(() -> {
+                    throw new UnauthorizedException("denied");
+                }).thenAccept((ignored) -> { }), Duration.ofSeconds(5));
+        LoginRequirementEvaluator checked = new AsyncLoginRequirementEvaluatorAdapter(
+                (request, handler, scope) -> CompletableFuture.failedFuture(new IOException("down")),
+                Duration.ofSeconds(5));
+
+        assertThatThrownBy(() -> evaluator.assertAuthenticated(this.request, null, ""))
+            .isInstanceOf(UnauthorizedException.class);
+        assertThatThrownBy(() -> checked.assertAuthenticated(this.request, null, ""))
+            .isInstanceOf(IllegalStateException.class)
+            .hasCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    // Slow evaluations release the request thread with a 503
+    void assertAuthenticatedTimesOut() {
+        CompletableFuture<Void> pending = new CompletableFuture<>();
+        LoginRequirementEvaluator evaluator = new AsyncLoginRequirementEvaluatorAdapter(
+                (request, handler, scope) -> pending, Duration.ofMillis(20));
+
+        assertThatThrownBy(() -> evaluator.assertAuthenticated(this.request, null, ""))
+            .isInstanceOf(ServiceUnavailableException.class);
+    }
+}
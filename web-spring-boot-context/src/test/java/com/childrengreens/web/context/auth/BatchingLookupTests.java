@@ -0,0 +1,94 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.auth;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchingLookupTests {
+
+    private final List<Set<String>> batches = new ArrayList<>();
+
+    private final List<CompletableFuture<Map<String, String>>> results = new ArrayList<>();
+
+    private final BatchingLookup<String, String> lookup = new BatchingLookup<>((keys) -> {
+        this.batches.add(Set.copyOf(keys));
+        CompletableFuture<Map<String, String>> result = new CompletableFuture<>();
+        this.results.add(result);
+        return result;
+    }, 2, 1);
+
+    @Test
+    // Keys requested while a batch is in flight are coalesced into the next batch
+    void getBatchesKeysWhileLoading() {
+        CompletableFuture<String> a = this.lookup.get("a");
+        CompletableFuture<String> b = this.lookup.get("b");
+        CompletableFuture<String> c = this.lookup.get("c");
+        CompletableFuture<String> d = this.lookup.get("d");
+
+        assertThat(this.batches).containsExactly(Set.of("a"));
+        complete(0);
+
+        assertThat(a).isCompletedWithValue("A");
+        assertThat(this.batches).containsExactly(Set.of("a"), Set.of("b", "c"));
+        complete(1);
+        complete(2);
+
+        assertThat(b).isCompletedWithValue("B");
+        assertThat(c).isCompletedWithValue("C");
+        assertThat(d).isCompletedWithValue("D");
+        assertThat(this.lookup.pending()).isZero();
+    }
+
+    @Test
+    // Concurrent requests for the same key share one load
+    void getSharesPendingKeys() {
+        CompletableFuture<String> first = this.lookup.get("a");
+        CompletableFuture<String> second = this.lookup.get("a");
+        CompletableFuture<String> queued = this.lookup.get("b");
+
+        assertThat(second).isSameAs(first);
+        assertThat(this.lookup.get("b")).isSameAs(queued);
+    }
+
+    @Test
+    // A failed batch fails all of its keys and does not stall the queue
+    void getPropagatesBatchFailure() {
+        CompletableFuture<String> a = this.lookup.get("a");
+        CompletableFuture<String> b = this.lookup.get("b");
+
+        this.results.get(0).completeExceptionally(new IllegalStateException("down"));
+
+        assertThat(a).isCompletedExceptionally();
+        assertThat(this.batches).hasSize(2);
+        complete(1);
+        assertThat(b).isCompletedWithValue("B");
+    }
+
+    private void complete(int index) {
+        Set<String> keys = this.batches.get(index);
+        this.results.get(index)
+            .complete(keys.stream().collect(Collectors.toMap((key) -> key, (key) -> key.toUpperCase())));
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.auth;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.childrengreens.web.context.exception.UnauthorizedException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class CachingLoginRequirementEvaluatorTests {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final CountingEvaluator delegate = new CountingEvaluator();
+
+    private final CachingLoginRequirementEvaluator evaluator = new CachingLoginRequirementEvaluator(this.delegate,
+            (request) -> request.getHeader("Authorization"), Duration.ofSeconds(30), Duration.ofSeconds(5), 2,
+            this.clock::get);
+
+    @Test
+    // Successful checks are reused per credential and scope until the ttl expires
+    void cachesSuccessPerCredentialAndScope() {
+        this.evaluator.assertAuthenticated(request("token-a"), null, "");
+        this.evaluator.assertAuthenticated(request("token-a"), null, "");
+        this.evaluator.assertAuthenticated(request("token-a"), null, "admin");
+        assertThat(this.delegate.calls).hasValue(2);
+
+        this.clock.addAndGet(Duration.ofSeconds(31).toNanos());
+        this.evaluator.assertAuthenticated(request("token-a"), null, "");
+        assertThat(this.delegate.calls).hasValue(3);
+    }
+
+    @Test
+    // Rejections are cached for the shorter negative ttl and rethrown as fresh copies
+    void cachesFailuresForNegativeTtl() {
+        Throwable first = catchThrowable(() -> this.evaluator.assertAuthenticated(request("bad"), null, ""));
+        Throwable second = catchThrowable(() -> this.evaluator.assertAuthenticated(request("bad"), null, ""));
+        assertThat(first).isInstanceOf(UnauthorizedException.class);
+        assertThat(second).isInstanceOf(UnauthorizedException.class).hasMessage("invalid token").isNotSameAs(first);
+        assertThat(this.delegate.calls).hasValue(1);
+
+        this.clock.addAndGet(Duration.ofSeconds(6).toNanos());
+        assertThatExceptionOfType(UnauthorizedException.class)
+                .isThrownBy(() -> this.evaluator.assertAuthenticated(request("bad"), null, ""));
+        assertThat(this.delegate.calls).hasValue(2);
+    }
+
+    @Test
+    // Unexpected failures are propagated without being cached
+    void doesNotCacheUnexpectedFailures() {
+        for (int i = 0; i < 2; i++) {
+            assertThatIllegalStateException()
+                    .isThrownBy(() -> this.evaluator.assertAuthenticated(request("broken"), null, ""));
+        }
+        assertThat(this.delegate.calls).hasValue(2);
+        assertThat(this.evaluator.size()).isZero();
+    }
+
+    @Test
+    void bypassesCacheWithoutCredentialOrWhenFull() {
+        this.evaluator.assertAuthenticated(new MockHttpServletRequest(), null, "");
+        this.evaluator.assertAuthenticated(request("token-a"), null, "");
+        this.evaluator.assertAuthenticated(request("token-b"), null, "");
+        this.evaluator.assertAuthenticated(request("token-c"), null, "");
+        this.evaluator.assertAuthenticated(request("token-c"), null, "");
+
+        assertThat(this.evaluator.size()).isEqualTo(2);
+        assertThat(this.delegate.calls).hasValue(5);
+    }
+
+    @Test
+    // At capacity, expired entries are swept at most once per negative ttl rather than on every miss
+    void sweepsFullCacheAtMostOncePerInterval() {
+        assertThatExceptionOfType(UnauthorizedException.class)
+                .isThrownBy(() -> this.evaluator.assertAuthenticated(request("bad"), null, ""));
+        this.evaluator.assertAuthenticated(request("token-a"), null, "");
+
+        this.clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        this.evaluator.assertAuthenticated(request("token-b"), null, "");
+        this.clock.addAndGet(Duration.ofMillis(4500).toNanos());
+        for (int i = 0; i < 100; i++) {
+            this.evaluator.assertAuthenticated(request("flood-" + i), null, "");
+        }
+        this.evaluator.assertAuthenticated(request("flood-0"), null, "");
+        assertThat(this.delegate.calls).hasValue(104);
+
+        this.clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        this.evaluator.assertAuthenticated(request("token-c"), null, "");
+        this.evaluator.assertAuthenticated(request("token-c"), null, "");
+        assertThat(this.delegate.calls).hasValue(105);
+        assertThat(this.evaluator.size()).isEqualTo(2);
+    }
+
+    @Test
+    // Concurrent requests with the same credential share a single delegate call
+    void loadsOncePerCredentialUnderConcurrency() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        CachingLoginRequirementEvaluator blocking = new CachingLoginRequirementEvaluator((request, handler, scope) -> {
+            calls.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            }
+            catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }, Duration.ofSeconds(30), Duration.ofSeconds(5), 16);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<?>[] futures = new Future<?>[4];
+            for (int i = 0; i < futures.length; i++) {
+                futures[i] = executor.submit(() -> blocking.assertAuthenticated(request("shared"), null, ""));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+        assertThat(calls).hasValue(1);
+    }
+
+    private static MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+    private static final class CountingEvaluator implements LoginRequirementEvaluator {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public void assertAuthenticated(HttpServletRequest request, HandlerMethod handler, String scope) {
+            this.calls.incrementAndGet();
+            if ("Bearer bad".equals(request.getHeader("Authorization"))) {
+                throw new UnauthorizedException("invalid token");
+            }
+            if ("Bearer broken".equals(request.getHeader("Authorization"))) {
+                throw new IllegalStateException("backend unavailable");
+            }
+        }
+    }
+}
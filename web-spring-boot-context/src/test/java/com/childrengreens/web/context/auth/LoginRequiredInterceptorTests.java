@@ -16,8 +16,12 @@
 package com.childrengreens.web.context.auth;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
+import com.childrengreens.web.context.exception.TooManyRequestsException;
 import jakarta.servlet.http.HttpServletRequest;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -27,6 +31,7 @@ import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.web.method.HandlerMethod;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class LoginRequiredInterceptorTests {
 
@@ -68,6 +73,20 @@ class LoginRequiredInterceptorTests {
         assertThat(evaluator.invocation.get().scope()).isEqualTo("type");
     }
 
+    @Test
+    // Type-level annotations are inherited from superclasses and interfaces
+    void preHandleFindsTypeLevelAnnotationOnSupertypes() throws Exception {
+        RecordingEvaluator evaluator = new RecordingEvaluator();
+        LoginRequiredInterceptor interceptor = new LoginRequiredInterceptor(evaluator);
+
+        interceptor.preHandle(this.request, this.response, handlerMethod(new SubclassController(), "secured"));
+        assertThat(evaluator.invocation.get().scope()).isEqualTo("type");
+
+        evaluator.invocation.set(null);
+        interceptor.preHandle(this.request, this.response, handlerMethod(new InterfaceController(), "secured"));
+        assertThat(evaluator.invocation.get().scope()).isEqualTo("api");
+    }
+
     @Test
     // Should skip when @LoginRequired is absent
     void preHandleSkipsWhenNoAnnotationPresent() throws Exception {
@@ -81,6 +100,118 @@ class LoginRequiredInterceptorTests {
         assertThat(evaluator.invocation.get()).isNull();
     }
 
+    @Test
+    // Requirements, including their absence, are resolved once per handler method
+    void preHandleCachesResolvedRequirements() throws Exception {
+        RecordingEvaluator evaluator = new RecordingEvaluator();
+        LoginRequiredInterceptor interceptor = new LoginRequiredInterceptor(evaluator);
+
+        for (int i = 0; i < 3; i++) {
+            interceptor.preHandle(this.request, this.response, handlerMethod(new MethodLevelController(), "secured"));
+            interceptor.preHandle(this.request, this.response,
+                    handlerMethod(new NoAnnotationController(), "publicEndpoint"));
+        }
+
+        assertThat(interceptor.cachedRequirements()).isEqualTo(2);
+        assertThat(evaluator.invocation.get().scope()).isEqualTo("method");
+    }
+
+    @Test
+    // The value alias should also apply to type-level annotations
+    void preHandleResolvesValueAliasOnType() throws Exception {
+        RecordingEvaluator evaluator = new RecordingEvaluator();
+        LoginRequiredInterceptor interceptor = new LoginRequiredInterceptor(evaluator);
+
+        interceptor.preHandle(this.request, this.response, handlerMethod(new AliasedTypeController(), "secured"));
+
+        assertThat(evaluator.invocation.get().scope()).isEqualTo("admin");
+    }
+
+    @Test
+    // Only included paths that are not excluded are evaluated
+    void preHandleHonoursIncludeAndExcludePatterns() throws Exception {
+        RecordingEvaluator evaluator = new RecordingEvaluator();
+        LoginRequiredInterceptor interceptor = new LoginRequiredInterceptor(evaluator,
+                PathPatternIndex.compile(List.of("/api/**")), PathPatternIndex.compile(List.of("/api/health")));
+        HandlerMethod handlerMethod = handlerMethod(new MethodLevelController(), "secured");
+
+        this.request.setRequestURI("/public/page");
+        interceptor.preHandle(this.request, this.response, handlerMethod);
+        assertThat(evaluator.invocation.get()).isNull();
+
+        this.request.setRequestURI("/api/health");
+        interceptor.preHandle(this.request, this.response, handlerMethod);
+        assertThat(evaluator.invocation.get()).isNull();
+
+        this.request.setRequestURI("/api/orders");
+        interceptor.preHandle(this.request, this.response, handlerMethod);
+        assertThat(evaluator.invocation.get()).isNotNull();
+    }
+
+    @Test
+    // Encoded and matrix-parameter paths are matched as the handler mapping sees them
+    void preHandleMatchesDecodedPaths() throws Exception {
+        RecordingEvaluator evaluator = new RecordingEvaluator();
+        LoginRequiredInterceptor interceptor = new LoginRequiredInterceptor(evaluator,
+                PathPatternIndex.compile(List.of("/api/**")), PathPatternIndex.compile(List.of("/api/health")));
+        HandlerMethod handlerMethod = handlerMethod(new MethodLevelController(), "secured");
+
+        this.request.setRequestURI("/api/%68ealth;x=1");
+        interceptor.preHandle(this.request, this.response, handlerMethod);
+        assertThat(evaluator.invocation.get()).isNull();
+
+        this.request.setRequestURI("/%61pi/orders");
+        interceptor.preHandle(this.request, this.response, handlerMethod);
+        assertThat(evaluator.invocation.get()).isNotNull();
+
+        evaluator.invocation.set(null);
+        this.request.setRequestURI("/api;x=1/orders");
+        interceptor.preHandle(this.request, this.response, handlerMethod);
+        assertThat(evaluator.invocation.get()).isNotNull();
+    }
+
+    @Test
+    // @RateLimited handlers reject a principal once its quota is exhausted
+    void preHandleEnforcesRateLimit() throws Exception {
+        RecordingEvaluator evaluator = new RecordingEvaluator();
+        LoginRequiredInterceptor interceptor = new LoginRequiredInterceptor(evaluator,
+                PathPatternIndex.compile(List.of()), PathPatternIndex.compile(List.of()),
+                new TokenBucketRateLimiter(Duration.ofMinutes(1)), (request) -> request.getRemoteUser(), null);
+        HandlerMethod limited = handlerMethod(new RateLimitedController(), "limited");
+        HandlerMethod secured = handlerMethod(new MethodLevelController(), "secured");
+        this.request.setRemoteUser("alice");
+
+        interceptor.preHandle(this.request, this.response, limited);
+        interceptor.preHandle(this.request, this.response, limited);
+
+        assertThatThrownBy(() -> interceptor.preHandle(this.request, this.response, limited))
+            .isInstanceOf(TooManyRequestsException.class)
+            .satisfies((ex) -> assertThat(((TooManyRequestsException) ex).getRetryAfterSeconds()).isPositive());
+        assertThat(interceptor.preHandle(this.request, this.response, secured)).isTrue();
+        this.request.setRemoteUser("bob");
+        assertThat(interceptor.preHandle(this.request, this.response, limited)).isTrue();
+    }
+
+    @Test
+    // Quotas are per handler by default; a named group is shared only by handlers with the same limit
+    void preHandleSeparatesRateLimitBuckets() throws Exception {
+        LoginRequiredInterceptor interceptor = new LoginRequiredInterceptor(new RecordingEvaluator(),
+                PathPatternIndex.compile(List.of()), PathPatternIndex.compile(List.of()),
+                new TokenBucketRateLimiter(Duration.ofMinutes(1)), (request) -> request.getRemoteUser(), null);
+        GroupedController controller = new GroupedController();
+        this.request.setRemoteUser("alice");
+
+        interceptor.preHandle(this.request, this.response, handlerMethod(controller, "first"));
+        interceptor.preHandle(this.request, this.response, handlerMethod(controller, "second"));
+        interceptor.preHandle(this.request, this.response, handlerMethod(controller, "sharedA"));
+        interceptor.preHandle(this.request, this.response, handlerMethod(controller, "sharedLarger"));
+
+        assertThatThrownBy(() -> interceptor.preHandle(this.request, this.response,
+                handlerMethod(controller, "sharedB"))).isInstanceOf(TooManyRequestsException.class);
+        assertThat(interceptor.preHandle(this.request, this.response, handlerMethod(controller, "sharedLarger")))
+            .isTrue();
+    }
+
     @Test
     // Non-HandlerMethod should be ignored
     void preHandleIgnoresNonHandlerMethod() throws Exception {
@@ -126,6 +257,65 @@ class LoginRequiredInterceptorTests {
         }
     }
 
+    @LoginRequired(scope = "type")
+    private static class BaseController {
+    }
+
+    private static final class SubclassController extends BaseController {
+
+        void secured() {
+        }
+    }
+
+    @LoginRequired("api")
+    private interface SecuredApi {
+    }
+
+    private static final class InterfaceController implements SecuredApi {
+
+        void secured() {
+        }
+    }
+
+    @LoginRequired("admin")
+    private static final class AliasedTypeController {
+
+        void secured() {
+        }
+    }
+
+    private static final class RateLimitedController {
+
+        @LoginRequired
+        @RateLimited(permits = 2, period = 1, unit = TimeUnit.MINUTES)
+        void limited() {
+        }
+    }
+
+    @LoginRequired("orders")
+    private static final class GroupedController {
+
+        @RateLimited(permits = 1, period = 1, unit = TimeUnit.MINUTES)
+        void first() {
+        }
+
+        @RateLimited(permits = 1, period = 1, unit = TimeUnit.MINUTES)
+        void second() {
+        }
+
+        @RateLimited(permits = 1, period = 1, unit = TimeUnit.MINUTES, group = "shared")
+        void sharedA() {
+        }
+
+        @RateLimited(permits = 1, period = 1, unit = TimeUnit.MINUTES, group = "shared")
+        void sharedB() {
+        }
+
+        @RateLimited(permits = 2, period = 1, unit = TimeUnit.MINUTES, group = "shared")
+        void sharedLarger() {
+        }
+    }
+
     private static final class NoAnnotationController {
 
         void publicEndpoint() {
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.auth;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PathPatternIndexTests {
+
+    private static final List<String> PATTERNS = List.of("/", "/api/**", "/api/*", "/api/x", "/api/{id}",
+            "/users/{id}/orders", "/static/*.css", "/files/{*path}", "/v?/ping", "/**/health", "/*", "/api/*/x",
+            "/*/x", "/api/*/*", "/api/*/**", "/api/{id}/**", "/api/*/", "/api/x/**");
+
+    private static final List<String> PATHS = List.of("", "/", "/api", "/api/", "/apix", "/api/x", "/api/x/",
+            "/api/1", "/api/x/y", "/users/1/orders", "/users//orders", "/users/1/orders/", "/static/a.css",
+            "/static/a.js", "/static/dir/a.css", "/files", "/files/a/b", "/v1/ping", "/v10/ping", "/a/b/health",
+            "/health", "/a", "/a/", "/a//", "/%61pi/orders", "/api;x=1/orders", "/api/x;v=2", "/api/%78",
+            "/users/%31/orders", "/files;p=1", "//", "//x", "//api", "/api//", "/api//x", "/api//x/", "/api/x//",
+            "/api/y/x", "/api/y/x/", "/api/y//", "/api/y/z/", "/api/x//y", "//api/x", "/api/%2F/x");
+
+    @Test
+    // Every single pattern should agree with PathPattern on every path
+    void matchesLikePathPattern() {
+        for (String pattern : PATTERNS) {
+            PathPatternIndex index = PathPatternIndex.compile(List.of(pattern));
+            for (String path : PATHS) {
+                boolean expected = PathPatternParser.defaultInstance.parse(pattern)
+                    .matches(PathContainer.parsePath(path));
+                assertThat(index.matches(path)).as("%s against %s", pattern, path).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    // A combined index should agree with checking every PathPattern in turn
+    void combinedIndexMatchesLikePathPatterns() {
+        PathPatternIndex index = PathPatternIndex.compile(PATTERNS);
+        List<PathPattern> patterns = PATTERNS.stream().map(PathPatternParser.defaultInstance::parse).toList();
+        for (String path : PATHS) {
+            boolean expected = patterns.stream().anyMatch((pattern) -> pattern.matches(PathContainer.parsePath(path)));
+            assertThat(index.matches(path)).as(path).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    // An empty segment must not satisfy a wildcard in the middle of a pattern
+    void wildcardSegmentRequiresContentBeforeTheEnd() {
+        PathPatternIndex exclude = PathPatternIndex.compile(List.of("/api/*/public"));
+
+        assertThat(exclude.matches("/api/v1/public")).isTrue();
+        assertThat(exclude.matches("/api//public")).isFalse();
+    }
+
+    @Test
+    // A combined index matches when any of its patterns does
+    void matchesAnyCompiledPattern() {
+        PathPatternIndex index = PathPatternIndex.compile(List.of("/api/orders/{id}", "/api/users/**", "/*.html"));
+
+        assertThat(index.matches("/api/orders/42")).isTrue();
+        assertThat(index.matches("/api/orders/42/items")).isFalse();
+        assertThat(index.matches("/api/users")).isTrue();
+        assertThat(index.matches("/api/users/1/roles")).isTrue();
+        assertThat(index.matches("/index.html")).isTrue();
+        assertThat(index.matches("/api/products")).isFalse();
+    }
+
+    @Test
+    // Encoded characters and matrix parameters cannot be used to evade a pattern
+    void matchesDecodedSegmentsWithoutParameters() {
+        PathPatternIndex include = PathPatternIndex.compile(List.of("/api/**"));
+        PathPatternIndex exclude = PathPatternIndex.compile(List.of("/api/health"));
+
+        assertThat(include.matches("/%61pi/orders")).isTrue();
+        assertThat(include.matches("/api;x=1/orders")).isTrue();
+        assertThat(include.matches(PathContainer.parsePath("/API/orders"))).isFalse();
+        assertThat(exclude.matches("/api/%68ealth")).isTrue();
+        assertThat(exclude.matches("/api/health;jsessionid=1")).isTrue();
+        assertThat(exclude.matches("/api/health%2Fx")).isFalse();
+    }
+
+    @Test
+    // An index without patterns never matches
+    void emptyIndexMatchesNothing() {
+        PathPatternIndex index = PathPatternIndex.compile(List.of());
+
+        assertThat(index.isEmpty()).isTrue();
+        assertThat(index.matches("/")).isFalse();
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.auth;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScopeRegistryTests {
+
+    private final ScopeRegistry registry = new ScopeRegistry(":");
+
+    @Test
+    // Scopes declared on handler methods and types are compiled into ids
+    void registersDeclaredScopes() throws Exception {
+        this.registry.registerDeclaredScopes(List.of(
+                new HandlerMethod(new OrdersController(), OrdersController.class.getDeclaredMethod("read")),
+                new HandlerMethod(new OrdersController(), OrdersController.class.getDeclaredMethod("list")),
+                new HandlerMethod(new OrdersController(), OrdersController.class.getDeclaredMethod("write"))));
+
+        assertThat(this.registry.size()).isEqualTo(2);
+        assertThat(this.registry.idOf("orders:read")).isNotNegative();
+        assertThat(this.registry.idOf("orders")).isEqualTo(-1);
+    }
+
+    @Test
+    // Granting a parent scope implies every registered descendant
+    void grantsImpliedScopes() {
+        this.registry.registerAll(List.of("orders:read", "orders:write", "orders:admin:purge", "billing"));
+
+        ScopeSet granted = this.registry.grant("orders:admin unknown");
+
+        assertThat(granted.contains(this.registry.idOf("orders:admin:purge"))).isTrue();
+        assertThat(granted.contains(this.registry.idOf("orders:read"))).isFalse();
+        assertThat(this.registry.grant(List.of("orders", 42)).contains(this.registry.idOf("orders:write"))).isTrue();
+        assertThat(this.registry.grant("billing").contains(this.registry.idOf("orders:read"))).isFalse();
+        assertThat(this.registry.grant("").isEmpty()).isTrue();
+    }
+
+    @Test
+    // Without a separator scopes are matched by exact name
+    void matchesExactNamesByDefault() {
+        ScopeRegistry registry = new ScopeRegistry();
+        registry.registerAll(List.of("orders:read"));
+
+        assertThat(registry.grant("orders").contains(registry.idOf("orders:read"))).isFalse();
+        assertThat(registry.grant("orders:read").contains(registry.idOf("orders:read"))).isTrue();
+    }
+
+    @Test
+    void keepsIdsStableAcrossRegistrationsBeyondOneWord() {
+        List<String> scopes = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            scopes.add("scope" + i);
+        }
+        this.registry.registerAll(scopes.subList(0, 10));
+        int first = this.registry.idOf("scope3");
+        this.registry.registerAll(scopes);
+
+        assertThat(this.registry.idOf("scope3")).isEqualTo(first);
+        assertThat(this.registry.grant("scope99 scope3").contains(this.registry.idOf("scope99"))).isTrue();
+        assertThat(this.registry.register("late")).isEqualTo(100);
+        assertThat(this.registry.grant("scope3").union(this.registry.grant("late"))
+                .contains(this.registry.idOf("late"))).isTrue();
+    }
+
+    @LoginRequired("orders:read")
+    static class OrdersController {
+
+        void read() {
+        }
+
+        @LoginRequired
+        void list() {
+        }
+
+        @LoginRequired(scope = "orders:write")
+        void write() {
+        }
+    }
+}
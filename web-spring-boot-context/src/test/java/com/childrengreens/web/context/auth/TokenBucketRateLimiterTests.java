@@ -0,0 +1,69 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.auth;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketRateLimiterTests {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(Duration.ofSeconds(10),
+            this.clock::get);
+
+    private final RateLimit limit = new RateLimit(10, Duration.ofSeconds(1), 3);
+
+    @Test
+    // A full bucket admits its burst back to back, then reports the refill delay
+    void tryAcquireAllowsBurstThenWaits() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(this.limiter.tryAcquire("alice", this.limit)).isZero();
+        }
+
+        assertThat(this.limiter.tryAcquire("alice", this.limit)).isEqualTo(Duration.ofMillis(100).toNanos());
+        assertThat(this.limiter.tryAcquire("bob", this.limit)).isZero();
+    }
+
+    @Test
+    // Permits are refilled at the configured rate
+    void tryAcquireRefillsOverTime() {
+        for (int i = 0; i < 3; i++) {
+            this.limiter.tryAcquire("alice", this.limit);
+        }
+
+        this.clock.addAndGet(Duration.ofMillis(150).toNanos());
+
+        assertThat(this.limiter.tryAcquire("alice", this.limit)).isZero();
+        assertThat(this.limiter.tryAcquire("alice", this.limit)).isEqualTo(Duration.ofMillis(50).toNanos());
+    }
+
+    @Test
+    // Buckets that stayed full for the idle timeout are evicted
+    void tryAcquireEvictsIdleBuckets() {
+        this.limiter.tryAcquire("alice", this.limit);
+        this.limiter.tryAcquire("bob", this.limit);
+
+        this.clock.addAndGet(Duration.ofSeconds(11).toNanos());
+        this.limiter.tryAcquire("carol", this.limit);
+
+        assertThat(this.limiter.size()).isEqualTo(1);
+    }
+}
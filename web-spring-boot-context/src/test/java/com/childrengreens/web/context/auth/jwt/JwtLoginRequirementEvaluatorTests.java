@@ -0,0 +1,86 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.auth.jwt;
+
+import java.time.Duration;
+import java.util.List;
+
+import com.childrengreens.web.context.auth.ScopeRegistry;
+import com.childrengreens.web.context.exception.UnauthorizedException;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class JwtLoginRequirementEvaluatorTests {
+
+    private final JwtKeySet keys = JwtKeySet.of(List.of(JwtKey.hmac(null, "HS256", JwtTestSupport.SECRET)));
+
+    private final JwtLoginRequirementEvaluator evaluator = new JwtLoginRequirementEvaluator(
+            new JwtVerifier(() -> this.keys, Duration.ZERO, null, null));
+
+    @Test
+    void exposesClaimsForValidBearerToken() throws Exception {
+        MockHttpServletRequest request = request(JwtTestSupport.hmacToken(null, "{\"sub\":\"alice\",\"scope\":\"read write\"}"));
+
+        this.evaluator.assertAuthenticated(request, null, "write");
+
+        assertThat(request.getAttribute(JwtLoginRequirementEvaluator.CLAIMS_ATTRIBUTE))
+                .asInstanceOf(InstanceOfAssertFactories.map(String.class, Object.class))
+                .containsEntry("sub", "alice");
+    }
+
+    @Test
+    // The required scope must appear as a whole entry in scope or scp
+    void checksRequiredScope() throws Exception {
+        String token = JwtTestSupport.hmacToken(null, "{\"scope\":\"reader\",\"scp\":[\"orders\"]}");
+
+        this.evaluator.assertAuthenticated(request(token), null, "orders");
+        assertThatExceptionOfType(UnauthorizedException.class)
+                .isThrownBy(() -> this.evaluator.assertAuthenticated(request(token), null, "read"))
+                .withMessage("Insufficient scope");
+    }
+
+    @Test
+    // With a registry, granted parent scopes satisfy descendant requirements
+    void checksScopeThroughRegistryHierarchy() throws Exception {
+        ScopeRegistry registry = new ScopeRegistry(":");
+        registry.registerAll(List.of("orders:read"));
+        JwtLoginRequirementEvaluator evaluator = new JwtLoginRequirementEvaluator(
+                new JwtVerifier(() -> this.keys, Duration.ZERO, null, null), registry);
+        String token = JwtTestSupport.hmacToken(null, "{\"scp\":[\"orders\"]}");
+
+        evaluator.assertAuthenticated(request(token), null, "orders:read");
+        assertThatExceptionOfType(UnauthorizedException.class)
+                .isThrownBy(() -> evaluator.assertAuthenticated(request(token), null, "billing"));
+        assertThat(registry.idOf("billing")).isNotNegative();
+    }
+
+    @Test
+    void rejectsMissingBearerToken() {
+        assertThatExceptionOfType(UnauthorizedException.class)
+                .isThrownBy(() -> this.evaluator.assertAuthenticated(new MockHttpServletRequest(), null, ""))
+                .withMessage("Missing bearer token");
+    }
+
+    private static MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
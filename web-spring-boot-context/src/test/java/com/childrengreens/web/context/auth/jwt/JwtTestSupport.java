@@ -0,0 +1,108 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.auth.jwt;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Arrays;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Creates keys, JWKs and signed tokens for JWT tests.
+ */
+final class JwtTestSupport {
+
+    static final byte[] SECRET = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private JwtTestSupport() {
+    }
+
+    static KeyPair rsaKeyPair() throws GeneralSecurityException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return generator.generateKeyPair();
+    }
+
+    static KeyPair ecKeyPair() throws GeneralSecurityException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        return generator.generateKeyPair();
+    }
+
+    static String rsaJwk(String keyId, RSAPublicKey key) {
+        return "{\"kty\":\"RSA\",\"kid\":\"" + keyId + "\",\"use\":\"sig\",\"n\":\"" + encode(key.getModulus(), 0)
+                + "\",\"e\":\"" + encode(key.getPublicExponent(), 0) + "\"}";
+    }
+
+    static String ecJwk(String keyId, ECPublicKey key) {
+        return "{\"kty\":\"EC\",\"kid\":\"" + keyId + "\",\"crv\":\"P-256\",\"x\":\""
+                + encode(key.getW().getAffineX(), 32) + "\",\"y\":\"" + encode(key.getW().getAffineY(), 32) + "\"}";
+    }
+
+    static String octJwk(String keyId) {
+        return "{\"kty\":\"oct\",\"kid\":\"" + keyId + "\",\"k\":\"" + ENCODER.encodeToString(SECRET) + "\"}";
+    }
+
+    static String hmacToken(String keyId, String payload) throws GeneralSecurityException {
+        String input = signingInput("HS256", keyId, payload);
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET, "HmacSHA256"));
+        return input + "." + ENCODER.encodeToString(mac.doFinal(input.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    static String signedToken(String algorithm, String keyId, PrivateKey key, String payload)
+            throws GeneralSecurityException {
+        String input = signingInput(algorithm, keyId, payload);
+        Signature signature = Signature.getInstance(
+                algorithm.startsWith("ES") ? "SHA256withECDSAinP1363Format" : "SHA256withRSA");
+        signature.initSign(key);
+        signature.update(input.getBytes(StandardCharsets.US_ASCII));
+        return input + "." + ENCODER.encodeToString(signature.sign());
+    }
+
+    private static String signingInput(String algorithm, String keyId, String payload) {
+        String header = "{\"alg\":\"" + algorithm + "\",\"typ\":\"JWT\"" + (keyId != null ? ",\"kid\":\"" + keyId + "\"" : "")
+                + "}";
+        return ENCODER.encodeToString(header.getBytes(StandardCharsets.UTF_8)) + "."
+                + ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String encode(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        if (bytes.length < length) {
+            byte[] padded = new byte[length];
+            System.arraycopy(bytes, 0, padded, length - bytes.length, bytes.length);
+            bytes = padded;
+        }
+        return ENCODER.encodeToString(bytes);
+    }
+}
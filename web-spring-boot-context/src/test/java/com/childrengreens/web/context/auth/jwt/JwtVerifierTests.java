@@ -0,0 +1,130 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.auth.jwt;
+
+import java.security.KeyPair;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import com.childrengreens.web.context.exception.UnauthorizedException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class JwtVerifierTests {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.ofEpochSecond(1_000_000), ZoneOffset.UTC);
+
+    private final JwtKeySet hmacKeys = JwtKeySet.of(List.of(JwtKey.hmac("h1", "HS256", JwtTestSupport.SECRET)));
+
+    private final JwtVerifier verifier = new JwtVerifier(() -> this.hmacKeys, Duration.ofSeconds(30), "issuer",
+            "api", CLOCK);
+
+    @Test
+    void verifiesHmacTokenAndReturnsClaims() throws Exception {
+        String token = JwtTestSupport.hmacToken("h1",
+                "{\"sub\":\"alice\",\"iss\":\"issuer\",\"aud\":[\"api\",\"web\"],\"exp\":1000100}");
+
+        Map<String, Object> claims = this.verifier.verify(token);
+
+        assertThat(claims).containsEntry("sub", "alice");
+    }
+
+    @Test
+    // Tampered payloads, unknown keys and unsigned tokens are all rejected
+    void rejectsInvalidSignaturesAndKeys() throws Exception {
+        String token = JwtTestSupport.hmacToken("h1", "{\"iss\":\"issuer\",\"aud\":\"api\"}");
+        String[] parts = token.split("\\.");
+        String tampered = parts[0] + "." + JwtTestSupport.hmacToken("h1", "{\"iss\":\"issuer\",\"aud\":\"x\"}")
+                .split("\\.")[1] + "." + parts[2];
+
+        assertThatExceptionOfType(UnauthorizedException.class).isThrownBy(() -> this.verifier.verify(tampered))
+                .withMessage("Invalid token signature");
+        assertThatExceptionOfType(UnauthorizedException.class)
+                .isThrownBy(() -> this.verifier.verify(JwtTestSupport.hmacToken("other", "{}")))
+                .withMessage("Unknown signing key");
+        assertThatExceptionOfType(UnauthorizedException.class)
+                .isThrownBy(() -> this.verifier.verify("eyJhbGciOiJub25lIn0.e30."))
+                .withMessage("Unknown signing key");
+        assertThatExceptionOfType(UnauthorizedException.class).isThrownBy(() -> this.verifier.verify("a.b"))
+                .withMessage("Malformed token");
+    }
+
+    @Test
+    // Header or payload segments that are valid JSON but not objects are malformed
+    void rejectsNonObjectSegments() throws Exception {
+        assertThatExceptionOfType(UnauthorizedException.class)
+                .isThrownBy(() -> this.verifier.verify("bnVsbA.e30.c2ln"))
+                .withMessage("Malformed token");
+        assertThatExceptionOfType(UnauthorizedException.class)
+                .isThrownBy(() -> this.verifier.verify("WzFd.e30.c2ln"))
+                .withMessage("Malformed token");
+        String nullPayload = JwtTestSupport.hmacToken("h1", "null");
+        assertThatExceptionOfType(UnauthorizedException.class)
+                .isThrownBy(() -> this.verifier.verify(nullPayload))
+                .withMessage("Malformed token");
+    }
+
+    @Test
+    // exp and nbf are checked with the configured clock skew
+    void checksTimeAndAudienceClaims() throws Exception {
+        assertThat(this.verifier.verify(JwtTestSupport.hmacToken("h1",
+                "{\"iss\":\"issuer\",\"aud\":\"api\",\"exp\":999990,\"nbf\":1000020}"))).isNotEmpty();
+        assertThatExceptionOfType(UnauthorizedException.class).isThrownBy(() -> this.verifier
+                .verify(JwtTestSupport.hmacToken("h1", "{\"iss\":\"issuer\",\"aud\":\"api\",\"exp\":999970}")))
+                .withMessage("Token expired");
+        assertThatExceptionOfType(UnauthorizedException.class).isThrownBy(() -> this.verifier
+                .verify(JwtTestSupport.hmacToken("h1", "{\"iss\":\"issuer\",\"aud\":\"api\",\"nbf\":1000031}")))
+                .withMessage("Token not yet valid");
+        assertThatExceptionOfType(UnauthorizedException.class).isThrownBy(() -> this.verifier
+                .verify(JwtTestSupport.hmacToken("h1", "{\"iss\":\"issuer\",\"aud\":\"web\"}")))
+                .withMessage("Unexpected token audience");
+    }
+
+    @Test
+    // RSA and EC keys are parsed from a JWKS document and bound to their algorithm
+    void verifiesRsaAndEcTokensFromJwks() throws Exception {
+        KeyPair rsa = JwtTestSupport.rsaKeyPair();
+        KeyPair ec = JwtTestSupport.ecKeyPair();
+        JwtKeySet keys = JwtKeySet.parse("{\"keys\":[" + JwtTestSupport.rsaJwk("r1", (RSAPublicKey) rsa.getPublic())
+                + "," + JwtTestSupport.ecJwk("e1", (ECPublicKey) ec.getPublic()) + ","
+                + JwtTestSupport.octJwk("h1") + ",{\"kty\":\"RSA\",\"use\":\"enc\"}]}");
+        JwtVerifier verifier = new JwtVerifier(() -> keys, Duration.ZERO, null, null, CLOCK);
+
+        assertThat(keys.getKeys()).extracting(JwtKey::getAlgorithm).containsExactly("RS256", "ES256", "HS256");
+        assertThat(verifier.verify(JwtTestSupport.signedToken("RS256", "r1", rsa.getPrivate(), "{\"sub\":\"r\"}")))
+                .containsEntry("sub", "r");
+        assertThat(verifier.verify(JwtTestSupport.signedToken("ES256", "e1", ec.getPrivate(), "{\"sub\":\"e\"}")))
+                .containsEntry("sub", "e");
+        assertThat(verifier.verify(JwtTestSupport.hmacToken("h1", "{\"sub\":\"h\"}"))).containsEntry("sub", "h");
+        assertThatExceptionOfType(UnauthorizedException.class)
+                .isThrownBy(() -> verifier.verify(JwtTestSupport.hmacToken("r1", "{}")));
+    }
+
+    @Test
+    void rejectsMalformedJwks() {
+        assertThatIllegalArgumentException().isThrownBy(() -> JwtKeySet.parse("{}"));
+        assertThatIllegalArgumentException().isThrownBy(() -> JwtKeySet.parse("{\"keys\":[{\"kty\":\"RSA\"}]}"));
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.auth.jwt;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+class RefreshingJwkSetSupplierTests {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    // A failed refresh keeps serving the previously loaded keys
+    void refreshesAndKeepsKeysOnFailure() throws Exception {
+        Path jwks = this.directory.resolve("jwks.json");
+        Files.writeString(jwks, "{\"keys\":[" + JwtTestSupport.octJwk("a") + "]}");
+        try (RefreshingJwkSetSupplier supplier = new RefreshingJwkSetSupplier(new FileSystemResource(jwks),
+                Duration.ZERO)) {
+            assertThat(supplier.get().find("a", "HS256")).isNotNull();
+
+            Files.writeString(jwks, "{\"keys\":[" + JwtTestSupport.octJwk("b") + "]}");
+            supplier.refresh();
+            assertThat(supplier.get().find("b", "HS256")).isNotNull();
+
+            Files.writeString(jwks, "not json");
+            supplier.refresh();
+            assertThat(supplier.get().find("b", "HS256")).isNotNull();
+        }
+    }
+
+    @Test
+    void failsFastWhenInitialLoadFails() {
+        assertThatIllegalStateException().isThrownBy(() -> new RefreshingJwkSetSupplier(
+                new FileSystemResource(this.directory.resolve("missing.json")), Duration.ofMinutes(5)));
+    }
+}
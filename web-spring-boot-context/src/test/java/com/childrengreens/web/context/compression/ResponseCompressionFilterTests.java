@@ -0,0 +1,209 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.compression;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCompressionFilterTests {
+
+    private final DeflaterPool pool = new DeflaterPool(-1, 2);
+
+    private final ResponseCompressionFilter filter = new ResponseCompressionFilter(64,
+            List.of("application/json", "text/*"), this.pool);
+
+    @Test
+    void compressesLargeResponsesOfAllowedType() throws Exception {
+        String body = "{\"data\":\"" + "x".repeat(500) + "\"}";
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        this.filter.doFilter(gzipRequest(), response, (req, res) -> {
+            res.setContentType("application/json;charset=UTF-8");
+            res.setContentLength(body.length());
+            res.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+        });
+
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(response.getHeader("Vary")).isEqualTo("Accept-Encoding");
+        assertThat(response.getHeader("Content-Length")).isNull();
+        assertThat(response.getContentAsByteArray().length).isLessThan(body.length());
+        assertThat(gunzip(response.getContentAsByteArray())).isEqualTo(body);
+        assertThat(this.pool.idleCount()).isEqualTo(1);
+    }
+
+    @Test
+    void leavesSmallResponsesUncompressed() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        this.filter.doFilter(gzipRequest(), response, (req, res) -> {
+            res.setContentType("application/json");
+            res.getWriter().write("{\"code\":\"0\"}");
+        });
+
+        assertThat(response.getHeader("Content-Encoding")).isNull();
+        assertThat(response.getContentLength()).isEqualTo(12);
+        assertThat(response.getContentAsString()).isEqualTo("{\"code\":\"0\"}");
+    }
+
+    @Test
+    void skipsContentTypesOutsideTheAllowList() throws Exception {
+        byte[] body = new byte[1024];
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        this.filter.doFilter(gzipRequest(), response, (req, res) -> {
+            res.setContentType("image/png");
+            res.getOutputStream().write(body);
+        });
+
+        assertThat(response.getHeader("Content-Encoding")).isNull();
+        assertThat(response.getContentAsByteArray()).isEqualTo(body);
+    }
+
+    @Test
+    void honoursWildcardMimeTypes() throws Exception {
+        String body = "y".repeat(200);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        this.filter.doFilter(gzipRequest(), response, (req, res) -> {
+            res.setContentType("text/plain");
+            res.getWriter().write(body);
+        });
+
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(gunzip(response.getContentAsByteArray())).isEqualTo(body);
+    }
+
+    @Test
+    void passesThroughWhenClientDoesNotAcceptGzip() throws Exception {
+        String body = "{\"data\":\"" + "x".repeat(500) + "\"}";
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        this.filter.doFilter(request, response, (req, res) -> {
+            res.setContentType("application/json");
+            res.getWriter().write(body);
+        });
+
+        // a shared cache must not serve this identity body to clients that accept gzip
+        assertThat(response.getHeader("Content-Encoding")).isNull();
+        assertThat(response.getHeader("Vary")).isEqualTo("Accept-Encoding");
+        assertThat(response.getContentAsString()).isEqualTo(body);
+    }
+
+    @Test
+    void appendsVaryToExistingValues() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        this.filter.doFilter(gzipRequest(), response, (req, res) -> {
+            ((HttpServletResponse) res).addHeader("Vary", "Origin");
+            res.setContentType("text/plain");
+            res.getWriter().write("z".repeat(200));
+        });
+
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(response.getHeaders("Vary")).containsExactly("Origin", "Accept-Encoding");
+    }
+
+    @Test
+    void doesNotRepeatVaryAcceptEncoding() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        this.filter.doFilter(gzipRequest(), response, (req, res) -> {
+            ((HttpServletResponse) res).addHeader("Vary", "Origin, accept-encoding");
+            res.setContentType("text/plain");
+            res.getWriter().write("z".repeat(200));
+        });
+
+        assertThat(response.getHeaders("Vary")).containsExactly("Origin, accept-encoding");
+    }
+
+    @Test
+    void passesThroughWhenFlushedBeforeThreshold() throws Exception {
+        String head = "data: first\n\n";
+        String tail = "data: " + "x".repeat(200) + "\n\n";
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        this.filter.doFilter(gzipRequest(), response, (req, res) -> {
+            res.setContentType("text/event-stream");
+            res.getWriter().write(head);
+            res.flushBuffer();
+            res.getWriter().write(tail);
+        });
+
+        // the early flush must reach the client as is rather than start a gzip stream
+        assertThat(response.getHeader("Content-Encoding")).isNull();
+        assertThat(response.getHeader("Vary")).isEqualTo("Accept-Encoding");
+        assertThat(response.getContentAsString()).isEqualTo(head + tail);
+    }
+
+    @Test
+    void finishesAsyncResponseCompletedWithoutDispatch() throws Exception {
+        String body = "w".repeat(300);
+        MockHttpServletRequest request = gzipRequest();
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        this.filter.doFilter(request, response, (req, res) -> {
+            StandardServletAsyncWebRequest asyncRequest = new StandardServletAsyncWebRequest(
+                    (HttpServletRequest) req, (HttpServletResponse) res);
+            WebAsyncUtils.getAsyncManager(req).setAsyncWebRequest(asyncRequest);
+            asyncRequest.startAsync();
+            res.setContentType("text/plain");
+            res.getWriter().write(body);
+        });
+        assertThat(response.getContentAsByteArray()).isEmpty();
+
+        request.getAsyncContext().complete();
+
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(gunzip(response.getContentAsByteArray())).isEqualTo(body);
+        assertThat(this.pool.idleCount()).isEqualTo(1);
+    }
+
+    @Test
+    void parsesAcceptEncodingQualities() {
+        assertThat(ResponseCompressionFilter.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(ResponseCompressionFilter.acceptsGzip("br;q=1.0, GZIP;q=0.5")).isTrue();
+        assertThat(ResponseCompressionFilter.acceptsGzip("*")).isTrue();
+        assertThat(ResponseCompressionFilter.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(ResponseCompressionFilter.acceptsGzip("identity")).isFalse();
+        assertThat(ResponseCompressionFilter.acceptsGzip(null)).isFalse();
+    }
+
+    private static MockHttpServletRequest gzipRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader("Accept-Encoding", "gzip, deflate");
+        return request;
+    }
+
+    private static String gunzip(byte[] compressed) throws Exception {
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
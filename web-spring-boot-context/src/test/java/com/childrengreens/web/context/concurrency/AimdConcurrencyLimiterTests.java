@@ -0,0 +1,84 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.concurrency;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AimdConcurrencyLimiterTests {
+
+    private static final long FAST = Duration.ofMillis(5).toNanos();
+
+    private static final long SLOW = Duration.ofSeconds(2).toNanos();
+
+    @Test
+    void rejectsOnceLimitIsReached() {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(2, 1, 10, Duration.ofSeconds(1), 0.5);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    // Fast requests under load grow the limit by one, up to the maximum
+    void growsAdditivelyWhenUtilised() {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(2, 1, 3, Duration.ofSeconds(1), 0.5);
+
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire();
+            limiter.tryAcquire();
+            limiter.release(FAST, false);
+            limiter.release(FAST, false);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(3);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    // An idle service must not inflate its limit
+    void keepsLimitWhenUnderutilised() {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(10, 1, 100, Duration.ofSeconds(1), 0.5);
+
+        limiter.tryAcquire();
+        limiter.release(FAST, false);
+
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    // Slow or dropped requests shrink the limit multiplicatively, never below the minimum
+    void backsOffOnLatencyAndDrops() {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(16, 2, 100, Duration.ofSeconds(1), 0.5);
+
+        limiter.tryAcquire();
+        limiter.release(SLOW, false);
+        assertThat(limiter.getLimit()).isEqualTo(8);
+        limiter.tryAcquire();
+        limiter.release(FAST, true);
+        assertThat(limiter.getLimit()).isEqualTo(4);
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire();
+            limiter.release(SLOW, false);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+}
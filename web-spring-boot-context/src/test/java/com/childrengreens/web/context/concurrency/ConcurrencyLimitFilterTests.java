@@ -0,0 +1,130 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.concurrency;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.childrengreens.web.context.exception.GlobalExceptionHandler;
+import com.childrengreens.web.context.exception.ServiceUnavailableException;
+import com.childrengreens.web.context.response.ApiResponseFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.support.StaticWebApplicationContext;
+import org.springframework.web.servlet.mvc.method.annotation.ExceptionHandlerExceptionResolver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimitFilterTests {
+
+    private final ServiceUnavailableException rejection = new ServiceUnavailableException(Duration.ofMillis(1500));
+
+    @Test
+    void holdsSlotWhileRequestIsProcessed() throws Exception {
+        AimdConcurrencyLimiter limiter = newLimiter(1);
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limiter, this.rejection, null);
+        AtomicInteger observed = new AtomicInteger();
+
+        filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(),
+                (req, res) -> observed.set(limiter.getInFlight()));
+
+        assertThat(observed).hasValue(1);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    // Without a resolver only the status and Retry-After header are written
+    void rejectsExcessRequestsWithRetryAfter() throws Exception {
+        AimdConcurrencyLimiter limiter = newLimiter(1);
+        limiter.tryAcquire();
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limiter, this.rejection, null);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest(), response, (req, res) -> {
+            throw new IllegalStateException("must not be invoked");
+        });
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    // Rejections are rendered by the global exception handler through the resolver
+    void rendersRejectionThroughExceptionHandler() throws Exception {
+        AimdConcurrencyLimiter limiter = newLimiter(1);
+        limiter.tryAcquire();
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limiter, this.rejection, exceptionResolver());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest(), response, (req, res) -> {
+        });
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(response.getContentAsString()).contains("\"code\":\"1005\"");
+    }
+
+    @Test
+    void releasesAsyncRequestsOnCompletion() throws Exception {
+        AimdConcurrencyLimiter limiter = newLimiter(1);
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limiter, this.rejection, null);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+        request.getAsyncContext().complete();
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    // Slow async requests such as long polls must not be taken as an overload signal
+    void doesNotSampleLatencyOfAsyncRequests() throws Exception {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(10, 1, 10, Duration.ofNanos(1), 0.5);
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limiter, this.rejection, null);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+        request.getAsyncContext().complete();
+        assertThat(limiter.getLimit()).isEqualTo(10);
+        assertThat(limiter.getInFlight()).isZero();
+
+        filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), (req, res) -> {
+        });
+        assertThat(limiter.getLimit()).isEqualTo(5);
+    }
+
+    private static AimdConcurrencyLimiter newLimiter(int limit) {
+        return new AimdConcurrencyLimiter(limit, 1, 10, Duration.ofSeconds(1), 0.9);
+    }
+
+    private static ExceptionHandlerExceptionResolver exceptionResolver() {
+        StaticWebApplicationContext context = new StaticWebApplicationContext();
+        context.registerBean(GlobalExceptionHandler.class, () -> new GlobalExceptionHandler(new ApiResponseFactory()));
+        context.refresh();
+        ExceptionHandlerExceptionResolver resolver = new ExceptionHandlerExceptionResolver();
+        resolver.setMessageConverters(List.of(new JacksonJsonHttpMessageConverter()));
+        resolver.setApplicationContext(context);
+        resolver.afterPropertiesSet();
+        return resolver;
+    }
+}
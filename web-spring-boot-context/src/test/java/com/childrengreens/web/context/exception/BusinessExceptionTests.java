@@ -51,4 +51,26 @@ class BusinessExceptionTests {
         assertThat(exception.getCause()).isEqualTo(cause);
         assertThat(exception.getMessage()).isEqualTo("ok");
     }
+
+    @Test
+    void shouldSkipStackTraceAndSuppressionWhenNotWritable() {
+        BusinessException exception = new BusinessException(DefaultErrorCode.VALIDATION_ERROR, "rejected", null, false);
+        exception.addSuppressed(new IllegalStateException("ignored"));
+
+        assertThat(exception.getStackTrace()).isEmpty();
+        assertThat(exception.getSuppressed()).isEmpty();
+        assertThat(exception.getErrorCode()).isEqualTo(DefaultErrorCode.VALIDATION_ERROR);
+    }
+
+    @Test
+    void shouldHonourGlobalStackTraceSwitch() {
+        try {
+            BusinessException.setStackTraceEnabled(false);
+            assertThat(new BusinessException(DefaultErrorCode.VALIDATION_ERROR).getStackTrace()).isEmpty();
+        }
+        finally {
+            BusinessException.setStackTraceEnabled(true);
+        }
+        assertThat(new BusinessException(DefaultErrorCode.VALIDATION_ERROR).getStackTrace()).isNotEmpty();
+    }
 }
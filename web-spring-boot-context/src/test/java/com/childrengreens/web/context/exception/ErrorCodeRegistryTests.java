@@ -0,0 +1,84 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.exception;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+class ErrorCodeRegistryTests {
+
+    @Test
+    void shouldIndexDefaultAndContributedCodes() {
+        ErrorCodeRegistry registry = ErrorCodeRegistry.fromProviders(List.of(() -> List.of(OrderErrorCode.values())));
+
+        assertThat(registry.find("1002")).isEqualTo(DefaultErrorCode.UNAUTHORIZED);
+        assertThat(registry.find("2001")).isEqualTo(OrderErrorCode.OUT_OF_STOCK);
+        assertThat(registry.find("9999")).isNull();
+        assertThat(registry.find(null)).isNull();
+        assertThat(registry.size()).isEqualTo(DefaultErrorCode.values().length + 1);
+        assertThat(registry.getErrorCodes()).startsWith(DefaultErrorCode.values());
+    }
+
+    @Test
+    void shouldTolerateTheSameCodeRegisteredTwice() {
+        ErrorCodeRegistry registry = ErrorCodeRegistry.of(List.of(DefaultErrorCode.SUCCESS, DefaultErrorCode.SUCCESS));
+
+        assertThat(registry.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectCollidingCodes() {
+        assertThatIllegalStateException()
+                .isThrownBy(() -> ErrorCodeRegistry.fromProviders(List.of(() -> List.of(ClashingErrorCode.values()))))
+                .withMessageContaining("'1000'")
+                .withMessageContaining(DefaultErrorCode.class.getName() + ".VALIDATION_ERROR")
+                .withMessageContaining(ClashingErrorCode.class.getName() + ".INVALID_ORDER");
+    }
+
+    enum OrderErrorCode implements ErrorCode {
+
+        OUT_OF_STOCK;
+
+        @Override
+        public String getCode() {
+            return "2001";
+        }
+
+        @Override
+        public String getMessage() {
+            return "Out of stock";
+        }
+    }
+
+    enum ClashingErrorCode implements ErrorCode {
+
+        INVALID_ORDER;
+
+        @Override
+        public String getCode() {
+            return "1000";
+        }
+
+        @Override
+        public String getMessage() {
+            return "Invalid order";
+        }
+    }
+}
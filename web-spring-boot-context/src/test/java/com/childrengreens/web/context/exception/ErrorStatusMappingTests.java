@@ -0,0 +1,62 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.exception;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorStatusMappingTests {
+
+    @Test
+    void shouldUseDeclaredStatusesByDefault() {
+        ErrorStatusMapping mapping = ErrorStatusMapping.defaults();
+
+        assertThat(mapping.resolve(DefaultErrorCode.UNAUTHORIZED)).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(mapping.resolve(DefaultErrorCode.RESOURCE_NOT_FOUND)).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(mapping.getStatuses()).containsEntry("1999", HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    @Test
+    void shouldPreferOverridesOverDeclaredStatuses() {
+        ErrorStatusMapping mapping = ErrorStatusMapping.of(List.of(DefaultErrorCode.values()),
+                Map.of("1001", HttpStatus.CONFLICT));
+
+        assertThat(mapping.resolve(DefaultErrorCode.BUSINESS_ERROR)).isEqualTo(HttpStatus.CONFLICT);
+    }
+
+    @Test
+    void shouldFallBackToErrorCodeForUnknownCodes() {
+        ErrorCode custom = new ErrorCode() {
+            @Override
+            public String getCode() {
+                return "2001";
+            }
+
+            @Override
+            public String getMessage() {
+                return "Quota exhausted";
+            }
+        };
+
+        assertThat(ErrorStatusMapping.defaults().resolve(custom)).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(ErrorStatusMapping.defaults().getStatuses()).doesNotContainKey("2001");
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.exception;
+
+import java.io.EOFException;
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.context.request.async.AsyncRequestNotUsableException;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExceptionClassifierTests {
+
+    private final ExceptionClassifier classifier = new ExceptionClassifier();
+
+    @Test
+    // Disconnect types are recognised directly or as a cause
+    void classifiesClientAborts() {
+        assertThat(this.classifier.classify(new AsyncRequestNotUsableException("closed")))
+                .isEqualTo(ExceptionClassifier.Category.CLIENT_ABORT);
+        Throwable wrapped = new IllegalStateException("wrapped", new AsyncRequestNotUsableException("closed"));
+        assertThat(this.classifier.classify(wrapped)).isEqualTo(ExceptionClassifier.Category.CLIENT_ABORT);
+        assertThat(this.classifier.getClientAbortCount()).isEqualTo(2);
+    }
+
+    @Test
+    void classifiesRequestTimeouts() {
+        assertThat(this.classifier.classify(new AsyncRequestTimeoutException()))
+                .isEqualTo(ExceptionClassifier.Category.REQUEST_TIMEOUT);
+        assertThat(this.classifier.getRequestTimeoutCount()).isEqualTo(1);
+    }
+
+    @Test
+    // Only exact container types match; EOFException and plain IOExceptions are genuine failures
+    void leavesOtherExceptionsUncounted() {
+        assertThat(this.classifier.classify(new ClientAbortException()))
+                .isEqualTo(ExceptionClassifier.Category.OTHER);
+        assertThat(this.classifier.classify(new EOFException())).isEqualTo(ExceptionClassifier.Category.OTHER);
+        assertThat(this.classifier.classify(new IOException("Disk full"))).isEqualTo(ExceptionClassifier.Category.OTHER);
+        assertThat(this.classifier.classify(new IOException("Broken pipe")))
+                .isEqualTo(ExceptionClassifier.Category.OTHER);
+        assertThat(this.classifier.classify(new IllegalStateException())).isEqualTo(ExceptionClassifier.Category.OTHER);
+        assertThat(this.classifier.getClientAbortCount()).isZero();
+        assertThat(this.classifier.getRequestTimeoutCount()).isZero();
+    }
+
+    @Test
+    // Cause chains are only followed up to a fixed depth
+    void stopsAtMaxCauseDepth() {
+        Throwable exception = new AsyncRequestNotUsableException("closed");
+        for (int i = 0; i < ExceptionClassifier.MAX_CAUSE_DEPTH; i++) {
+            exception = new IllegalStateException(exception);
+        }
+        assertThat(this.classifier.classify(exception)).isEqualTo(ExceptionClassifier.Category.OTHER);
+    }
+
+    static class ClientAbortException extends IOException {
+    }
+}
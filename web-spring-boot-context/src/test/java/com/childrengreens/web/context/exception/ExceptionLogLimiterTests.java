@@ -0,0 +1,122 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.exception;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class ExceptionLogLimiterTests {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final Map<String, Long> summaries = new LinkedHashMap<>();
+
+    private final ExceptionLogLimiter limiter = new ExceptionLogLimiter(Duration.ofSeconds(10), 4, this.clock::get,
+            this.summaries::put);
+
+    @Test
+    // First occurrence is logged in full, repeats are counted and summarised once the window closes
+    void shouldSummariseRepeatsPerWindow() {
+        assertThat(this.limiter.check(failure(), "1001").isFull()).isTrue();
+        for (int i = 0; i < 3; i++) {
+            assertThat(this.limiter.check(failure(), "1001").logged()).isFalse();
+        }
+
+        this.clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        ExceptionLogLimiter.Decision summary = this.limiter.check(failure(), "1001");
+
+        assertThat(summary.isSummary()).isTrue();
+        assertThat(summary.suppressedCount()).isEqualTo(3);
+        assertThat(this.limiter.check(failure(), "1001").logged()).isFalse();
+    }
+
+    @Test
+    // A quiet window means the next occurrence is logged in full again
+    void shouldLogInFullAfterQuietWindow() {
+        this.limiter.check(failure(), "1001");
+
+        this.clock.addAndGet(Duration.ofSeconds(11).toNanos());
+
+        assertThat(this.limiter.check(failure(), "1001").isFull()).isTrue();
+    }
+
+    @Test
+    // Error code and exception type are part of the fingerprint
+    void shouldSeparateFingerprintsByCodeAndType() {
+        BusinessException exception = failure();
+
+        assertThat(this.limiter.check(exception, "1001").isFull()).isTrue();
+        assertThat(this.limiter.check(exception, "1002").isFull()).isTrue();
+        assertThat(this.limiter.check(new IllegalStateException(), "1001").isFull()).isTrue();
+        assertThat(this.limiter.size()).isEqualTo(3);
+    }
+
+    @Test
+    // The same type thrown from different sites is tracked separately
+    void shouldSeparateFingerprintsByThrowSite() {
+        IllegalStateException first = new IllegalStateException();
+        IllegalStateException second = new IllegalStateException();
+
+        assertThat(this.limiter.check(first, null).isFull()).isTrue();
+        assertThat(this.limiter.check(second, null).isFull()).isTrue();
+        assertThat(this.limiter.check(first, null).logged()).isFalse();
+    }
+
+    @Test
+    // Counts pending when a burst stops are summarised by the sweep and the entry evicted
+    void shouldSummariseAndEvictStoppedBursts() {
+        this.limiter.check(failure(), "1001");
+        this.limiter.check(failure(), "1001");
+        this.limiter.check(failure(), "1001");
+        this.limiter.check(failure(), "1002");
+
+        this.clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertThat(this.limiter.check(new IllegalStateException(), null).isFull()).isTrue();
+
+        assertThat(this.summaries).containsOnlyKeys(BusinessException.class.getName() + " [1001]");
+        assertThat(this.summaries).containsValue(2L);
+        assertThat(this.limiter.size()).isEqualTo(1);
+        assertThat(this.limiter.check(failure(), "1001").isFull()).isTrue();
+    }
+
+    @Test
+    // Once the bound is reached, new fingerprints share a single overflow entry
+    void shouldBoundTrackedFingerprints() {
+        for (int i = 0; i < 10; i++) {
+            this.limiter.check(failure(), String.valueOf(i));
+        }
+
+        assertThat(this.limiter.size()).isEqualTo(5);
+        assertThat(this.limiter.check(failure(), "99").logged()).isFalse();
+    }
+
+    @Test
+    void shouldRejectInvalidConfiguration() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new ExceptionLogLimiter(Duration.ZERO, 1));
+        assertThatIllegalArgumentException().isThrownBy(() -> new ExceptionLogLimiter(Duration.ofSeconds(1), 0));
+    }
+
+    private static BusinessException failure() {
+        return new BusinessException(DefaultErrorCode.VALIDATION_ERROR, "rejected", null, false);
+    }
+}
@@ -17,15 +17,25 @@ package com.childrengreens.web.context.exception;
 
 import com.childrengreens.web.context.response.ApiResponse;
 import com.childrengreens.web.context.response.ApiResponseFactory;
+import com.childrengreens.web.context.i18n.MessageResolverImpl;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.NotBlank;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.StaticMessageSource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.AsyncRequestNotUsableException;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
 import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.validation.BeanPropertyBindingResult;
@@ -34,6 +44,12 @@ import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.servlet.NoHandlerFoundException;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class GlobalExceptionHandlerTests {
@@ -48,12 +64,40 @@ class GlobalExceptionHandlerTests {
 
         ResponseEntity<ApiResponse<Void>> response = this.handler.handleBusinessException(businessException);
 
-        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
         assertThat(response.getBody()).isNotNull();
         assertThat(response.getBody().getCode()).isEqualTo(DefaultErrorCode.UNAUTHORIZED.getCode());
         assertThat(response.getBody().getMessage()).isEqualTo("denied");
     }
 
+    @Test
+    void handleBusinessExceptionWithLogLimiterKeepsResponses() {
+        ExceptionLogLimiter limiter = new ExceptionLogLimiter(Duration.ofMinutes(1), 16);
+        GlobalExceptionHandler throttled = new GlobalExceptionHandler(this.responseFactory, limiter);
+
+        for (int i = 0; i < 3; i++) {
+            ResponseEntity<ApiResponse<Void>> response = throttled
+                    .handleBusinessException(new BusinessException(DefaultErrorCode.VALIDATION_ERROR, "rejected"));
+            assertThat(response.getBody()).isNotNull();
+            assertThat(response.getBody().getMessage()).isEqualTo("rejected");
+        }
+    }
+
+    @Test
+    void handleBusinessExceptionAppliesStatusOverrides() {
+        ErrorStatusMapping mapping = ErrorStatusMapping.of(List.of(DefaultErrorCode.values()),
+                Map.of(DefaultErrorCode.BUSINESS_ERROR.getCode(), HttpStatus.UNPROCESSABLE_CONTENT));
+        GlobalExceptionHandler mapped = new GlobalExceptionHandler(this.responseFactory, null, mapping);
+
+        ResponseEntity<ApiResponse<Void>> overridden = mapped
+                .handleBusinessException(new BusinessException(DefaultErrorCode.BUSINESS_ERROR));
+        ResponseEntity<ApiResponse<Void>> declared = mapped
+                .handleBusinessException(new BusinessException(DefaultErrorCode.RESOURCE_NOT_FOUND, "no order"));
+
+        assertThat(overridden.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_CONTENT);
+        assertThat(declared.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
     @Test
     void handleBindingErrorsAggregatesFieldAndGlobalMessages() {
         BindingResult bindingResult = new BeanPropertyBindingResult(new Object(), "target");
@@ -61,12 +105,13 @@ class GlobalExceptionHandlerTests {
         bindingResult.reject("global", "global issue");
         BindException bindException = new BindException(bindingResult);
 
-        ResponseEntity<ApiResponse<Void>> response = this.handler.handleBindingErrors(bindException);
+        ResponseEntity<ApiResponse<List<FieldErrorDetail>>> response = this.handler.handleBindingErrors(bindException);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
         assertThat(response.getBody()).isNotNull();
         assertThat(response.getBody().getMessage()).contains("name: must not be blank")
                 .contains("global issue");
+        assertThat(response.getBody().getData()).extracting(FieldErrorDetail::field).containsExactly("name", null);
     }
 
     @Test
@@ -80,6 +125,31 @@ class GlobalExceptionHandlerTests {
         assertThat(response.getBody().getMessage()).isEqualTo("invalid input");
     }
 
+    @Test
+    void handleConstraintViolationReportsStructuredErrors() {
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            Set<ConstraintViolation<Item>> violations = factory.getValidator().validate(new Item());
+
+            ResponseEntity<ApiResponse<List<FieldErrorDetail>>> response = this.handler
+                    .handleConstraintViolation(new ConstraintViolationException(violations));
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+            assertThat(response.getBody()).isNotNull();
+            assertThat(response.getBody().getData()).containsExactly(new FieldErrorDetail("name", "NotBlank", "must not be blank"));
+            assertThat(response.getBody().getMessage()).isEqualTo("name: must not be blank");
+        }
+    }
+
+    @Test
+    void handleConstraintViolationFallsBackToExceptionMessage() {
+        ResponseEntity<ApiResponse<List<FieldErrorDetail>>> response = this.handler
+                .handleConstraintViolation(new ConstraintViolationException("invalid input", null));
+
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getMessage()).isEqualTo("invalid input");
+        assertThat(response.getBody().getData()).isEmpty();
+    }
+
     @Test
     void handleMessageNotReadableUsesMostSpecificCauseMessage() {
         HttpMessageNotReadableException ex = new HttpMessageNotReadableException("body error",
@@ -149,4 +219,118 @@ class GlobalExceptionHandlerTests {
         assertThat(response.getBody()).isNotNull();
         assertThat(response.getBody().getMessage()).isEqualTo(DefaultErrorCode.INTERNAL_ERROR.getMessage());
     }
+
+    @Test
+    // Client disconnects are counted without writing a body; async timeouts become 503
+    void handleGenericExceptionClassifiesDisconnectsAndTimeouts() {
+        ExceptionClassifier classifier = new ExceptionClassifier();
+        GlobalExceptionHandler classifying = new GlobalExceptionHandler(this.responseFactory, null,
+                ErrorStatusMapping.defaults(), new ValidationErrorCollector(), classifier);
+        WebRequest request = new ServletWebRequest(new MockHttpServletRequest());
+
+        assertThat(classifying.handleGenericException(
+                new HttpMessageNotWritableException("write failed", new AsyncRequestNotUsableException("closed")),
+                request)).isNull();
+        ResponseEntity<ApiResponse<Void>> timeout = classifying
+                .handleGenericException(new AsyncRequestTimeoutException(), request);
+
+        assertThat(timeout.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(timeout.getBody().getCode()).isEqualTo(DefaultErrorCode.SERVICE_UNAVAILABLE.getCode());
+        assertThat(classifier.getClientAbortCount()).isEqualTo(1);
+        assertThat(classifier.getRequestTimeoutCount()).isEqualTo(1);
+    }
+
+    @Test
+    // Load-shedding rejections carry a Retry-After header rounded up to whole seconds
+    void handleServiceUnavailableAddsRetryAfter() {
+        ResponseEntity<ApiResponse<Void>> response = this.handler
+                .handleServiceUnavailable(new ServiceUnavailableException(Duration.ofMillis(200)));
+        ResponseEntity<ApiResponse<Void>> custom = this.handler
+                .handleServiceUnavailable(new ServiceUnavailableException("draining", null));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(response.getBody().getCode()).isEqualTo(DefaultErrorCode.SERVICE_UNAVAILABLE.getCode());
+        assertThat(custom.getHeaders().containsHeader(HttpHeaders.RETRY_AFTER)).isFalse();
+        assertThat(custom.getBody().getMessage()).isEqualTo("draining");
+    }
+
+    @Test
+    // Exhausted quotas are answered with 429 and a Retry-After header
+    void handleTooManyRequestsAddsRetryAfter() {
+        ResponseEntity<ApiResponse<Void>> response = this.handler
+                .handleTooManyRequests(new TooManyRequestsException(Duration.ofMillis(1500)));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(response.getBody().getCode()).isEqualTo(DefaultErrorCode.TOO_MANY_REQUESTS.getCode());
+    }
+
+    @Test
+    // Constant error responses use the message localized for the request locale
+    void handleGenericExceptionLocalizesMessage() {
+        StaticMessageSource messageSource = new StaticMessageSource();
+        messageSource.addMessage("error.1999", Locale.SIMPLIFIED_CHINESE, "服务器内部错误");
+        LocalizedErrorMessages messages = new LocalizedErrorMessages(new MessageResolverImpl(messageSource),
+                List.of(DefaultErrorCode.values()), List.of(Locale.SIMPLIFIED_CHINESE), Locale.ENGLISH, "error.");
+        GlobalExceptionHandler handler = new GlobalExceptionHandler(new ApiResponseFactory(), null,
+                ErrorStatusMapping.defaults(), new ValidationErrorCollector(), new ExceptionClassifier(), messages);
+        WebRequest request = new ServletWebRequest(new MockHttpServletRequest());
+        try {
+            LocaleContextHolder.setLocale(Locale.SIMPLIFIED_CHINESE);
+            ResponseEntity<ApiResponse<Void>> first = handler.handleGenericException(new IllegalStateException(),
+                    request);
+            ResponseEntity<ApiResponse<Void>> second = handler.handleGenericException(new IllegalStateException(),
+                    request);
+            LocaleContextHolder.setLocale(Locale.ENGLISH);
+            ResponseEntity<ApiResponse<Void>> english = handler.handleGenericException(new IllegalStateException(),
+                    request);
+
+            assertThat(first.getBody().getMessage()).isEqualTo("服务器内部错误");
+            assertThat(second).isSameAs(first);
+            assertThat(english.getBody().getMessage()).isEqualTo(DefaultErrorCode.INTERNAL_ERROR.getMessage());
+        }
+        finally {
+            LocaleContextHolder.resetLocaleContext();
+        }
+    }
+
+    @Test
+    // Constant error responses should be shared instead of rebuilt per request
+    void constantErrorResponsesAreReused() {
+        WebRequest request = new ServletWebRequest(new MockHttpServletRequest());
+
+        ResponseEntity<ApiResponse<Void>> first = this.handler.handleGenericException(new IllegalStateException("a"), request);
+        ResponseEntity<ApiResponse<Void>> second = this.handler.handleGenericException(new IllegalStateException("b"), request);
+        ResponseEntity<ApiResponse<Void>> unauthorized = this.handler.handleUnauthorized(new UnauthorizedException(null));
+        ResponseEntity<ApiResponse<Void>> business = this.handler
+                .handleBusinessException(new BusinessException(DefaultErrorCode.VALIDATION_ERROR));
+
+        assertThat(second).isSameAs(first);
+        assertThat(this.handler.handleUnauthorized(new UnauthorizedException(null))).isSameAs(unauthorized);
+        assertThat(this.handler.handleBusinessException(new BusinessException(DefaultErrorCode.VALIDATION_ERROR)))
+                .isSameAs(business);
+        assertThat(business.getBody().getCode()).isEqualTo(DefaultErrorCode.VALIDATION_ERROR.getCode());
+    }
+
+    @Test
+    // Custom messages must never be served from the shared cache
+    void customMessagesBypassSharedResponses() {
+        ResponseEntity<ApiResponse<Void>> cached = this.handler.handleUnauthorized(new UnauthorizedException(null));
+
+        ResponseEntity<ApiResponse<Void>> custom = this.handler.handleUnauthorized(new UnauthorizedException("token expired"));
+
+        assertThat(custom).isNotSameAs(cached);
+        assertThat(custom.getBody().getMessage()).isEqualTo("token expired");
+    }
+
+    static class Item {
+
+        @NotBlank
+        private String name;
+
+        public String getName() {
+            return this.name;
+        }
+    }
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.exception;
+
+import java.util.List;
+import java.util.Locale;
+
+import com.childrengreens.web.context.i18n.MessageResolverImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticMessageSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalizedErrorMessagesTests {
+
+    @Test
+    // Messages are looked up by exact locale, then language, then the default locale
+    void getMessageFallsBackByLanguageThenDefault() {
+        StaticMessageSource messageSource = new StaticMessageSource();
+        messageSource.addMessage("error.1002", Locale.SIMPLIFIED_CHINESE, "未登录");
+        messageSource.addMessage("error.1002", Locale.FRENCH, "Non autorisé");
+        messageSource.addMessage("error.1002", Locale.ENGLISH, "Please sign in");
+        LocalizedErrorMessages messages = new LocalizedErrorMessages(new MessageResolverImpl(messageSource),
+                List.of(DefaultErrorCode.values()), List.of(Locale.SIMPLIFIED_CHINESE, Locale.FRENCH), Locale.ENGLISH,
+                "error.");
+
+        assertThat(messages.getMessage(DefaultErrorCode.UNAUTHORIZED, Locale.SIMPLIFIED_CHINESE)).isEqualTo("未登录");
+        assertThat(messages.getMessage(DefaultErrorCode.UNAUTHORIZED, Locale.CANADA_FRENCH)).isEqualTo("Non autorisé");
+        assertThat(messages.getMessage(DefaultErrorCode.UNAUTHORIZED, Locale.GERMAN)).isEqualTo("Please sign in");
+        assertThat(messages.getMessage(DefaultErrorCode.UNAUTHORIZED, null)).isEqualTo("Please sign in");
+        assertThat(messages.getLocales()).containsExactlyInAnyOrder(Locale.SIMPLIFIED_CHINESE, Locale.FRENCH,
+                Locale.ENGLISH);
+    }
+
+    @Test
+    // Codes without a localized message keep their default message
+    void getMessageReturnsNullWithoutTranslation() {
+        LocalizedErrorMessages messages = new LocalizedErrorMessages(
+                new MessageResolverImpl(new StaticMessageSource()), List.of(DefaultErrorCode.values()),
+                List.of(Locale.FRENCH), Locale.ENGLISH, "error.");
+
+        assertThat(messages.getMessage(DefaultErrorCode.INTERNAL_ERROR, Locale.FRENCH)).isNull();
+    }
+}
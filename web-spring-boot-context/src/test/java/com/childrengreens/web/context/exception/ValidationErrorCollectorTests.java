@@ -0,0 +1,101 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.exception;
+
+import java.util.List;
+import java.util.Locale;
+
+import com.childrengreens.web.context.i18n.MessageResolverImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ValidationErrorCollectorTests {
+
+    @AfterEach
+    void resetLocale() {
+        LocaleContextHolder.resetLocaleContext();
+    }
+
+    @Test
+    // Only the configured number of errors is reported, the rest is summarised
+    void shouldCapReportedErrors() {
+        BindingResult bindingResult = bindingResult();
+        for (int i = 0; i < 5; i++) {
+            bindingResult.rejectValue("items", "NotNull", "must not be null");
+        }
+
+        ValidationErrorCollector.Result result = new ValidationErrorCollector(2, null).collect(bindingResult);
+
+        assertThat(result.errors()).hasSize(2)
+                .allSatisfy((error) -> assertThat(error).isEqualTo(new FieldErrorDetail("items", "NotNull", "must not be null")));
+        assertThat(result.message()).isEqualTo("items: must not be null; items: must not be null; and 3 more");
+    }
+
+    @Test
+    // Application messages override default messages and the resolving code is cached per locale
+    void shouldPreferResolvedMessages() {
+        StaticMessageSource messageSource = new StaticMessageSource();
+        messageSource.addMessage("NotBlank.name", Locale.ENGLISH, "Name is required");
+        ValidationErrorCollector collector = new ValidationErrorCollector(10, new MessageResolverImpl(messageSource));
+        LocaleContextHolder.setLocale(Locale.ENGLISH);
+        BindingResult bindingResult = bindingResult();
+        bindingResult.rejectValue("name", "NotBlank", "must not be blank");
+        bindingResult.rejectValue("items", "NotNull", "must not be null");
+
+        ValidationErrorCollector.Result first = collector.collect(bindingResult);
+        ValidationErrorCollector.Result second = collector.collect(bindingResult);
+
+        assertThat(first.errors()).extracting(FieldErrorDetail::message).containsExactly("Name is required", "must not be null");
+        assertThat(second).isEqualTo(first);
+        assertThat(collector.cachedResolutions()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReportObjectErrorsWithoutField() {
+        BindingResult bindingResult = bindingResult();
+        bindingResult.reject("DateRange", "end must follow start");
+
+        ValidationErrorCollector.Result result = new ValidationErrorCollector().collect(bindingResult);
+
+        assertThat(result.errors()).containsExactly(new FieldErrorDetail(null, "DateRange", "end must follow start"));
+        assertThat(result.message()).isEqualTo("end must follow start");
+    }
+
+    private static BindingResult bindingResult() {
+        return new BeanPropertyBindingResult(new Order(), "order");
+    }
+
+    static class Order {
+
+        private String name;
+
+        private List<String> items;
+
+        public String getName() {
+            return this.name;
+        }
+
+        public List<String> getItems() {
+            return this.items;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.i18n;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachingAcceptHeaderLocaleResolverTests {
+
+    @Test
+    // Repeated headers are served from the cache with the same supported-locale match
+    void resolveLocaleCachesPerHeader() {
+        CachingAcceptHeaderLocaleResolver resolver = new CachingAcceptHeaderLocaleResolver(16);
+        resolver.setSupportedLocales(List.of(Locale.SIMPLIFIED_CHINESE, Locale.ENGLISH));
+        resolver.setDefaultLocale(Locale.ENGLISH);
+
+        assertThat(resolver.resolveLocale(request("fr-FR,en;q=0.5")))
+            .isEqualTo(Locale.ENGLISH);
+        assertThat(resolver.resolveLocale(request("fr-FR,en;q=0.5")))
+            .isEqualTo(Locale.ENGLISH);
+        assertThat(resolver.resolveLocale(request("zh-CN")))
+            .isEqualTo(Locale.SIMPLIFIED_CHINESE);
+        assertThat(resolver.resolveLocale(new MockHttpServletRequest())).isEqualTo(Locale.ENGLISH);
+
+        assertThat(resolver.getHitCount()).isEqualTo(1);
+        assertThat(resolver.getMissCount()).isEqualTo(2);
+        assertThat(resolver.getCacheSize()).isEqualTo(2);
+    }
+
+    @Test
+    // The cache never grows beyond its maximum size
+    void resolveLocaleEvictsWhenFull() {
+        CachingAcceptHeaderLocaleResolver resolver = new CachingAcceptHeaderLocaleResolver(10);
+
+        for (int i = 0; i < 50; i++) {
+            resolver.resolveLocale(request("en;q=0." + i));
+        }
+
+        assertThat(resolver.getCacheSize()).isLessThanOrEqualTo(10);
+        assertThat(resolver.getMissCount()).isEqualTo(50);
+    }
+
+    @Test
+    // Changing the supported locales discards cached results
+    void setSupportedLocalesClearsCache() {
+        CachingAcceptHeaderLocaleResolver resolver = new CachingAcceptHeaderLocaleResolver(16);
+        resolver.resolveLocale(request("de"));
+
+        resolver.setSupportedLocales(List.of(Locale.ENGLISH));
+
+        assertThat(resolver.getCacheSize()).isZero();
+    }
+
+    private static MockHttpServletRequest request(String header) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.ACCEPT_LANGUAGE, header);
+        return request;
+    }
+}
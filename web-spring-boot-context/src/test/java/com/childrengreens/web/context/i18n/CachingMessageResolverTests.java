@@ -0,0 +1,92 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.i18n;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.context.support.StaticMessageSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachingMessageResolverTests {
+
+    private final AtomicInteger lookups = new AtomicInteger();
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final StaticMessageSource messageSource = new StaticMessageSource() {
+
+        @Override
+        protected String resolveCodeWithoutArguments(String code, Locale locale) {
+            CachingMessageResolverTests.this.lookups.incrementAndGet();
+            return super.resolveCodeWithoutArguments(code, locale);
+        }
+    };
+
+    private final CachingMessageResolver resolver = new CachingMessageResolver(this.messageSource,
+            Duration.ofMinutes(5), this.clock::get);
+
+    @Test
+    // Cached resolution should produce the same text as the MessageSource
+    void getMessageForLocaleMatchesMessageSource() {
+        String[] patterns = { "Hello {0}", "It''s {0}", "'{0}' is {1}", "{1} before {0}", "Missing {2}",
+                "Total {0,number,#.#}", "{0} items", "Plain text", "Quote '' only" };
+        Object[][] arguments = { {}, { 7, "Alice" }, { 1234, "x" }, { 3.5, "y" } };
+        MessageResolverImpl reference = new MessageResolverImpl(this.messageSource);
+        for (int i = 0; i < patterns.length; i++) {
+            this.messageSource.addMessage("code" + i, Locale.US, patterns[i]);
+            for (Object[] args : arguments) {
+                assertThat(this.resolver.getMessageForLocale("code" + i, Locale.US, args)).as(patterns[i])
+                    .isEqualTo(reference.getMessageForLocale("code" + i, Locale.US, args));
+            }
+        }
+        assertThat(this.resolver.getMessageForLocale("missing", Locale.US)).isEqualTo("missing");
+    }
+
+    @Test
+    // Templates are looked up once per code and locale until they expire
+    void getMessageForLocaleCachesTemplates() {
+        this.messageSource.addMessage("welcome", Locale.US, "Hello {0}");
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(this.resolver.getMessageForLocale("welcome", Locale.US, "Bob")).isEqualTo("Hello Bob");
+        }
+        assertThat(this.lookups).hasValue(1);
+
+        this.messageSource.addMessage("welcome", Locale.US, "Hi {0}");
+        this.clock.addAndGet(Duration.ofMinutes(5).toNanos());
+
+        assertThat(this.resolver.getMessageForLocale("welcome", Locale.US, "Bob")).isEqualTo("Hi Bob");
+        assertThat(this.lookups).hasValue(2);
+    }
+
+    @Test
+    // Resolvable arguments are resolved by the MessageSource itself
+    void getMessageForLocaleDelegatesResolvableArguments() {
+        this.messageSource.addMessage("field", Locale.US, "name");
+        this.messageSource.addMessage("required", Locale.US, "{0} is required");
+
+        String message = this.resolver.getMessageForLocale("required", Locale.US,
+                new DefaultMessageSourceResolvable("field"));
+
+        assertThat(message).isEqualTo("name is required");
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.childrengreens.web.context.protobuf;
+
+import java.util.Map;
+
+import com.childrengreens.web.context.response.ApiResponse;
+import com.google.protobuf.Any;
+import com.google.protobuf.StringValue;
+import com.google.protobuf.UnknownFieldSet;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class ApiResponseProtobufHttpMessageConverterTests {
+
+    private final ApiResponseProtobufHttpMessageConverter converter = new ApiResponseProtobufHttpMessageConverter();
+
+    @Test
+    void canWriteEnvelopesOnlyForProtobuf() {
+        assertThat(this.converter.canWrite(ApiResponse.class, ApiResponseProtobufHttpMessageConverter.PROTOBUF)).isTrue();
+        assertThat(this.converter.canWrite(StringValue.class, ApiResponseProtobufHttpMessageConverter.PROTOBUF)).isTrue();
+        assertThat(this.converter.canWrite(ApiResponse.class, org.springframework.http.MediaType.APPLICATION_JSON))
+                .isFalse();
+        assertThat(this.converter.canRead(ApiResponse.class, ApiResponseProtobufHttpMessageConverter.PROTOBUF)).isFalse();
+    }
+
+    @Test
+    // Envelopes declaring a payload without protobuf representation are declined up front
+    void canWriteChecksDeclaredPayloadType() {
+        assertThat(this.converter.canWrite(ResolvableType.forClassWithGenerics(ApiResponse.class, StringValue.class),
+                ApiResponse.class, ApiResponseProtobufHttpMessageConverter.PROTOBUF)).isTrue();
+        assertThat(this.converter.canWrite(ResolvableType.forClassWithGenerics(ApiResponse.class, Void.class),
+                ApiResponse.class, ApiResponseProtobufHttpMessageConverter.PROTOBUF)).isTrue();
+        assertThat(this.converter.canWrite(ResolvableType.forClassWithGenerics(ApiResponse.class, Map.class),
+                ApiResponse.class, ApiResponseProtobufHttpMessageConverter.PROTOBUF)).isFalse();
+        assertThat(this.converter.canWrite(Map.class, ApiResponseProtobufHttpMessageConverter.PROTOBUF)).isFalse();
+    }
+
+    @Test
+    // Within a request protobuf is only offered when the Accept header names it
+    void offersProtobufOnlyWhenRequestedExplicitly() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        try {
+            request.addHeader("Accept", "text/html,*/*;q=0.8");
+            assertThat(this.converter.canWrite(ApiResponse.class, null)).isFalse();
+            request.removeHeader("Accept");
+            request.addHeader("Accept", "application/json;q=0.9, application/x-protobuf");
+            assertThat(this.converter.canWrite(ApiResponse.class, null)).isTrue();
+        }
+        finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    @Test
+    void writesMessagePayloadAsAny() throws Exception {
+        StringValue payload = StringValue.of("hello");
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        this.converter.write(ApiResponse.success(payload), ApiResponseProtobufHttpMessageConverter.PROTOBUF, output);
+
+        UnknownFieldSet fields = UnknownFieldSet.parseFrom(output.getBodyAsBytes());
+        assertThat(fields.getField(1).getLengthDelimitedList().get(0).toStringUtf8()).isEqualTo("0");
+        assertThat(fields.getField(2).getLengthDelimitedList().get(0).toStringUtf8()).isEqualTo("Success");
+        assertThat(fields.hasField(3)).isFalse();
+        Any data = Any.parseFrom(fields.getField(4).getLengthDelimitedList().get(0));
+        assertThat(data).isEqualTo(Any.pack(payload));
+        assertThat(data.unpack(StringValue.class)).isEqualTo(payload);
+    }
+
+    @Test
+    void writesBinaryPayloadAsRawData() throws Exception {
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        this.converter.write(ApiResponse.success(new byte[] { 1, 2, 3 }), ApiResponseProtobufHttpMessageConverter.PROTOBUF,
+                output);
+
+        UnknownFieldSet fields = UnknownFieldSet.parseFrom(output.getBodyAsBytes());
+        assertThat(fields.getField(5).getLengthDelimitedList().get(0).toByteArray()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void rejectsPayloadsWithoutProtobufRepresentation() {
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        assertThatExceptionOfType(HttpMessageNotWritableException.class).isThrownBy(() -> this.converter
+                .write(ApiResponse.success(new Object()), ApiResponseProtobufHttpMessageConverter.PROTOBUF, output));
+    }
+}
@@ -15,6 +15,9 @@
  */
 package com.childrengreens.web.context.response;
 
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
 import com.childrengreens.web.context.exception.DefaultErrorCode;
 import com.childrengreens.web.context.exception.ErrorCode;
 import com.childrengreens.web.context.trace.TraceIdHolder;
@@ -68,4 +71,50 @@ class ApiResponseFactoryTests {
         assertThat(defaultFailure.getCode()).isEqualTo(DefaultErrorCode.INTERNAL_ERROR.getCode());
         assertThat(defaultFailure.getMessage()).isEqualTo(DefaultErrorCode.INTERNAL_ERROR.getMessage());
     }
+
+    @Test
+    // Failures without a message fall back to the configured default error message
+    void failureWithoutMessageUsesDefaults() {
+        ApiResponseFactory factory = new ApiResponseFactory(() -> "S-1", () -> "ok", () -> "E-1", () -> "fail");
+
+        assertThat(factory.failure("broken").getMessage()).isEqualTo("broken");
+        ApiResponse<Void> response = factory.failure((String) null);
+        assertThat(response.getCode()).isEqualTo("E-1");
+        assertThat(response.getMessage()).isEqualTo("fail");
+        assertThat(factory.failure("").getMessage()).isEqualTo("fail");
+    }
+
+    @Test
+    void suppliersAreResolvedOnceUntilRefreshed() {
+        AtomicInteger invocations = new AtomicInteger();
+        AtomicReference<String> successCode = new AtomicReference<>("S-1");
+        ApiResponseFactory factory = new ApiResponseFactory(() -> {
+            invocations.incrementAndGet();
+            return successCode.get();
+        }, () -> "ok", () -> "E-1", () -> "fail");
+
+        factory.success("first");
+        factory.success("second");
+        successCode.set("S-2");
+
+        assertThat(invocations).hasValue(1);
+        assertThat(factory.success("stale").getCode()).isEqualTo("S-1");
+
+        factory.refresh();
+
+        assertThat(invocations).hasValue(2);
+        assertThat(factory.success("fresh").getCode()).isEqualTo("S-2");
+    }
+
+    @Test
+    void emptySuccessIsShared() {
+        ApiResponseFactory factory = new ApiResponseFactory();
+
+        ApiResponse<Void> response = factory.success();
+
+        assertThat(factory.success()).isSameAs(response);
+        assertThat(factory.<Object>success(null)).isSameAs(response);
+        assertThat(response.getCode()).isEqualTo(DefaultErrorCode.SUCCESS.getCode());
+        assertThat(response.getData()).isNull();
+    }
 }